@@ -0,0 +1,11 @@
+package org.parser.swiftdata.facade;
+
+import java.util.Optional;
+
+public interface CountryService {
+
+    /** Name of the country the stored swift codes with the given ISO2 code belong to, if there are any. */
+    Optional<String> findCountryName(String countryISO2);
+
+    boolean existsByCountryName(String countryName);
+}
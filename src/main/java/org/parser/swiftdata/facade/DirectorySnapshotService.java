@@ -0,0 +1,13 @@
+package org.parser.swiftdata.facade;
+
+public interface DirectorySnapshotService {
+
+    /**
+     * Loads the directory from the snapshot written after the last import if that import was of the current content of
+     * the data file and the database still holds as many swift codes; returns whether it did.
+     */
+    boolean restore(String dataFilePath);
+
+    /** Deletes the snapshot and moves the version of the data on, so no snapshot written before an import is restored. */
+    void invalidate();
+}
@@ -0,0 +1,15 @@
+package org.parser.swiftdata.facade;
+
+import org.parser.swiftdata.facade.dto.SwiftCodeBranchResponse;
+import org.parser.swiftdata.infrastructure.error.Result;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Non-blocking variant of the {@link SwiftCodeService} read operations, reading the database over R2DBC. */
+public interface ReactiveSwiftCodeService {
+
+    Mono<Result<SwiftCodeBranchResponse>> getSwiftCodeById(String swiftCodeId);
+
+    /** Swift codes of a country ordered by code; the rows are read from the database as the subscriber requests them. */
+    Mono<Result<Flux<SwiftCodeBranchResponse>>> getSwiftCodesByCountry(String countryISO2);
+}
@@ -1,18 +1,33 @@
 package org.parser.swiftdata.facade;
 
+import java.util.List;
 import org.parser.swiftdata.facade.dto.ApiResponse;
+import org.parser.swiftdata.facade.dto.BulkMode;
 import org.parser.swiftdata.facade.dto.CountrySwiftCodesResponse;
+import org.parser.swiftdata.facade.dto.SwiftCodeBatchLookupResponse;
 import org.parser.swiftdata.facade.dto.SwiftCodeBranchResponse;
+import org.parser.swiftdata.facade.dto.SwiftCodeBulkResponse;
 import org.parser.swiftdata.facade.dto.SwiftCodeRequest;
+import org.parser.swiftdata.facade.dto.SwiftCodeSearchResponse;
 import org.parser.swiftdata.infrastructure.error.Result;
 
 public interface SwiftCodeService {
 
     Result<SwiftCodeBranchResponse> getSwiftCodeById(String swiftCodeId);
 
+    Result<SwiftCodeBatchLookupResponse> getSwiftCodesByIds(List<String> swiftCodeIds);
+
     Result<CountrySwiftCodesResponse> getSwiftCodesByCountry(String countryISO2);
 
+    Result<CountrySwiftCodesResponse> getSwiftCodesByCountry(String countryISO2, String after, int limit);
+
+    Result<SwiftCodeSearchResponse> searchSwiftCodes(String prefix, String bankName, int limit);
+
     Result<ApiResponse> addSwiftCode(SwiftCodeRequest swiftCodeRequest);
 
     Result<ApiResponse> deleteSwiftCode(String swiftCodeId);
+
+    Result<SwiftCodeBulkResponse> addSwiftCodes(List<SwiftCodeRequest> swiftCodeRequests, BulkMode mode);
+
+    Result<SwiftCodeBulkResponse> deleteSwiftCodes(List<String> swiftCodeIds, BulkMode mode);
 }
@@ -0,0 +1,332 @@
+package org.parser.swiftdata.facade.domain;
+
+import java.util.*;
+
+/**
+ * Immutable inverted index from the words of bank names to the swift codes carrying them. Codes are stored packed (see
+ * {@link CompactSwiftCodeIndex#pack}) in sorted {@code long} arrays, so the words of a query are matched by merging
+ * arrays. A query word of {@value #MIN_FUZZY_LENGTH} or more characters also matches the indexed words one edit away
+ * (insertion, deletion, substitution or transposition): every such word is stored under its single-character deletions
+ * as well, so candidates are found by looking up the deletions of the query word instead of scanning the dictionary.
+ * Codes which cannot be packed are not indexed. Codes added and removed since the index was built are kept in a small
+ * index of their own and a sorted array of tombstones masking the built one, and are merged into a new index once there
+ * are more than {@code mergeThreshold} of them.
+ */
+final class BankNameIndex {
+
+    static final int MIN_FUZZY_LENGTH = 4;
+
+    private static final long[] NO_CODES = new long[0];
+
+    private final Map<String, long[]> codesByWord;
+
+    private final Map<String, String[]> wordsByDeletion;
+
+    private final Map<Long, SwiftCode> pendingAdded;
+
+    private final List<SwiftCode> pendingRemoved;
+
+    private final BankNameIndex added;
+
+    private final long[] tombstones;
+
+    private final int mergeThreshold;
+
+    private BankNameIndex(
+            Map<String, long[]> codesByWord,
+            Map<String, String[]> wordsByDeletion,
+            Map<Long, SwiftCode> pendingAdded,
+            List<SwiftCode> pendingRemoved,
+            int mergeThreshold) {
+        this.codesByWord = codesByWord;
+        this.wordsByDeletion = wordsByDeletion;
+        this.pendingAdded = pendingAdded;
+        this.pendingRemoved = pendingRemoved;
+        this.added = pendingAdded.isEmpty() ? null : of(pendingAdded.values(), Integer.MAX_VALUE);
+        this.tombstones = pendingRemoved.stream()
+                .mapToLong(swiftCode -> CompactSwiftCodeIndex.pack(swiftCode.getSwiftCode()))
+                .sorted()
+                .distinct()
+                .toArray();
+        this.mergeThreshold = mergeThreshold;
+    }
+
+    static BankNameIndex of(Collection<SwiftCode> swiftCodes, int mergeThreshold) {
+        Map<String, List<Long>> codeLists = new HashMap<>();
+        for (SwiftCode swiftCode : swiftCodes) {
+            if (CompactSwiftCodeIndex.isPackable(swiftCode.getSwiftCode(), CompactSwiftCodeIndex.CODE_LENGTH)) {
+                long code = CompactSwiftCodeIndex.pack(swiftCode.getSwiftCode());
+                for (String word : words(swiftCode.getBankName())) {
+                    codeLists.computeIfAbsent(word, w -> new ArrayList<>()).add(code);
+                }
+            }
+        }
+        Map<String, long[]> codesByWord = new HashMap<>(codeLists.size() * 2);
+        Map<String, Set<String>> deletionSets = new HashMap<>();
+        codeLists.forEach((word, codes) -> {
+            codesByWord.put(
+                    word,
+                    codes.stream()
+                            .mapToLong(Long::longValue)
+                            .sorted()
+                            .distinct()
+                            .toArray());
+            for (String deletion : deletions(word)) {
+                deletionSets.computeIfAbsent(deletion, d -> new HashSet<>()).add(word);
+            }
+        });
+        Map<String, String[]> wordsByDeletion = new HashMap<>(deletionSets.size() * 2);
+        deletionSets.forEach((deletion, words) -> wordsByDeletion.put(deletion, words.toArray(String[]::new)));
+        return new BankNameIndex(codesByWord, wordsByDeletion, Map.of(), List.of(), mergeThreshold);
+    }
+
+    /** Number of added codes and removed ones not merged into the index yet. */
+    int pendingChanges() {
+        return pendingAdded.size() + pendingRemoved.size();
+    }
+
+    /** A new index without the {@code removed} codes and with the {@code added} ones. */
+    BankNameIndex apply(Collection<SwiftCode> added, Collection<SwiftCode> removed) {
+        Map<Long, SwiftCode> nextAdded = new HashMap<>(pendingAdded);
+        List<SwiftCode> nextRemoved = new ArrayList<>(pendingRemoved);
+        for (SwiftCode swiftCode : removed) {
+            if (CompactSwiftCodeIndex.isPackable(swiftCode.getSwiftCode(), CompactSwiftCodeIndex.CODE_LENGTH)) {
+                nextAdded.remove(CompactSwiftCodeIndex.pack(swiftCode.getSwiftCode()));
+                nextRemoved.add(swiftCode);
+            }
+        }
+        for (SwiftCode swiftCode : added) {
+            if (CompactSwiftCodeIndex.isPackable(swiftCode.getSwiftCode(), CompactSwiftCodeIndex.CODE_LENGTH)) {
+                nextAdded.put(CompactSwiftCodeIndex.pack(swiftCode.getSwiftCode()), swiftCode);
+            }
+        }
+        if (nextAdded.size() + nextRemoved.size() > mergeThreshold) {
+            return merge(nextAdded.values(), nextRemoved);
+        }
+        return new BankNameIndex(
+                codesByWord,
+                wordsByDeletion,
+                Collections.unmodifiableMap(nextAdded),
+                Collections.unmodifiableList(nextRemoved),
+                mergeThreshold);
+    }
+
+    /** Copies the maps of this index once and applies the pending changes, the removed codes first. */
+    private BankNameIndex merge(Collection<SwiftCode> added, Collection<SwiftCode> removed) {
+        Map<String, long[]> codesByWord = new HashMap<>(this.codesByWord);
+        Map<String, String[]> wordsByDeletion = new HashMap<>(this.wordsByDeletion);
+        for (SwiftCode swiftCode : removed) {
+            long code = CompactSwiftCodeIndex.pack(swiftCode.getSwiftCode());
+            for (String word : words(swiftCode.getBankName())) {
+                long[] codes = codesByWord.getOrDefault(word, NO_CODES);
+                int index = Arrays.binarySearch(codes, code);
+                if (index < 0) {
+                    continue;
+                }
+                if (codes.length == 1) {
+                    codesByWord.remove(word);
+                    for (String deletion : deletions(word)) {
+                        String[] words = Arrays.stream(wordsByDeletion.get(deletion))
+                                .filter(other -> !other.equals(word))
+                                .toArray(String[]::new);
+                        if (words.length == 0) {
+                            wordsByDeletion.remove(deletion);
+                        } else {
+                            wordsByDeletion.put(deletion, words);
+                        }
+                    }
+                } else {
+                    long[] remaining = new long[codes.length - 1];
+                    System.arraycopy(codes, 0, remaining, 0, index);
+                    System.arraycopy(codes, index + 1, remaining, index, codes.length - index - 1);
+                    codesByWord.put(word, remaining);
+                }
+            }
+        }
+        for (SwiftCode swiftCode : added) {
+            long code = CompactSwiftCodeIndex.pack(swiftCode.getSwiftCode());
+            for (String word : words(swiftCode.getBankName())) {
+                long[] codes = codesByWord.get(word);
+                if (codes == null) {
+                    codesByWord.put(word, new long[] {code});
+                    for (String deletion : deletions(word)) {
+                        String[] words = wordsByDeletion.getOrDefault(deletion, new String[0]);
+                        String[] extended = Arrays.copyOf(words, words.length + 1);
+                        extended[words.length] = word;
+                        wordsByDeletion.put(deletion, extended);
+                    }
+                    continue;
+                }
+                int index = Arrays.binarySearch(codes, code);
+                if (index < 0) {
+                    int insertion = -index - 1;
+                    long[] extended = new long[codes.length + 1];
+                    System.arraycopy(codes, 0, extended, 0, insertion);
+                    extended[insertion] = code;
+                    System.arraycopy(codes, insertion, extended, insertion + 1, codes.length - insertion);
+                    codesByWord.put(word, extended);
+                }
+            }
+        }
+        return new BankNameIndex(codesByWord, wordsByDeletion, Map.of(), List.of(), mergeThreshold);
+    }
+
+    /**
+     * Packed codes, in ascending order, of the banks whose name contains every word of the query, each word exactly or
+     * with one typo.
+     */
+    long[] search(String query) {
+        long[] result = null;
+        for (String word : words(query)) {
+            long[] codes = codesMatching(word);
+            result = result == null ? codes : intersect(result, codes);
+            if (result.length == 0) {
+                break;
+            }
+        }
+        return result == null ? NO_CODES : result;
+    }
+
+    private long[] codesMatching(String word) {
+        long[] codes = indexedCodesMatching(word);
+        if (pendingChanges() == 0) {
+            return codes;
+        }
+        long[] kept = tombstones.length == 0 ? codes : difference(codes, tombstones);
+        return added == null ? kept : union(kept, added.indexedCodesMatching(word));
+    }
+
+    private long[] indexedCodesMatching(String word) {
+        Set<String> candidates = new HashSet<>();
+        candidates.add(word);
+        if (word.length() >= MIN_FUZZY_LENGTH) {
+            candidates.addAll(Arrays.asList(wordsByDeletion.getOrDefault(word, new String[0])));
+            for (String deletion : deletions(word)) {
+                candidates.add(deletion);
+                candidates.addAll(Arrays.asList(wordsByDeletion.getOrDefault(deletion, new String[0])));
+            }
+        }
+        long[] result = NO_CODES;
+        for (String candidate : candidates) {
+            long[] codes = codesByWord.get(candidate);
+            if (codes != null && withinOneEdit(word, candidate)) {
+                result = result.length == 0 ? codes : union(result, codes);
+            }
+        }
+        return result;
+    }
+
+    /** Upper-case words of a bank name, split on anything that is not a letter or a digit. */
+    static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordCharacter && start < 0) {
+                start = i;
+            } else if (!wordCharacter && start >= 0) {
+                words.add(text.substring(start, i).toUpperCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    private static List<String> deletions(String word) {
+        if (word.length() < MIN_FUZZY_LENGTH) {
+            return List.of();
+        }
+        List<String> deletions = new ArrayList<>(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            if (i == 0 || word.charAt(i) != word.charAt(i - 1)) {
+                deletions.add(word.substring(0, i) + word.substring(i + 1));
+            }
+        }
+        return deletions;
+    }
+
+    /** Whether {@code a} and {@code b} are at most one insertion, deletion, substitution or transposition apart. */
+    static boolean withinOneEdit(String a, String b) {
+        if (Math.abs(a.length() - b.length()) > 1) {
+            return false;
+        }
+        int prefix = 0;
+        int minLength = Math.min(a.length(), b.length());
+        while (prefix < minLength && a.charAt(prefix) == b.charAt(prefix)) {
+            prefix++;
+        }
+        if (a.length() != b.length()) {
+            String longer = a.length() > b.length() ? a : b;
+            String shorter = longer == a ? b : a;
+            return longer.regionMatches(prefix + 1, shorter, prefix, shorter.length() - prefix);
+        }
+        if (prefix == a.length()) {
+            return true;
+        }
+        if (a.regionMatches(prefix + 1, b, prefix + 1, a.length() - prefix - 1)) {
+            return true;
+        }
+        return prefix + 1 < a.length()
+                && a.charAt(prefix) == b.charAt(prefix + 1)
+                && a.charAt(prefix + 1) == b.charAt(prefix)
+                && a.regionMatches(prefix + 2, b, prefix + 2, a.length() - prefix - 2);
+    }
+
+    private static long[] union(long[] a, long[] b) {
+        long[] result = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < a.length || j < b.length) {
+            long next;
+            if (j == b.length || i < a.length && a[i] < b[j]) {
+                next = a[i++];
+            } else if (i == a.length || b[j] < a[i]) {
+                next = b[j++];
+            } else {
+                next = a[i++];
+                j++;
+            }
+            result[size++] = next;
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /** Codes of {@code a} which are not in {@code b}. */
+    private static long[] difference(long[] a, long[] b) {
+        long[] result = new long[a.length];
+        int j = 0;
+        int size = 0;
+        for (long code : a) {
+            while (j < b.length && b[j] < code) {
+                j++;
+            }
+            if (j == b.length || b[j] != code) {
+                result[size++] = code;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    private static long[] intersect(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+}
@@ -0,0 +1,77 @@
+package org.parser.swiftdata.facade.domain;
+
+import java.util.*;
+import org.parser.swiftdata.facade.dto.SwiftCodeBranchResponse;
+
+/**
+ * Immutable adjacency of headquarter codes to the responses of their branches (the headquarter included), ordered by
+ * swift code. Headquarter responses reuse these lists as they are, so a lookup neither queries the branches nor maps
+ * them again.
+ */
+final class BranchHierarchy {
+
+    private static final Comparator<SwiftCodeBranchResponse> BY_SWIFT_CODE =
+            Comparator.comparing(SwiftCodeBranchResponse::getSwiftCode);
+
+    private final Map<String, List<SwiftCodeBranchResponse>> branchesByHeadquarterCode;
+
+    private BranchHierarchy(Map<String, List<SwiftCodeBranchResponse>> branchesByHeadquarterCode) {
+        this.branchesByHeadquarterCode = branchesByHeadquarterCode;
+    }
+
+    static BranchHierarchy of(Collection<SwiftCode> swiftCodes) {
+        Map<String, List<SwiftCodeBranchResponse>> groups = new HashMap<>();
+        for (SwiftCode swiftCode : swiftCodes) {
+            if (swiftCode.getHeadquarterCode() != null) {
+                groups.computeIfAbsent(swiftCode.getHeadquarterCode(), key -> new ArrayList<>())
+                        .add(new SwiftCodeBranchResponse(swiftCode));
+            }
+        }
+        groups.replaceAll((headquarterCode, group) -> {
+            group.sort(BY_SWIFT_CODE);
+            return List.copyOf(group);
+        });
+        return new BranchHierarchy(Map.copyOf(groups));
+    }
+
+    List<SwiftCodeBranchResponse> branchesOf(String headquarterCode) {
+        return branchesByHeadquarterCode.getOrDefault(headquarterCode, List.of());
+    }
+
+    /** A new hierarchy with the {@code deleted} codes removed and the {@code saved} ones added or replaced. */
+    BranchHierarchy apply(Collection<SwiftCode> saved, Collection<SwiftCode> deleted) {
+        Map<String, Map<String, SwiftCodeBranchResponse>> changedGroups = new HashMap<>();
+        for (SwiftCode swiftCode : deleted) {
+            if (swiftCode.getHeadquarterCode() == null) {
+                continue;
+            }
+            changedGroup(changedGroups, swiftCode.getHeadquarterCode()).remove(swiftCode.getSwiftCode());
+        }
+        for (SwiftCode swiftCode : saved) {
+            if (swiftCode.getHeadquarterCode() == null) {
+                continue;
+            }
+            changedGroup(changedGroups, swiftCode.getHeadquarterCode())
+                    .put(swiftCode.getSwiftCode(), new SwiftCodeBranchResponse(swiftCode));
+        }
+        Map<String, List<SwiftCodeBranchResponse>> branchesByHeadquarterCode =
+                new HashMap<>(this.branchesByHeadquarterCode);
+        changedGroups.forEach((headquarterCode, group) -> {
+            if (group.isEmpty()) {
+                branchesByHeadquarterCode.remove(headquarterCode);
+            } else {
+                branchesByHeadquarterCode.put(headquarterCode, List.copyOf(group.values()));
+            }
+        });
+        return new BranchHierarchy(Map.copyOf(branchesByHeadquarterCode));
+    }
+
+    private Map<String, SwiftCodeBranchResponse> changedGroup(
+            Map<String, Map<String, SwiftCodeBranchResponse>> changedGroups, String headquarterCode) {
+        return changedGroups.computeIfAbsent(headquarterCode, key -> {
+            Map<String, SwiftCodeBranchResponse> group = new TreeMap<>();
+            branchesOf(key).forEach(branch -> group.put(branch.getSwiftCode(), branch));
+            return group;
+        });
+    }
+}
@@ -0,0 +1,487 @@
+package org.parser.swiftdata.facade.domain;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Immutable off-heap index of the directory. A swift code is 11 characters from {@code [0-9A-Z]}, so it is packed base
+ * 36 into a {@code long} (and a country ISO2 code into a {@code short}); packing keeps the lexicographic order, so the
+ * sorted codes are searched with a binary search over primitives. The other columns live in a fixed-width row buffer
+ * pointing into a blob of deduplicated, length-prefixed UTF-8 strings, and the rows of every country are listed in code
+ * order in a separate buffer. All buffers are direct; {@link SwiftCode} objects are only created for the rows a lookup
+ * returns.
+ *
+ * <p>Branches are not indexed separately: the codes of a headquarter share its first 8 characters and therefore form a
+ * contiguous range of the sorted codes.
+ */
+final class CompactSwiftCodeIndex {
+
+    static final int CODE_LENGTH = 11;
+
+    static final int HEADQUARTER_CODE_LENGTH = 8;
+
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private static final int RADIX = DIGITS.length();
+
+    private static final int COUNTRY_SLOTS = RADIX * RADIX;
+
+    private static final int ROW_COUNTRY = 0;
+    private static final int ROW_FLAGS = 2;
+    private static final int ROW_BANK_NAME = 4;
+    private static final int ROW_ADDRESS = 8;
+    private static final int ROW_COUNTRY_NAME = 12;
+    private static final int ROW_SIZE = 16;
+
+    private static final byte HEADQUARTER_FLAG = 1;
+
+    private static final int NULL_STRING = -1;
+
+    private static final Comparator<SwiftCode> BY_SWIFT_CODE = Comparator.comparing(SwiftCode::getSwiftCode);
+
+    private final int size;
+
+    private final LongBuffer codes;
+
+    private final ByteBuffer rows;
+
+    private final ByteBuffer strings;
+
+    private final IntBuffer countryRows;
+
+    private final int[] countryStarts;
+
+    private CompactSwiftCodeIndex(
+            int size,
+            LongBuffer codes,
+            ByteBuffer rows,
+            ByteBuffer strings,
+            IntBuffer countryRows,
+            int[] countryStarts) {
+        this.size = size;
+        this.codes = codes;
+        this.rows = rows;
+        this.strings = strings;
+        this.countryRows = countryRows;
+        this.countryStarts = countryStarts;
+    }
+
+    /** Whether every swift code and country code can be packed, i.e. the swift codes can be held by this index. */
+    static boolean canIndex(Collection<SwiftCode> swiftCodes) {
+        for (SwiftCode swiftCode : swiftCodes) {
+            if (!isPackable(swiftCode.getSwiftCode(), CODE_LENGTH) || !isPackable(swiftCode.getCountryISO2(), 2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static CompactSwiftCodeIndex of(Collection<SwiftCode> swiftCodes) {
+        Builder builder = new Builder(swiftCodes.size());
+        sortedDistinct(swiftCodes).forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * A new index with the {@code deleted} codes removed and the {@code saved} ones added or replaced. It starts from a
+     * copy of this index's string blob, so kept rows point to the same offsets; strings of removed rows stay in the blob
+     * until the directory is loaded again.
+     */
+    CompactSwiftCodeIndex apply(Collection<SwiftCode> saved, Collection<SwiftCode> deleted) {
+        long[] removed = new long[saved.size() + deleted.size()];
+        int removedCount = 0;
+        for (SwiftCode swiftCode : deleted) {
+            if (isPackable(swiftCode.getSwiftCode(), CODE_LENGTH)) {
+                removed[removedCount++] = pack(swiftCode.getSwiftCode());
+            }
+        }
+        for (SwiftCode swiftCode : saved) {
+            removed[removedCount++] = pack(swiftCode.getSwiftCode());
+        }
+        removed = Arrays.copyOf(removed, removedCount);
+        Arrays.sort(removed);
+
+        List<SwiftCode> added = sortedDistinct(saved);
+        Builder builder = new Builder(size + added.size(), strings);
+        int row = 0;
+        int addedIndex = 0;
+        while (row < size || addedIndex < added.size()) {
+            long code = row < size ? codes.get(row) : Long.MAX_VALUE;
+            if (addedIndex < added.size() && pack(added.get(addedIndex).getSwiftCode()) < code) {
+                builder.add(added.get(addedIndex++));
+            } else {
+                if (Arrays.binarySearch(removed, code) < 0) {
+                    builder.copy(this, row);
+                }
+                row++;
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * An index over buffers laid out by {@link #sections()}, e.g. slices of a mapped snapshot file, used as they are;
+     * only the start of every country's rows is recomputed.
+     */
+    static CompactSwiftCodeIndex fromSections(ByteBuffer sections, int size, int stringsLength) {
+        int rowsStart = size * Long.BYTES;
+        int countryRowsStart = rowsStart + size * ROW_SIZE;
+        int stringsStart = countryRowsStart + size * Integer.BYTES;
+        ByteBuffer rows = sections.slice(rowsStart, size * ROW_SIZE);
+        return new CompactSwiftCodeIndex(
+                size,
+                sections.slice(0, rowsStart).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer(),
+                rows,
+                sections.slice(stringsStart, stringsLength),
+                sections.slice(countryRowsStart, size * Integer.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asIntBuffer(),
+                countryStarts(rows, size));
+    }
+
+    /**
+     * The buffers of this index in a byte order independent of the platform: the sorted codes, the fixed-width rows, the
+     * rows of every country and the string blob, in which every distinct bank name, address and country name is stored
+     * once.
+     */
+    List<ByteBuffer> sections() {
+        ByteBuffer codeBytes = ByteBuffer.allocate(size * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        codeBytes.asLongBuffer().put(codes.duplicate().clear());
+        ByteBuffer countryRowBytes = ByteBuffer.allocate(size * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        countryRowBytes.asIntBuffer().put(countryRows.duplicate().clear());
+        return List.of(
+                codeBytes,
+                rows.duplicate().clear(),
+                countryRowBytes,
+                strings.duplicate().clear());
+    }
+
+    /** Length of the {@link #sections()} of an index of {@code size} codes. */
+    static long sectionsLength(int size, int stringsLength) {
+        return (long) size * (Long.BYTES + ROW_SIZE + Integer.BYTES) + stringsLength;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int stringsLength() {
+        return strings.capacity();
+    }
+
+    /** Bytes held outside the heap by this index. */
+    long offHeapBytes() {
+        return (long) codes.capacity() * Long.BYTES
+                + rows.capacity()
+                + strings.capacity()
+                + (long) countryRows.capacity() * Integer.BYTES;
+    }
+
+    Optional<SwiftCode> findById(String swiftCode) {
+        if (!isPackable(swiftCode, CODE_LENGTH)) {
+            return Optional.empty();
+        }
+        int row = search(pack(swiftCode), 0, size);
+        return row < 0 ? Optional.empty() : Optional.of(swiftCodeAt(row));
+    }
+
+    /** Swift codes starting with the given headquarter code, the headquarter included, ordered by code. */
+    List<SwiftCode> findByHeadquarterCode(String headquarterCode) {
+        if (!isPackable(headquarterCode, HEADQUARTER_CODE_LENGTH)) {
+            return List.of();
+        }
+        return findBySwiftCodePrefix(headquarterCode, Integer.MAX_VALUE);
+    }
+
+    /** Up to {@code limit} swift codes starting with {@code prefix}, ordered by code. */
+    List<SwiftCode> findBySwiftCodePrefix(String prefix, int limit) {
+        if (prefix.length() > CODE_LENGTH || !prefix.isEmpty() && !isPackable(prefix, prefix.length())) {
+            return List.of();
+        }
+        String padding = "0".repeat(CODE_LENGTH - prefix.length());
+        long first = pack(prefix + padding);
+        long last = pack(prefix + padding.replace('0', 'Z'));
+        int from = insertionPoint(search(first, 0, size));
+        int to = insertionPoint(search(last + 1, from, size));
+        to = (int) Math.min(to, (long) from + limit);
+        List<SwiftCode> swiftCodes = new ArrayList<>(to - from);
+        for (int row = from; row < to; row++) {
+            swiftCodes.add(swiftCodeAt(row));
+        }
+        return swiftCodes;
+    }
+
+    List<SwiftCode> findByCountryISO2(String countryISO2) {
+        return findCountryPage(countryISO2, null, Integer.MAX_VALUE);
+    }
+
+    /** Up to {@code limit} swift codes of a country ordered by code, starting after {@code after} if given. */
+    List<SwiftCode> findCountryPage(String countryISO2, String after, int limit) {
+        if (!isPackable(countryISO2, 2)) {
+            return List.of();
+        }
+        int slot = packCountry(countryISO2);
+        int from = countryStarts[slot];
+        int to = countryStarts[slot + 1];
+        if (after != null) {
+            from = countryRowsAfter(after, from, to);
+        }
+        to = (int) Math.min(to, (long) from + limit);
+        List<SwiftCode> swiftCodes = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            swiftCodes.add(swiftCodeAt(countryRows.get(i)));
+        }
+        return swiftCodes;
+    }
+
+    List<SwiftCode> toList() {
+        List<SwiftCode> swiftCodes = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            swiftCodes.add(swiftCodeAt(row));
+        }
+        return swiftCodes;
+    }
+
+    static boolean isPackable(String value, int length) {
+        if (value == null || value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!(c >= '0' && c <= '9' || c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static long pack(String value) {
+        long packed = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            packed = packed * RADIX + (c <= '9' ? c - '0' : c - 'A' + 10);
+        }
+        return packed;
+    }
+
+    static String unpack(long packed, int length) {
+        char[] chars = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = DIGITS.charAt((int) (packed % RADIX));
+            packed /= RADIX;
+        }
+        return new String(chars);
+    }
+
+    private static int packCountry(String countryISO2) {
+        return (int) pack(countryISO2);
+    }
+
+    /** Binary search over {@code codes[from, to)}; a negative result encodes the insertion point. */
+    private int search(long code, int from, int to) {
+        int low = from;
+        int high = to - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleCode = codes.get(middle);
+            if (middleCode < code) {
+                low = middle + 1;
+            } else if (middleCode > code) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int insertionPoint(int searchResult) {
+        return searchResult < 0 ? -searchResult - 1 : searchResult;
+    }
+
+    /** First position in {@code countryRows[from, to)} whose code is greater than {@code after}. */
+    private int countryRowsAfter(String after, int from, int to) {
+        boolean packable = isPackable(after, CODE_LENGTH);
+        long packedAfter = packable ? pack(after) : 0;
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            long code = codes.get(countryRows.get(middle));
+            boolean isAfter =
+                    packable ? code > packedAfter : unpack(code, CODE_LENGTH).compareTo(after) > 0;
+            if (isAfter) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private SwiftCode swiftCodeAt(int row) {
+        String swiftCode = unpack(codes.get(row), CODE_LENGTH);
+        int offset = row * ROW_SIZE;
+        return new SwiftCode(
+                swiftCode,
+                stringAt(rows.getInt(offset + ROW_BANK_NAME)),
+                stringAt(rows.getInt(offset + ROW_ADDRESS)),
+                unpack(rows.getShort(offset + ROW_COUNTRY), 2),
+                stringAt(rows.getInt(offset + ROW_COUNTRY_NAME)),
+                (rows.get(offset + ROW_FLAGS) & HEADQUARTER_FLAG) != 0,
+                swiftCode.substring(0, HEADQUARTER_CODE_LENGTH));
+    }
+
+    private String stringAt(int offset) {
+        if (offset == NULL_STRING) {
+            return null;
+        }
+        int length = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = strings.get(offset++);
+            length |= (current & 0x7F) << shift;
+            shift += 7;
+        } while (current < 0);
+        byte[] bytes = new byte[length];
+        strings.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Where the rows of every country start in {@code countryRows}, indexed by packed country code. */
+    private static int[] countryStarts(ByteBuffer rows, int size) {
+        int[] countryStarts = new int[COUNTRY_SLOTS + 1];
+        for (int row = 0; row < size; row++) {
+            countryStarts[rows.getShort(row * ROW_SIZE + ROW_COUNTRY) + 1]++;
+        }
+        for (int slot = 0; slot < COUNTRY_SLOTS; slot++) {
+            countryStarts[slot + 1] += countryStarts[slot];
+        }
+        return countryStarts;
+    }
+
+    private static List<SwiftCode> sortedDistinct(Collection<SwiftCode> swiftCodes) {
+        Map<String, SwiftCode> bySwiftCode = new HashMap<>(swiftCodes.size() * 2);
+        swiftCodes.forEach(swiftCode -> bySwiftCode.put(swiftCode.getSwiftCode(), swiftCode));
+        List<SwiftCode> sorted = new ArrayList<>(bySwiftCode.values());
+        sorted.sort(BY_SWIFT_CODE);
+        return sorted;
+    }
+
+    /** Appends rows in code order and lays out the buffers once all rows are known. */
+    private static final class Builder {
+
+        private long[] codes;
+
+        private ByteBuffer rows;
+
+        private final StringBlob strings;
+
+        private int size;
+
+        Builder(int capacity) {
+            this(capacity, ByteBuffer.allocate(0));
+        }
+
+        Builder(int capacity, ByteBuffer initialStrings) {
+            this.codes = new long[Math.max(capacity, 1)];
+            this.rows = ByteBuffer.allocate(this.codes.length * ROW_SIZE);
+            this.strings = new StringBlob(initialStrings);
+        }
+
+        void add(SwiftCode swiftCode) {
+            int offset = nextRow(pack(swiftCode.getSwiftCode()));
+            rows.putShort(offset + ROW_COUNTRY, (short) packCountry(swiftCode.getCountryISO2()));
+            rows.put(offset + ROW_FLAGS, swiftCode.isHeadquarter() ? HEADQUARTER_FLAG : 0);
+            rows.putInt(offset + ROW_BANK_NAME, strings.intern(swiftCode.getBankName()));
+            rows.putInt(offset + ROW_ADDRESS, strings.intern(swiftCode.getAddress()));
+            rows.putInt(offset + ROW_COUNTRY_NAME, strings.intern(swiftCode.getCountryName()));
+        }
+
+        /** Copies a row of the index whose string blob this builder started from. */
+        void copy(CompactSwiftCodeIndex source, int sourceRow) {
+            int offset = nextRow(source.codes.get(sourceRow));
+            rows.put(offset, source.rows, sourceRow * ROW_SIZE, ROW_SIZE);
+        }
+
+        private int nextRow(long code) {
+            if (size == codes.length) {
+                codes = Arrays.copyOf(codes, size * 2);
+                rows = ByteBuffer.allocate(codes.length * ROW_SIZE)
+                        .put(rows.array(), 0, size * ROW_SIZE)
+                        .clear();
+            }
+            codes[size] = code;
+            return size++ * ROW_SIZE;
+        }
+
+        CompactSwiftCodeIndex build() {
+            LongBuffer codeBuffer = ByteBuffer.allocateDirect(size * Long.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asLongBuffer()
+                    .put(codes, 0, size)
+                    .clear();
+            ByteBuffer rowBuffer = ByteBuffer.allocateDirect(size * ROW_SIZE)
+                    .put(rows.array(), 0, size * ROW_SIZE)
+                    .clear();
+
+            int[] countryStarts = countryStarts(rowBuffer, size);
+            int[] next = Arrays.copyOf(countryStarts, COUNTRY_SLOTS);
+            IntBuffer countryRows = ByteBuffer.allocateDirect(size * Integer.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asIntBuffer();
+            for (int row = 0; row < size; row++) {
+                countryRows.put(next[rowBuffer.getShort(row * ROW_SIZE + ROW_COUNTRY)]++, row);
+            }
+
+            return new CompactSwiftCodeIndex(
+                    size, codeBuffer, rowBuffer, strings.toDirectBuffer(), countryRows, countryStarts);
+        }
+    }
+
+    /** Deduplicated strings, each stored as a varint byte length followed by its UTF-8 bytes. */
+    private static final class StringBlob {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        private final Map<String, Integer> offsets = new HashMap<>();
+
+        StringBlob(ByteBuffer initial) {
+            byte[] initialBytes = new byte[initial.capacity()];
+            initial.get(0, initialBytes);
+            bytes.writeBytes(initialBytes);
+        }
+
+        int intern(String value) {
+            if (value == null) {
+                return NULL_STRING;
+            }
+            return offsets.computeIfAbsent(value, this::append);
+        }
+
+        private int append(String value) {
+            int offset = bytes.size();
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            int length = encoded.length;
+            while (length >= 0x80) {
+                bytes.write((length & 0x7F) | 0x80);
+                length >>>= 7;
+            }
+            bytes.write(length);
+            bytes.writeBytes(encoded);
+            return offset;
+        }
+
+        ByteBuffer toDirectBuffer() {
+            return ByteBuffer.allocateDirect(bytes.size())
+                    .put(bytes.toByteArray())
+                    .clear();
+        }
+    }
+}
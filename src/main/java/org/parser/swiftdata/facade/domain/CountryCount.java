@@ -0,0 +1,4 @@
+package org.parser.swiftdata.facade.domain;
+
+/** Number of swift codes stored under a country ISO2 code and name. */
+record CountryCount(String countryISO2, String countryName, long swiftCodes) {}
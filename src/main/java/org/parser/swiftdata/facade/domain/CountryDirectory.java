@@ -0,0 +1,61 @@
+package org.parser.swiftdata.facade.domain;
+
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.parser.swiftdata.facade.CountryService;
+import org.parser.swiftdata.infrastructure.parser.SwiftCodeDataLoadedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Countries of the stored swift codes, checked by the validator of new swift codes. Whenever data is loaded, from an
+ * import or a snapshot, a {@link CountryRegistry} is built from the number of swift codes per country counted by the
+ * database, and it is updated from the same change events as the {@link SwiftCodeDirectory}. Until then the checks are
+ * delegated to the repository.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+class CountryDirectory implements CountryService {
+
+    private final SwiftCodeRepository repository;
+
+    private volatile CountryRegistry registry;
+
+    @Override
+    public Optional<String> findCountryName(String countryISO2) {
+        CountryRegistry current = registry;
+        if (current == null) {
+            return repository.findByCountryISO2OrderBySwiftCode(countryISO2, Limit.of(1)).stream()
+                    .findFirst()
+                    .map(SwiftCode::getCountryName);
+        }
+        return current.findCountryName(countryISO2);
+    }
+
+    @Override
+    public boolean existsByCountryName(String countryName) {
+        CountryRegistry current = registry;
+        if (current == null) {
+            return repository.existsByCountryName(countryName);
+        }
+        return current.containsCountryName(countryName);
+    }
+
+    @EventListener
+    public synchronized void onDataLoaded(SwiftCodeDataLoadedEvent event) {
+        registry = CountryRegistry.ofCounts(repository.countByCountry());
+        log.info("Country directory loaded with {} countries", registry.size());
+    }
+
+    /** Saved swift codes are always new ones, so only the deleted ones are taken out of the registry. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSwiftCodesChanged(SwiftCodesChangedEvent event) {
+        if (registry != null) {
+            registry = registry.apply(event.saved(), event.deleted());
+        }
+    }
+}
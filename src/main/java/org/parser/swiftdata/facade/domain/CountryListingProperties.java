@@ -0,0 +1,18 @@
+package org.parser.swiftdata.facade.domain;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param unpaginatedEnabled whether a country listing without {@code limit} and {@code after} returns every swift
+ *     code of the country at once; otherwise such a request gets the first page
+ * @param maxPageSize upper bound (and default) of {@code limit}
+ */
+@ConfigurationProperties(prefix = "swift-codes.country-listing")
+record CountryListingProperties(
+        @DefaultValue("true") boolean unpaginatedEnabled, @DefaultValue("1000") int maxPageSize) {
+
+    int pageSize(Integer limit) {
+        return limit == null ? maxPageSize : Math.clamp(limit, 1, maxPageSize);
+    }
+}
@@ -0,0 +1,82 @@
+package org.parser.swiftdata.facade.domain;
+
+import java.util.*;
+
+/**
+ * Immutable mapping between the ISO2 codes and the names of the countries of the stored swift codes, so a new swift
+ * code is checked against the existing countries with two hash lookups. Each country and each name keeps the number of
+ * swift codes it has and is removed together with its last one.
+ */
+final class CountryRegistry {
+
+    private record Country(String name, int swiftCodes) {}
+
+    private final Map<String, Country> countriesByISO2;
+
+    private final Map<String, Integer> swiftCodesByCountryName;
+
+    private CountryRegistry(Map<String, Country> countriesByISO2, Map<String, Integer> swiftCodesByCountryName) {
+        this.countriesByISO2 = countriesByISO2;
+        this.swiftCodesByCountryName = swiftCodesByCountryName;
+    }
+
+    static CountryRegistry of(Collection<SwiftCode> swiftCodes) {
+        return new CountryRegistry(Map.of(), Map.of()).apply(swiftCodes, List.of());
+    }
+
+    /**
+     * A registry of the counted swift codes, ordered by their lowest swift code; an ISO2 code counted under more than
+     * one name is registered with the first of them.
+     */
+    static CountryRegistry ofCounts(Collection<CountryCount> counts) {
+        Map<String, Country> countriesByISO2 = new HashMap<>();
+        Map<String, Integer> swiftCodesByCountryName = new HashMap<>();
+        for (CountryCount count : counts) {
+            int swiftCodes = Math.toIntExact(count.swiftCodes());
+            countriesByISO2.merge(
+                    count.countryISO2(),
+                    new Country(count.countryName(), swiftCodes),
+                    (country, added) -> new Country(country.name(), country.swiftCodes() + added.swiftCodes()));
+            swiftCodesByCountryName.merge(count.countryName(), swiftCodes, Integer::sum);
+        }
+        return new CountryRegistry(Map.copyOf(countriesByISO2), Map.copyOf(swiftCodesByCountryName));
+    }
+
+    int size() {
+        return countriesByISO2.size();
+    }
+
+    /** Name of the country of the first swift code registered under the given ISO2 code. */
+    Optional<String> findCountryName(String countryISO2) {
+        return Optional.ofNullable(countriesByISO2.get(countryISO2)).map(Country::name);
+    }
+
+    boolean containsCountryName(String countryName) {
+        return swiftCodesByCountryName.containsKey(countryName);
+    }
+
+    /**
+     * A new registry without the {@code removed} swift codes, deleted or replaced ones, and with the {@code saved}
+     * ones.
+     */
+    CountryRegistry apply(Collection<SwiftCode> saved, Collection<SwiftCode> removed) {
+        Map<String, Country> countriesByISO2 = new HashMap<>(this.countriesByISO2);
+        Map<String, Integer> swiftCodesByCountryName = new HashMap<>(this.swiftCodesByCountryName);
+        for (SwiftCode swiftCode : removed) {
+            countriesByISO2.computeIfPresent(
+                    swiftCode.getCountryISO2(),
+                    (countryISO2, country) ->
+                            country.swiftCodes() == 1 ? null : new Country(country.name(), country.swiftCodes() - 1));
+            swiftCodesByCountryName.computeIfPresent(
+                    swiftCode.getCountryName(), (countryName, count) -> count == 1 ? null : count - 1);
+        }
+        for (SwiftCode swiftCode : saved) {
+            countriesByISO2.merge(
+                    swiftCode.getCountryISO2(),
+                    new Country(swiftCode.getCountryName(), 1),
+                    (country, added) -> new Country(country.name(), country.swiftCodes() + 1));
+            swiftCodesByCountryName.merge(swiftCode.getCountryName(), 1, Integer::sum);
+        }
+        return new CountryRegistry(Map.copyOf(countriesByISO2), Map.copyOf(swiftCodesByCountryName));
+    }
+}
@@ -0,0 +1,160 @@
+package org.parser.swiftdata.facade.domain;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binary snapshot of a {@link CompactSwiftCodeIndex} at {@code swift-codes.directory.snapshot-path}, so a restart maps
+ * the index from a file instead of importing the data file and reading it back from the database. A fixed header
+ * carries the format version, the length and modification time of the data file the index was loaded from, the row
+ * count, the length of the string blob, a CRC32C of the sections written by {@link CompactSwiftCodeIndex#sections()}
+ * and the {@link DirectoryVersions database version} the index was read at. The file is replaced atomically, so a
+ * running application keeps reading the mapping of the file it restored.
+ */
+@Component
+@Slf4j
+class DirectorySnapshotStore {
+
+    static final int MAGIC = 0x53574443;
+
+    static final int FORMAT_VERSION = 2;
+
+    /** Keeps the sections, which start with the codes, 8-byte aligned. */
+    static final int HEADER_SIZE = 48;
+
+    private static final int DATABASE_VERSION_OFFSET = 40;
+
+    private final Path path;
+
+    DirectorySnapshotStore(SwiftCodeDirectoryProperties properties) {
+        this.path = properties.snapshotPath().isBlank() ? null : Path.of(properties.snapshotPath());
+    }
+
+    /**
+     * The index held by the snapshot if it was written from the current content of the data file and holds
+     * {@code expectedSize} swift codes at {@code expectedVersion} of the database; a stale or damaged snapshot is deleted.
+     */
+    Optional<CompactSwiftCodeIndex> read(String dataFilePath, long expectedSize, long expectedVersion) {
+        if (path == null || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            Optional<String> problem = validate(mapped, new File(dataFilePath), expectedSize, expectedVersion);
+            if (problem.isPresent()) {
+                log.info("Not restoring directory snapshot {}: {}", path, problem.get());
+                delete();
+                return Optional.empty();
+            }
+            int size = mapped.getInt(24);
+            int stringsLength = mapped.getInt(28);
+            return Optional.of(CompactSwiftCodeIndex.fromSections(
+                    mapped.slice(HEADER_SIZE, mapped.capacity() - HEADER_SIZE), size, stringsLength));
+        } catch (IOException e) {
+            log.warn("Error reading directory snapshot {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the index as the snapshot of the given data file at {@code databaseVersion}, replacing the previous
+     * snapshot.
+     */
+    void write(CompactSwiftCodeIndex index, String dataFilePath, long databaseVersion) {
+        File dataFile = new File(dataFilePath);
+        if (path == null || !dataFile.isFile()) {
+            return;
+        }
+        List<ByteBuffer> sections = index.sections();
+        CRC32C checksum = new CRC32C();
+        sections.forEach(section -> checksum.update(section.duplicate()));
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(dataFile.length())
+                .putLong(dataFile.lastModified())
+                .putInt(index.size())
+                .putInt(index.stringsLength())
+                .putInt((int) checksum.getValue())
+                .putLong(DATABASE_VERSION_OFFSET, databaseVersion)
+                .clear();
+
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                writeFully(channel, header);
+                for (ByteBuffer section : sections) {
+                    writeFully(channel, section.duplicate());
+                }
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Wrote directory snapshot {} with {} records", path, index.size());
+        } catch (IOException e) {
+            log.warn("Error writing directory snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    /** Deletes the snapshot once it no longer matches the database. */
+    void delete() {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Error deleting directory snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static Optional<String> validate(
+            ByteBuffer snapshot, File dataFile, long expectedSize, long expectedVersion) {
+        if (snapshot.capacity() < HEADER_SIZE || snapshot.getInt(0) != MAGIC) {
+            return Optional.of("not a directory snapshot");
+        }
+        if (snapshot.getInt(4) != FORMAT_VERSION) {
+            return Optional.of("format version " + snapshot.getInt(4) + " is not " + FORMAT_VERSION);
+        }
+        if (!dataFile.isFile()
+                || snapshot.getLong(8) != dataFile.length()
+                || snapshot.getLong(16) != dataFile.lastModified()) {
+            return Optional.of("data file has changed");
+        }
+        long version = snapshot.getLong(DATABASE_VERSION_OFFSET);
+        if (version != expectedVersion) {
+            return Optional.of("written at database version " + version + ", the database is at " + expectedVersion);
+        }
+        int size = snapshot.getInt(24);
+        if (size != expectedSize) {
+            return Optional.of("holds " + size + " records, the database " + expectedSize);
+        }
+        if (snapshot.capacity() - HEADER_SIZE != CompactSwiftCodeIndex.sectionsLength(size, snapshot.getInt(28))) {
+            return Optional.of("file is truncated");
+        }
+        CRC32C checksum = new CRC32C();
+        checksum.update(snapshot.slice(HEADER_SIZE, snapshot.capacity() - HEADER_SIZE));
+        if ((int) checksum.getValue() != snapshot.getInt(32)) {
+            return Optional.of("checksum does not match");
+        }
+        return Optional.empty();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
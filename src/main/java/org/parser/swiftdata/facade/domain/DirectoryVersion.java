@@ -0,0 +1,19 @@
+package org.parser.swiftdata.facade.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/** The single row counting the changes made to {@code swift_codes}; see {@link DirectoryVersions}. */
+@Entity
+@Table(name = "directory_version")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+class DirectoryVersion {
+
+    @Id
+    private int id;
+
+    @Column(name = "change_count", nullable = false)
+    private long changeCount;
+}
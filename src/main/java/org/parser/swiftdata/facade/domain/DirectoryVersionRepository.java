@@ -0,0 +1,14 @@
+package org.parser.swiftdata.facade.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+interface DirectoryVersionRepository extends JpaRepository<DirectoryVersion, Integer> {
+
+    @Modifying
+    @Query("UPDATE DirectoryVersion version SET version.changeCount = version.changeCount + 1")
+    int incrementChangeCount();
+}
@@ -0,0 +1,38 @@
+package org.parser.swiftdata.facade.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Version of the data in {@code swift_codes}, kept in the database next to it: a counter bumped in the transaction of
+ * every change made through the API and before every import. A {@link DirectorySnapshotStore snapshot} records the
+ * version it was written at, so it is known to be stale once the database has moved on, also when the change was made
+ * by another instance or the application stopped before it could delete the snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+class DirectoryVersions {
+
+    static final int ID = 1;
+
+    private final DirectoryVersionRepository repository;
+
+    long current() {
+        return repository.findById(ID).map(DirectoryVersion::getChangeCount).orElse(0L);
+    }
+
+    @Transactional
+    public void bump() {
+        if (repository.incrementChangeCount() == 0) {
+            repository.save(new DirectoryVersion(ID, 1));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onSwiftCodesChanged(SwiftCodesChangedEvent event) {
+        bump();
+    }
+}
@@ -0,0 +1,148 @@
+package org.parser.swiftdata.facade.domain;
+
+import java.util.*;
+
+/**
+ * A {@link CompactSwiftCodeIndex} together with the swift codes saved and deleted since it was built, kept on the heap
+ * so that a write copies only these changes instead of rebuilding the off-heap buffers. Saved codes and the tombstones
+ * of deleted ones shadow the rows of the index; once there are more than {@code mergeThreshold} of them they are merged
+ * into a new index.
+ */
+final class OverlaidSwiftCodeIndex {
+
+    private static final Comparator<SwiftCode> BY_SWIFT_CODE = Comparator.comparing(SwiftCode::getSwiftCode);
+
+    private final CompactSwiftCodeIndex index;
+
+    private final NavigableMap<String, SwiftCode> saved;
+
+    private final Set<String> deleted;
+
+    private final int mergeThreshold;
+
+    private OverlaidSwiftCodeIndex(
+            CompactSwiftCodeIndex index,
+            NavigableMap<String, SwiftCode> saved,
+            Set<String> deleted,
+            int mergeThreshold) {
+        this.index = index;
+        this.saved = saved;
+        this.deleted = deleted;
+        this.mergeThreshold = mergeThreshold;
+    }
+
+    static OverlaidSwiftCodeIndex of(CompactSwiftCodeIndex index, int mergeThreshold) {
+        return new OverlaidSwiftCodeIndex(index, Collections.emptyNavigableMap(), Set.of(), mergeThreshold);
+    }
+
+    /** The index without the changes made since it was built. */
+    CompactSwiftCodeIndex index() {
+        return index;
+    }
+
+    /** Number of saved codes and tombstones not merged into the index yet. */
+    int pendingChanges() {
+        return saved.size() + deleted.size();
+    }
+
+    /** The {@code deleted} codes removed and the {@code saved} ones added or replaced. */
+    OverlaidSwiftCodeIndex apply(Collection<SwiftCode> saved, Collection<SwiftCode> deleted) {
+        NavigableMap<String, SwiftCode> nextSaved = new TreeMap<>(this.saved);
+        Set<String> nextDeleted = new HashSet<>(this.deleted);
+        for (SwiftCode swiftCode : deleted) {
+            nextSaved.remove(swiftCode.getSwiftCode());
+            nextDeleted.add(swiftCode.getSwiftCode());
+        }
+        for (SwiftCode swiftCode : saved) {
+            nextDeleted.remove(swiftCode.getSwiftCode());
+            nextSaved.put(swiftCode.getSwiftCode(), swiftCode);
+        }
+        if (nextSaved.size() + nextDeleted.size() > mergeThreshold) {
+            List<SwiftCode> tombstones = nextDeleted.stream()
+                    .map(swiftCode -> SwiftCode.builder().swiftCode(swiftCode).build())
+                    .toList();
+            return of(index.apply(nextSaved.values(), tombstones), mergeThreshold);
+        }
+        return new OverlaidSwiftCodeIndex(
+                index,
+                Collections.unmodifiableNavigableMap(nextSaved),
+                Collections.unmodifiableSet(nextDeleted),
+                mergeThreshold);
+    }
+
+    Optional<SwiftCode> findById(String swiftCode) {
+        SwiftCode changed = saved.get(swiftCode);
+        if (changed != null) {
+            return Optional.of(changed);
+        }
+        return deleted.contains(swiftCode) ? Optional.empty() : index.findById(swiftCode);
+    }
+
+    List<SwiftCode> findByHeadquarterCode(String headquarterCode) {
+        if (!CompactSwiftCodeIndex.isPackable(headquarterCode, CompactSwiftCodeIndex.HEADQUARTER_CODE_LENGTH)) {
+            return List.of();
+        }
+        return findBySwiftCodePrefix(headquarterCode, Integer.MAX_VALUE);
+    }
+
+    List<SwiftCode> findBySwiftCodePrefix(String prefix, int limit) {
+        List<SwiftCode> fromIndex = index.findBySwiftCodePrefix(prefix, withPending(limit));
+        if (pendingChanges() == 0) {
+            return fromIndex;
+        }
+        List<SwiftCode> fromSaved = saved.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values().stream()
+                .toList();
+        return merge(fromIndex, fromSaved, limit);
+    }
+
+    List<SwiftCode> findByCountryISO2(String countryISO2) {
+        return findCountryPage(countryISO2, null, Integer.MAX_VALUE);
+    }
+
+    List<SwiftCode> findCountryPage(String countryISO2, String after, int limit) {
+        List<SwiftCode> fromIndex = index.findCountryPage(countryISO2, after, withPending(limit));
+        if (pendingChanges() == 0) {
+            return fromIndex;
+        }
+        List<SwiftCode> fromSaved = (after == null ? saved : saved.tailMap(after, false))
+                .values().stream()
+                        .filter(swiftCode -> countryISO2.equals(swiftCode.getCountryISO2()))
+                        .toList();
+        return merge(fromIndex, fromSaved, limit);
+    }
+
+    List<SwiftCode> toList() {
+        return merge(index.toList(), List.copyOf(saved.values()), Integer.MAX_VALUE);
+    }
+
+    long offHeapBytes() {
+        return index.offHeapBytes();
+    }
+
+    /** Rows of the index which may be shadowed are fetched on top of {@code limit}. */
+    private int withPending(int limit) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) limit + pendingChanges());
+    }
+
+    /** Both lists ordered by code; rows of the index shadowed by a change are left out. */
+    private List<SwiftCode> merge(List<SwiftCode> fromIndex, List<SwiftCode> fromSaved, int limit) {
+        List<SwiftCode> merged = new ArrayList<>(Math.min(limit, fromIndex.size() + fromSaved.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < fromIndex.size() || j < fromSaved.size())) {
+            if (i < fromIndex.size() && isShadowed(fromIndex.get(i))) {
+                i++;
+            } else if (j == fromSaved.size()
+                    || i < fromIndex.size() && BY_SWIFT_CODE.compare(fromIndex.get(i), fromSaved.get(j)) < 0) {
+                merged.add(fromIndex.get(i++));
+            } else {
+                merged.add(fromSaved.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    private boolean isShadowed(SwiftCode swiftCode) {
+        return saved.containsKey(swiftCode.getSwiftCode()) || deleted.contains(swiftCode.getSwiftCode());
+    }
+}
@@ -0,0 +1,76 @@
+package org.parser.swiftdata.facade.domain;
+
+import static org.parser.swiftdata.infrastructure.error.HandleResult.handleResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.parser.swiftdata.facade.ReactiveSwiftCodeService;
+import org.parser.swiftdata.facade.dto.SwiftCodeBranchResponse;
+import org.parser.swiftdata.infrastructure.error.JsonBody;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+/**
+ * Handler functions of the reactive read endpoints. The servlet thread is released while the database is queried; a
+ * country listing is written as NDJSON, one flushed line per row as it is read.
+ */
+@Component
+class ReactiveSwiftCodeHandler {
+
+    private final ReactiveSwiftCodeService reactiveSwiftCodeService;
+
+    private final ObjectWriter rowWriter;
+
+    ReactiveSwiftCodeHandler(ReactiveSwiftCodeService reactiveSwiftCodeService, ObjectMapper objectMapper) {
+        this.reactiveSwiftCodeService = reactiveSwiftCodeService;
+        this.rowWriter = objectMapper.writerFor(SwiftCodeBranchResponse.class);
+    }
+
+    public ServerResponse getSwiftCodeById(ServerRequest request) {
+        return ServerResponse.async(reactiveSwiftCodeService
+                .getSwiftCodeById(request.pathVariable("swift-code"))
+                .map(result -> toServerResponse(handleResult(result, HttpStatus.OK, uri(request), pretty(request)))));
+    }
+
+    public ServerResponse getSwiftCodesByCountry(ServerRequest request) {
+        return ServerResponse.async(reactiveSwiftCodeService
+                .getSwiftCodesByCountry(request.pathVariable("countryISO2code"))
+                .map(result -> result.isSuccess()
+                        ? ServerResponse.ok()
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .body(result.getData().map(this::toLine))
+                        : toServerResponse(handleResult(result, HttpStatus.OK, uri(request), pretty(request)))));
+    }
+
+    private byte[] toLine(SwiftCodeBranchResponse swiftCode) {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+        try {
+            rowWriter.writeValue(line, swiftCode);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        line.write('\n');
+        return line.toByteArray();
+    }
+
+    private static ServerResponse toServerResponse(ResponseEntity<JsonBody> response) {
+        return ServerResponse.status(response.getStatusCode())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.getBody());
+    }
+
+    private static String uri(ServerRequest request) {
+        return request.servletRequest().getRequestURI();
+    }
+
+    private static boolean pretty(ServerRequest request) {
+        return request.param("pretty").map(Boolean::parseBoolean).orElse(false);
+    }
+}
@@ -0,0 +1,71 @@
+package org.parser.swiftdata.facade.domain;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Read-only access to {@code swift_codes} over R2DBC, used by the reactive read path. */
+@Repository
+@RequiredArgsConstructor
+class ReactiveSwiftCodeRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String SELECT_SWIFT_CODES =
+            """
+            SELECT swift_code, bank_name, address, country_iso2, country_name, is_headquarter, headquarter_code
+            FROM swift_codes
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<SwiftCode> findById(String swiftCode) {
+        return databaseClient
+                .sql(SELECT_SWIFT_CODES + "WHERE swift_code = :swiftCode")
+                .bind("swiftCode", swiftCode)
+                .map(ReactiveSwiftCodeRepository::toSwiftCode)
+                .one();
+    }
+
+    public Flux<SwiftCode> findByHeadquarterCode(String headquarterCode) {
+        return databaseClient
+                .sql(SELECT_SWIFT_CODES + "WHERE headquarter_code = :headquarterCode ORDER BY swift_code")
+                .bind("headquarterCode", headquarterCode)
+                .map(ReactiveSwiftCodeRepository::toSwiftCode)
+                .all();
+    }
+
+    public Mono<Boolean> existsByCountryISO2(String countryISO2) {
+        return databaseClient
+                .sql("SELECT 1 FROM swift_codes WHERE country_iso2 = :countryISO2 LIMIT 1")
+                .bind("countryISO2", countryISO2)
+                .map(row -> true)
+                .first()
+                .defaultIfEmpty(false);
+    }
+
+    /** Reads the rows in batches of {@value #FETCH_SIZE} so a large country is never buffered as a whole. */
+    public Flux<SwiftCode> findByCountryISO2OrderBySwiftCode(String countryISO2) {
+        return databaseClient
+                .sql(SELECT_SWIFT_CODES + "WHERE country_iso2 = :countryISO2 ORDER BY swift_code")
+                .bind("countryISO2", countryISO2)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactiveSwiftCodeRepository::toSwiftCode)
+                .all();
+    }
+
+    private static SwiftCode toSwiftCode(Readable row) {
+        return SwiftCode.builder()
+                .swiftCode(row.get("swift_code", String.class))
+                .bankName(row.get("bank_name", String.class))
+                .address(row.get("address", String.class))
+                .countryISO2(row.get("country_iso2", String.class))
+                .countryName(row.get("country_name", String.class))
+                .isHeadquarter(Boolean.TRUE.equals(row.get("is_headquarter", Boolean.class)))
+                .headquarterCode(row.get("headquarter_code", String.class))
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package org.parser.swiftdata.facade.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.parser.swiftdata.facade.ReactiveSwiftCodeService;
+import org.parser.swiftdata.facade.dto.SwiftCodeBranchResponse;
+import org.parser.swiftdata.facade.dto.SwiftCodeHeadquarterResponse;
+import org.parser.swiftdata.infrastructure.error.Result;
+import org.parser.swiftdata.infrastructure.error.SwiftCodeError;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+class ReactiveSwiftCodeServiceImpl implements ReactiveSwiftCodeService {
+
+    private final ReactiveSwiftCodeRepository repository;
+
+    @Override
+    public Mono<Result<SwiftCodeBranchResponse>> getSwiftCodeById(String swiftCodeId) {
+        return repository
+                .findById(swiftCodeId)
+                .flatMap(this::toResponse)
+                .map(Result::success)
+                .defaultIfEmpty(Result.failure(new SwiftCodeError.SwiftCodeNotFoundById(swiftCodeId)));
+    }
+
+    @Override
+    public Mono<Result<Flux<SwiftCodeBranchResponse>>> getSwiftCodesByCountry(String countryISO2) {
+        return repository
+                .existsByCountryISO2(countryISO2)
+                .map(exists -> exists
+                        ? Result.success(repository
+                                .findByCountryISO2OrderBySwiftCode(countryISO2)
+                                .map(SwiftCodeBranchResponse::new))
+                        : Result.failure(new SwiftCodeError.CountryNotFoundByCountryISO2(countryISO2)));
+    }
+
+    private Mono<SwiftCodeBranchResponse> toResponse(SwiftCode swiftCode) {
+        if (swiftCode.isHeadquarter()) {
+            return repository
+                    .findByHeadquarterCode(swiftCode.getHeadquarterCode())
+                    .collectList()
+                    .map(branches -> new SwiftCodeHeadquarterResponse(swiftCode, branches));
+        }
+        return Mono.just(new SwiftCodeBranchResponse(swiftCode));
+    }
+}
@@ -7,7 +7,7 @@ import lombok.*;
 @Table(
         name = "swift_codes",
         indexes = {
-            @Index(name = "idx_country_iso2", columnList = "country_iso2"),
+            @Index(name = "idx_country_iso2_swift_code", columnList = "country_iso2, swift_code"),
             @Index(name = "idx_headquarter_code", columnList = "headquarter_code")
         })
 @Getter
@@ -17,6 +17,10 @@ import lombok.*;
 @NoArgsConstructor
 public class SwiftCode {
 
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
     @Id
     @Column(name = "swift_code", length = 11)
     private String swiftCode;
@@ -38,4 +42,50 @@ public class SwiftCode {
 
     @Column(name = "headquarter_code", length = 8)
     private String headquarterCode;
+
+    /** {@link #computeContentHash()} of the row as last written, or {@code null} for rows stored before it was kept. */
+    @Column(name = "content_hash")
+    private Long contentHash;
+
+    /**
+     * Position of the record last written by the parallel import, see
+     * {@link SwiftCodeBatchRepository#upsertAllIfNewer}, or {@code null} for rows it never wrote.
+     */
+    @Column(name = "import_position")
+    private Long importPosition;
+
+    public SwiftCode(
+            String swiftCode,
+            String bankName,
+            String address,
+            String countryISO2,
+            String countryName,
+            boolean isHeadquarter,
+            String headquarterCode) {
+        this(swiftCode, bankName, address, countryISO2, countryName, isHeadquarter, headquarterCode, null, null);
+    }
+
+    /** 64-bit FNV-1a hash of every column except the swift code itself, used to find rows changed by a new file. */
+    public long computeContentHash() {
+        long hash = FNV_OFFSET_BASIS;
+        for (String column :
+                new String[] {bankName, address, countryISO2, countryName, isHeadquarter ? "1" : "0", headquarterCode
+                }) {
+            if (column == null) {
+                hash = (hash ^ 0xFF) * FNV_PRIME;
+            } else {
+                for (int i = 0; i < column.length(); i++) {
+                    hash = (hash ^ column.charAt(i)) * FNV_PRIME;
+                }
+            }
+            hash = (hash ^ 0xFE) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void updateContentHash() {
+        contentHash = computeContentHash();
+    }
 }
@@ -0,0 +1,22 @@
+package org.parser.swiftdata.facade.domain;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+@Configuration
+@EnableConfigurationProperties({CountryListingProperties.class, SwiftCodeDirectoryProperties.class})
+class SwiftCodeApiConfig {
+
+    @Bean
+    RouterFunction<ServerResponse> reactiveSwiftCodeRoutes(ReactiveSwiftCodeHandler handler) {
+        return RouterFunctions.route()
+                .path("/v1/reactive/swift-codes", builder -> builder.GET(
+                                "/country/{countryISO2code}", handler::getSwiftCodesByCountry)
+                        .GET("/{swift-code}", handler::getSwiftCodeById))
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package org.parser.swiftdata.facade.domain;
+
+import jakarta.transaction.Transactional;
+import java.util.List;
+
+public interface SwiftCodeBatchRepository {
+
+    /**
+     * Inserts or updates all given swift codes using JDBC batching within a single transaction.
+     * Unlike {@code saveAll}, no SELECT is issued per row for the assigned identifiers.
+     *
+     * @return number of rows written
+     */
+    @Transactional
+    int upsertAll(List<SwiftCode> swiftCodes);
+
+    /**
+     * Like {@link #upsertAll}, but a stored row is only updated by a code with a higher
+     * {@link SwiftCode#getImportPosition() import position}, which every given code must have. Batches of one import
+     * may thus be written in any order, also concurrently, and the code furthest in the file still wins.
+     *
+     * @return number of codes given, including those whose stored row was newer
+     */
+    @Transactional
+    int upsertAllIfNewer(List<SwiftCode> swiftCodes);
+
+    /**
+     * Inserts all given swift codes using JDBC batching, failing on a code which already exists. A failed insert
+     * is rolled back to a savepoint, so the caller's transaction can still be used.
+     *
+     * @return number of rows written
+     */
+    @Transactional
+    int insertAll(List<SwiftCode> swiftCodes);
+}
@@ -0,0 +1,149 @@
+package org.parser.swiftdata.facade.domain;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+class SwiftCodeBatchRepositoryImpl implements SwiftCodeBatchRepository {
+
+    private static final String POSTGRES_UPSERT =
+            """
+            INSERT INTO swift_codes (swift_code, bank_name, address, country_iso2, country_name, is_headquarter, headquarter_code, content_hash)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (swift_code) DO UPDATE SET
+                bank_name = EXCLUDED.bank_name,
+                address = EXCLUDED.address,
+                country_iso2 = EXCLUDED.country_iso2,
+                country_name = EXCLUDED.country_name,
+                is_headquarter = EXCLUDED.is_headquarter,
+                headquarter_code = EXCLUDED.headquarter_code,
+                content_hash = EXCLUDED.content_hash
+            """;
+
+    private static final String MERGE_UPSERT =
+            """
+            MERGE INTO swift_codes (swift_code, bank_name, address, country_iso2, country_name, is_headquarter, headquarter_code, content_hash)
+            KEY (swift_code)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String POSTGRES_UPSERT_IF_NEWER =
+            """
+            INSERT INTO swift_codes (swift_code, bank_name, address, country_iso2, country_name, is_headquarter, headquarter_code, content_hash, import_position)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (swift_code) DO UPDATE SET
+                bank_name = EXCLUDED.bank_name,
+                address = EXCLUDED.address,
+                country_iso2 = EXCLUDED.country_iso2,
+                country_name = EXCLUDED.country_name,
+                is_headquarter = EXCLUDED.is_headquarter,
+                headquarter_code = EXCLUDED.headquarter_code,
+                content_hash = EXCLUDED.content_hash,
+                import_position = EXCLUDED.import_position
+            WHERE swift_codes.import_position IS NULL OR swift_codes.import_position < EXCLUDED.import_position
+            """;
+
+    private static final String MERGE_UPSERT_IF_NEWER =
+            """
+            MERGE INTO swift_codes stored
+            USING (SELECT CAST(? AS VARCHAR) AS swift_code, CAST(? AS VARCHAR) AS bank_name, CAST(? AS VARCHAR) AS address,
+                CAST(? AS VARCHAR) AS country_iso2, CAST(? AS VARCHAR) AS country_name, CAST(? AS BOOLEAN) AS is_headquarter,
+                CAST(? AS VARCHAR) AS headquarter_code, CAST(? AS BIGINT) AS content_hash, CAST(? AS BIGINT) AS import_position
+            ) written
+            ON stored.swift_code = written.swift_code
+            WHEN MATCHED AND (stored.import_position IS NULL OR stored.import_position < written.import_position) THEN
+                UPDATE SET
+                    bank_name = written.bank_name,
+                    address = written.address,
+                    country_iso2 = written.country_iso2,
+                    country_name = written.country_name,
+                    is_headquarter = written.is_headquarter,
+                    headquarter_code = written.headquarter_code,
+                    content_hash = written.content_hash,
+                    import_position = written.import_position
+            WHEN NOT MATCHED THEN
+                INSERT (swift_code, bank_name, address, country_iso2, country_name, is_headquarter, headquarter_code, content_hash, import_position)
+                VALUES (written.swift_code, written.bank_name, written.address, written.country_iso2, written.country_name,
+                    written.is_headquarter, written.headquarter_code, written.content_hash, written.import_position)
+            """;
+
+    private static final String INSERT =
+            """
+            INSERT INTO swift_codes (swift_code, bank_name, address, country_iso2, country_name, is_headquarter, headquarter_code, content_hash)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public int upsertAll(List<SwiftCode> swiftCodes) {
+        return write(isPostgres() ? POSTGRES_UPSERT : MERGE_UPSERT, swiftCodes);
+    }
+
+    @Override
+    public int upsertAllIfNewer(List<SwiftCode> swiftCodes) {
+        if (swiftCodes.isEmpty()) {
+            return 0;
+        }
+        String sql = isPostgres() ? POSTGRES_UPSERT_IF_NEWER : MERGE_UPSERT_IF_NEWER;
+        jdbcTemplate.batchUpdate(sql, swiftCodes, swiftCodes.size(), (ps, swiftCode) -> {
+            setColumns(ps, swiftCode);
+            ps.setLong(9, swiftCode.getImportPosition());
+        });
+        return swiftCodes.size();
+    }
+
+    @Override
+    public int insertAll(List<SwiftCode> swiftCodes) {
+        if (swiftCodes.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try {
+                int written = write(INSERT, swiftCodes);
+                connection.releaseSavepoint(savepoint);
+                return written;
+            } catch (DataAccessException e) {
+                connection.rollback(savepoint);
+                throw e;
+            }
+        });
+    }
+
+    private int write(String sql, List<SwiftCode> swiftCodes) {
+        if (swiftCodes.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(sql, swiftCodes, swiftCodes.size(), SwiftCodeBatchRepositoryImpl::setColumns);
+        return swiftCodes.size();
+    }
+
+    private static void setColumns(PreparedStatement ps, SwiftCode swiftCode) throws SQLException {
+        ps.setString(1, swiftCode.getSwiftCode());
+        ps.setString(2, swiftCode.getBankName());
+        ps.setString(3, swiftCode.getAddress());
+        ps.setString(4, swiftCode.getCountryISO2());
+        ps.setString(5, swiftCode.getCountryName());
+        ps.setBoolean(6, swiftCode.isHeadquarter());
+        ps.setString(7, swiftCode.getHeadquarterCode());
+        ps.setLong(8, swiftCode.computeContentHash());
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String databaseName = jdbcTemplate.execute((ConnectionCallback<String>)
+                    connection -> connection.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(databaseName);
+        }
+        return postgres;
+    }
+}
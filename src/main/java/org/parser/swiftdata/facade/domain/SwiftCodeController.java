@@ -1,47 +1,174 @@
 package org.parser.swiftdata.facade.domain;
 
+import static org.parser.swiftdata.infrastructure.error.HandleResult.handleCachedResult;
 import static org.parser.swiftdata.infrastructure.error.HandleResult.handleError;
 import static org.parser.swiftdata.infrastructure.error.HandleResult.handleResult;
+import static org.parser.swiftdata.infrastructure.error.HandleResult.prettyRequested;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.parser.swiftdata.facade.SwiftCodeService;
+import org.parser.swiftdata.facade.dto.BulkMode;
+import org.parser.swiftdata.facade.dto.SwiftCodeBatchLookupRequest;
+import org.parser.swiftdata.facade.dto.SwiftCodeBulkCreateRequest;
+import org.parser.swiftdata.facade.dto.SwiftCodeBulkDeleteRequest;
+import org.parser.swiftdata.facade.dto.SwiftCodeBulkResponse;
 import org.parser.swiftdata.facade.dto.SwiftCodeRequest;
+import org.parser.swiftdata.infrastructure.cache.ResponseCache;
+import org.parser.swiftdata.infrastructure.error.BodyFormat;
 import org.parser.swiftdata.infrastructure.error.ErrorWrapper;
+import org.parser.swiftdata.infrastructure.error.JsonBody;
+import org.parser.swiftdata.infrastructure.error.Result;
 import org.parser.swiftdata.infrastructure.validator.SwiftCodeValidator;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("v1/swift-codes")
 @RequiredArgsConstructor
 @Slf4j
 class SwiftCodeController {
+    private static final int MAX_SEARCH_RESULTS = 100;
+
     private final SwiftCodeService swiftCodeService;
 
     private final SwiftCodeValidator swiftCodeValidator;
 
-    @GetMapping(path = "/{swift-code}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<String> getSwiftCodeById(
-            @PathVariable("swift-code") String swiftCodeId, HttpServletRequest request) {
-        return handleResult(swiftCodeService.getSwiftCodeById(swiftCodeId), HttpStatus.OK, request.getRequestURI());
+    private final ResponseCache responseCache;
+
+    private final SwiftCodeExporter swiftCodeExporter;
+
+    private final CountryListingProperties countryListingProperties;
+
+    @GetMapping(
+            path = "/{swift-code}",
+            produces = {
+                MediaType.APPLICATION_JSON_VALUE,
+                MediaType.APPLICATION_CBOR_VALUE,
+                BodyFormat.SMILE_VALUE,
+                BodyFormat.PROTOBUF_VALUE
+            })
+    public ResponseEntity<byte[]> getSwiftCodeById(
+            @PathVariable("swift-code") String swiftCodeId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletRequest request) {
+        BodyFormat format = BodyFormat.negotiate(accept);
+        return handleCachedResult(
+                responseCache.get(
+                        ResponseCache.Key.swiftCode(swiftCodeId, format, prettyRequested()),
+                        () -> swiftCodeService.getSwiftCodeById(swiftCodeId)),
+                format,
+                HttpStatus.OK,
+                request.getRequestURI(),
+                ifNoneMatch);
+    }
+
+    @GetMapping(path = "/export")
+    public ResponseEntity<StreamingResponseBody> exportSwiftCodes(
+            @RequestParam(defaultValue = "NDJSON") SwiftCodeExportFormat format,
+            @RequestParam(required = false) String countryISO2,
+            @RequestParam(required = false) Boolean isHeadquarter) {
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .body(output -> swiftCodeExporter.export(format, countryISO2, isHeadquarter, output));
     }
 
-    @GetMapping(path = "/country/{countryISO2code}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<String> getSwiftCodesByCountry(
-            @PathVariable String countryISO2code, HttpServletRequest request) {
+    @PostMapping(
+            path = "/batch-lookup",
+            produces = {
+                MediaType.APPLICATION_JSON_VALUE,
+                MediaType.APPLICATION_CBOR_VALUE,
+                BodyFormat.SMILE_VALUE,
+                BodyFormat.PROTOBUF_VALUE
+            })
+    public ResponseEntity<JsonBody> getSwiftCodesByIds(
+            @Valid @RequestBody SwiftCodeBatchLookupRequest batchLookupRequest, HttpServletRequest request) {
         return handleResult(
-                swiftCodeService.getSwiftCodesByCountry(countryISO2code), HttpStatus.OK, request.getRequestURI());
+                swiftCodeService.getSwiftCodesByIds(batchLookupRequest.swiftCodes()),
+                HttpStatus.OK,
+                request.getRequestURI());
     }
 
-    @PostMapping(path = "/", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<String> createSwiftCode(
+    @GetMapping(
+            path = "/country/{countryISO2code}",
+            produces = {
+                MediaType.APPLICATION_JSON_VALUE,
+                MediaType.APPLICATION_CBOR_VALUE,
+                BodyFormat.SMILE_VALUE,
+                BodyFormat.PROTOBUF_VALUE
+            })
+    public ResponseEntity<byte[]> getSwiftCodesByCountry(
+            @PathVariable String countryISO2code,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletRequest request) {
+        BodyFormat format = BodyFormat.negotiate(accept);
+        if (limit == null && after == null && countryListingProperties.unpaginatedEnabled()) {
+            return handleCachedResult(
+                    responseCache.get(
+                            ResponseCache.Key.country(countryISO2code, format, prettyRequested()),
+                            () -> swiftCodeService.getSwiftCodesByCountry(countryISO2code)),
+                    format,
+                    HttpStatus.OK,
+                    request.getRequestURI(),
+                    ifNoneMatch);
+        }
+        return handleCachedResult(
+                responseCache.serialize(
+                        swiftCodeService.getSwiftCodesByCountry(
+                                countryISO2code, after, countryListingProperties.pageSize(limit)),
+                        format,
+                        prettyRequested()),
+                format,
+                HttpStatus.OK,
+                request.getRequestURI(),
+                ifNoneMatch);
+    }
+
+    @GetMapping(
+            path = "/search",
+            produces = {
+                MediaType.APPLICATION_JSON_VALUE,
+                MediaType.APPLICATION_CBOR_VALUE,
+                BodyFormat.SMILE_VALUE,
+                BodyFormat.PROTOBUF_VALUE
+            })
+    public ResponseEntity<JsonBody> searchSwiftCodes(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) String bankName,
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest request) {
+        if (isBlank(prefix) && isBlank(bankName)) {
+            return handleError(new ErrorWrapper(
+                    "At least one of prefix and bankName is required",
+                    HttpStatus.OK,
+                    request.getRequestURI(),
+                    HttpStatus.BAD_REQUEST));
+        }
+        return handleResult(
+                swiftCodeService.searchSwiftCodes(
+                        isBlank(prefix) ? null : prefix.strip(),
+                        isBlank(bankName) ? null : bankName,
+                        limit == null ? MAX_SEARCH_RESULTS : Math.clamp(limit, 1, MAX_SEARCH_RESULTS)),
+                HttpStatus.OK,
+                request.getRequestURI());
+    }
+
+    @PostMapping(
+            path = "/",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BodyFormat.SMILE_VALUE})
+    public ResponseEntity<JsonBody> createSwiftCode(
             @Valid @RequestBody SwiftCodeRequest swiftCodeRequest, HttpServletRequest request) {
         Errors errors = new BeanPropertyBindingResult(swiftCodeRequest, "swiftCode");
         swiftCodeValidator.validate(swiftCodeRequest, errors);
@@ -56,9 +183,46 @@ class SwiftCodeController {
                 swiftCodeService.addSwiftCode(swiftCodeRequest), HttpStatus.CREATED, request.getRequestURI());
     }
 
-    @DeleteMapping(path = "/{swift-code}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<String> deleteSwiftCode(
+    @PostMapping(
+            path = "/bulk",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BodyFormat.SMILE_VALUE})
+    public ResponseEntity<JsonBody> createSwiftCodes(
+            @Valid @RequestBody SwiftCodeBulkCreateRequest bulkCreateRequest, HttpServletRequest request) {
+        Result<SwiftCodeBulkResponse> result =
+                swiftCodeService.addSwiftCodes(bulkCreateRequest.swiftCodes(), bulkCreateRequest.mode());
+        return handleResult(result, bulkStatus(result, HttpStatus.CREATED), request.getRequestURI());
+    }
+
+    @PostMapping(
+            path = "/bulk-delete",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BodyFormat.SMILE_VALUE})
+    public ResponseEntity<JsonBody> deleteSwiftCodes(
+            @Valid @RequestBody SwiftCodeBulkDeleteRequest bulkDeleteRequest, HttpServletRequest request) {
+        Result<SwiftCodeBulkResponse> result =
+                swiftCodeService.deleteSwiftCodes(bulkDeleteRequest.swiftCodes(), bulkDeleteRequest.mode());
+        return handleResult(result, bulkStatus(result, HttpStatus.OK), request.getRequestURI());
+    }
+
+    @DeleteMapping(
+            path = "/{swift-code}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BodyFormat.SMILE_VALUE})
+    public ResponseEntity<JsonBody> deleteSwiftCode(
             @PathVariable("swift-code") String swiftCodeId, HttpServletRequest request) {
         return handleResult(swiftCodeService.deleteSwiftCode(swiftCodeId), HttpStatus.OK, request.getRequestURI());
     }
+
+    /**
+     * {@code onSuccess} once every item was written, {@code 200 OK} for a partly applied best-effort write and
+     * {@code 422 Unprocessable Entity} for a rejected all-or-nothing one.
+     */
+    private static HttpStatus bulkStatus(Result<SwiftCodeBulkResponse> result, HttpStatus onSuccess) {
+        if (!result.isSuccess() || result.getData().isComplete()) {
+            return onSuccess;
+        }
+        return result.getData().mode() == BulkMode.ALL_OR_NOTHING ? HttpStatus.UNPROCESSABLE_ENTITY : HttpStatus.OK;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
 }
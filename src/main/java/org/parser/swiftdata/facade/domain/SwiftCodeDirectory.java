@@ -0,0 +1,460 @@
+package org.parser.swiftdata.facade.domain;
+
+import java.util.*;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.parser.swiftdata.facade.DirectorySnapshotService;
+import org.parser.swiftdata.facade.dto.SwiftCodeBranchResponse;
+import org.parser.swiftdata.infrastructure.parser.SwiftCodeDataLoadedEvent;
+import org.parser.swiftdata.infrastructure.parser.SwiftCodeDataLoadedEvent.Origin;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Read model of the SWIFT code directory. After the data file has been imported it serves all lookups from an
+ * immutable in-memory snapshot which is replaced atomically whenever swift codes are added or deleted. Until then
+ * lookups are delegated to the repository. The snapshot is either a {@link CompactSwiftCodeIndex} held off-heap or, with
+ * {@code swift-codes.directory.storage=heap} or when a code cannot be packed, maps of the entities. Bank names are
+ * searched through a {@link BankNameIndex} and, when enabled, headquarters' branches are served from a
+ * {@link BranchHierarchy} of ready responses, both kept next to the snapshot. A compact snapshot loaded after an import
+ * is also written to the {@link DirectorySnapshotStore}, from which the next start restores it; the structures next to
+ * a restored snapshot are built on first use.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+class SwiftCodeDirectory implements DirectorySnapshotService {
+
+    private static final Comparator<SwiftCode> BY_SWIFT_CODE = Comparator.comparing(SwiftCode::getSwiftCode);
+
+    private final SwiftCodeRepository repository;
+
+    private final SwiftCodeDirectoryProperties properties;
+
+    private final DirectorySnapshotStore snapshotStore;
+
+    private final DirectoryVersions versions;
+
+    private volatile Snapshot snapshot;
+
+    /** Null until first used after a restore, as is the branch hierarchy. */
+    private volatile BankNameIndex bankNameIndex;
+
+    private volatile BranchHierarchy branchHierarchy;
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    public Optional<SwiftCode> findById(String swiftCode) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return repository.findById(swiftCode);
+        }
+        return current.findById(swiftCode);
+    }
+
+    public List<SwiftCode> findByHeadquarterCode(String headquarterCode) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return repository.findByHeadquarterCode(headquarterCode);
+        }
+        return current.findByHeadquarterCode(headquarterCode);
+    }
+
+    /** Responses of the branches of a headquarter, the headquarter included, ordered by swift code. */
+    public List<SwiftCodeBranchResponse> findBranchResponses(String headquarterCode) {
+        if (!properties.precomputedBranches() || snapshot == null) {
+            return findByHeadquarterCode(headquarterCode).stream()
+                    .map(SwiftCodeBranchResponse::new)
+                    .toList();
+        }
+        return branchHierarchy().branchesOf(headquarterCode);
+    }
+
+    public List<SwiftCode> findAllById(Collection<String> swiftCodes) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return repository.findAllById(swiftCodes);
+        }
+        return swiftCodes.stream()
+                .map(current::findById)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    public List<SwiftCode> findByHeadquarterCodeIn(Collection<String> headquarterCodes) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return repository.findByHeadquarterCodeIn(headquarterCodes);
+        }
+        return headquarterCodes.stream()
+                .flatMap(headquarterCode -> current.findByHeadquarterCode(headquarterCode).stream())
+                .toList();
+    }
+
+    public List<SwiftCode> findByCountryISO2(String countryISO2) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return repository.findByCountryISO2(countryISO2);
+        }
+        return current.findByCountryISO2(countryISO2);
+    }
+
+    /** Up to {@code limit} swift codes of a country ordered by code, starting after {@code after} if given. */
+    public List<SwiftCode> findCountryPage(String countryISO2, String after, int limit) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return after == null
+                    ? repository.findByCountryISO2OrderBySwiftCode(countryISO2, Limit.of(limit))
+                    : repository.findByCountryISO2AndSwiftCodeGreaterThanOrderBySwiftCode(
+                            countryISO2, after, Limit.of(limit));
+        }
+        return current.findCountryPage(countryISO2, after, limit);
+    }
+
+    /**
+     * Up to {@code limit} swift codes ordered by code which start with {@code prefix} and, if {@code bankName} is given,
+     * whose bank name contains all of its words. Before the data is loaded the words must appear verbatim.
+     */
+    public List<SwiftCode> search(String prefix, String bankName, int limit) {
+        Snapshot current = snapshot;
+        String codePrefix = prefix == null ? "" : prefix;
+        if (current == null) {
+            return bankName == null
+                    ? repository.findBySwiftCodeStartingWithOrderBySwiftCode(codePrefix, Limit.of(limit))
+                    : repository.findByBankNameContainingIgnoreCaseAndSwiftCodeStartingWithOrderBySwiftCode(
+                            bankName, codePrefix, Limit.of(limit));
+        }
+        if (bankName == null) {
+            return current.findBySwiftCodePrefix(codePrefix, limit);
+        }
+        List<SwiftCode> swiftCodes = new ArrayList<>();
+        for (long code : bankNameIndex().search(bankName)) {
+            if (swiftCodes.size() == limit) {
+                break;
+            }
+            String swiftCode = CompactSwiftCodeIndex.unpack(code, CompactSwiftCodeIndex.CODE_LENGTH);
+            if (swiftCode.startsWith(codePrefix)) {
+                current.findById(swiftCode).ifPresent(swiftCodes::add);
+            }
+        }
+        return swiftCodes;
+    }
+
+    /** Runs before other listeners, so caches of responses are cleared only once they would be rebuilt from this load. */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void onDataLoaded(SwiftCodeDataLoadedEvent event) {
+        if (event.origin() == Origin.SNAPSHOT) {
+            return;
+        }
+        // read first, so a change committed while the codes are read leaves the snapshot with an older version
+        long version = versions.current();
+        List<SwiftCode> swiftCodes = repository.findAll();
+        load(
+                swiftCodes,
+                properties.storage() == SwiftCodeDirectoryProperties.Storage.COMPACT
+                        ? CompactSnapshot.of(swiftCodes, properties.overlayMergeThreshold())
+                        : HeapSnapshot.of(swiftCodes));
+        if (event.origin() == Origin.IMPORT && snapshot instanceof CompactSnapshot compact) {
+            snapshotStore.write(compact.index().index(), event.dataFilePath(), version);
+        } else {
+            snapshotStore.delete();
+        }
+    }
+
+    @Override
+    public synchronized boolean restore(String dataFilePath) {
+        if (properties.storage() != SwiftCodeDirectoryProperties.Storage.COMPACT) {
+            return false;
+        }
+        Optional<CompactSwiftCodeIndex> index =
+                snapshotStore.read(dataFilePath, repository.count(), versions.current());
+        index.ifPresent(restored -> {
+            bankNameIndex = null;
+            branchHierarchy = null;
+            snapshot = new CompactSnapshot(OverlaidSwiftCodeIndex.of(restored, properties.overlayMergeThreshold()));
+            log.info("Swift code directory restored with {} records ({})", restored.size(), snapshot.describe());
+        });
+        return index.isPresent();
+    }
+
+    @Override
+    public void invalidate() {
+        versions.bump();
+        snapshotStore.delete();
+    }
+
+    private void load(List<SwiftCode> swiftCodes, Snapshot loaded) {
+        bankNameIndex = BankNameIndex.of(swiftCodes, properties.overlayMergeThreshold());
+        branchHierarchy = properties.precomputedBranches() ? BranchHierarchy.of(swiftCodes) : null;
+        snapshot = loaded;
+        log.info("Swift code directory loaded with {} records ({})", swiftCodes.size(), loaded.describe());
+    }
+
+    private BankNameIndex bankNameIndex() {
+        BankNameIndex index = bankNameIndex;
+        return index != null ? index : buildBankNameIndex();
+    }
+
+    private synchronized BankNameIndex buildBankNameIndex() {
+        if (bankNameIndex == null) {
+            bankNameIndex = BankNameIndex.of(snapshot.toList(), properties.overlayMergeThreshold());
+        }
+        return bankNameIndex;
+    }
+
+    private BranchHierarchy branchHierarchy() {
+        BranchHierarchy hierarchy = branchHierarchy;
+        return hierarchy != null ? hierarchy : buildBranchHierarchy();
+    }
+
+    private synchronized BranchHierarchy buildBranchHierarchy() {
+        if (branchHierarchy == null) {
+            branchHierarchy = BranchHierarchy.of(snapshot.toList());
+        }
+        return branchHierarchy;
+    }
+
+    /**
+     * Runs before other after-commit listeners, so a response cache evicting the changed codes cannot be refilled from
+     * this directory before the change has reached it.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void onSwiftCodesChanged(SwiftCodesChangedEvent event) {
+        if (snapshot != null) {
+            snapshotStore.delete();
+            List<SwiftCode> removed = new ArrayList<>(event.deleted());
+            event.saved().forEach(swiftCode -> snapshot.findById(swiftCode.getSwiftCode())
+                    .ifPresent(removed::add));
+            snapshot = snapshot.apply(event.saved(), event.deleted());
+            if (bankNameIndex != null) {
+                bankNameIndex = bankNameIndex.apply(event.saved(), removed);
+            }
+            if (branchHierarchy != null) {
+                branchHierarchy = branchHierarchy.apply(event.saved(), event.deleted());
+            }
+        }
+    }
+
+    private interface Snapshot {
+
+        Optional<SwiftCode> findById(String swiftCode);
+
+        List<SwiftCode> findByHeadquarterCode(String headquarterCode);
+
+        List<SwiftCode> findByCountryISO2(String countryISO2);
+
+        List<SwiftCode> findCountryPage(String countryISO2, String after, int limit);
+
+        List<SwiftCode> findBySwiftCodePrefix(String prefix, int limit);
+
+        List<SwiftCode> toList();
+
+        Snapshot apply(List<SwiftCode> saved, List<SwiftCode> deleted);
+
+        String describe();
+    }
+
+    private record CompactSnapshot(OverlaidSwiftCodeIndex index) implements Snapshot {
+
+        static Snapshot of(Collection<SwiftCode> swiftCodes, int mergeThreshold) {
+            if (!CompactSwiftCodeIndex.canIndex(swiftCodes)) {
+                log.warn("Some swift codes are not 11 upper-case letters or digits, keeping the directory on the heap");
+                return HeapSnapshot.of(swiftCodes);
+            }
+            return new CompactSnapshot(OverlaidSwiftCodeIndex.of(CompactSwiftCodeIndex.of(swiftCodes), mergeThreshold));
+        }
+
+        @Override
+        public Optional<SwiftCode> findById(String swiftCode) {
+            return index.findById(swiftCode);
+        }
+
+        @Override
+        public List<SwiftCode> findByHeadquarterCode(String headquarterCode) {
+            return index.findByHeadquarterCode(headquarterCode);
+        }
+
+        @Override
+        public List<SwiftCode> findByCountryISO2(String countryISO2) {
+            return index.findByCountryISO2(countryISO2);
+        }
+
+        @Override
+        public List<SwiftCode> findCountryPage(String countryISO2, String after, int limit) {
+            return index.findCountryPage(countryISO2, after, limit);
+        }
+
+        @Override
+        public List<SwiftCode> findBySwiftCodePrefix(String prefix, int limit) {
+            return index.findBySwiftCodePrefix(prefix, limit);
+        }
+
+        @Override
+        public List<SwiftCode> toList() {
+            return index.toList();
+        }
+
+        @Override
+        public Snapshot apply(List<SwiftCode> saved, List<SwiftCode> deleted) {
+            if (!CompactSwiftCodeIndex.canIndex(saved)) {
+                log.warn("Saved swift codes cannot be packed, moving the directory to the heap");
+                return HeapSnapshot.of(index.toList()).apply(saved, deleted);
+            }
+            return new CompactSnapshot(index.apply(saved, deleted));
+        }
+
+        @Override
+        public String describe() {
+            return "compact, " + index.offHeapBytes() / 1024 + " KiB off-heap";
+        }
+    }
+
+    private record HeapSnapshot(
+            Map<String, SwiftCode> bySwiftCode,
+            Map<String, List<SwiftCode>> byHeadquarterCode,
+            Map<String, List<SwiftCode>> byCountryISO2,
+            List<String> sortedSwiftCodes)
+            implements Snapshot {
+
+        static HeapSnapshot of(Collection<SwiftCode> swiftCodes) {
+            Map<String, SwiftCode> bySwiftCode = new HashMap<>(swiftCodes.size() * 2);
+            swiftCodes.forEach(swiftCode -> bySwiftCode.put(swiftCode.getSwiftCode(), swiftCode));
+            return new HeapSnapshot(
+                    Map.copyOf(bySwiftCode),
+                    groupSorted(bySwiftCode.values(), SwiftCode::getHeadquarterCode),
+                    groupSorted(bySwiftCode.values(), SwiftCode::getCountryISO2),
+                    bySwiftCode.keySet().stream().sorted().toList());
+        }
+
+        @Override
+        public Optional<SwiftCode> findById(String swiftCode) {
+            return Optional.ofNullable(bySwiftCode.get(swiftCode));
+        }
+
+        @Override
+        public List<SwiftCode> findByHeadquarterCode(String headquarterCode) {
+            return byHeadquarterCode.getOrDefault(headquarterCode, List.of());
+        }
+
+        @Override
+        public List<SwiftCode> findByCountryISO2(String countryISO2) {
+            return byCountryISO2.getOrDefault(countryISO2, List.of());
+        }
+
+        @Override
+        public List<SwiftCode> findCountryPage(String countryISO2, String after, int limit) {
+            List<SwiftCode> group = findByCountryISO2(countryISO2);
+            int from = 0;
+            if (after != null) {
+                int index = Collections.binarySearch(
+                        group, SwiftCode.builder().swiftCode(after).build(), BY_SWIFT_CODE);
+                from = index < 0 ? -index - 1 : index + 1;
+            }
+            return group.subList(from, Math.min(group.size(), from + limit));
+        }
+
+        @Override
+        public List<SwiftCode> findBySwiftCodePrefix(String prefix, int limit) {
+            int index = Collections.binarySearch(sortedSwiftCodes, prefix);
+            List<SwiftCode> swiftCodes = new ArrayList<>();
+            for (int i = index < 0 ? -index - 1 : index;
+                    i < sortedSwiftCodes.size() && swiftCodes.size() < limit;
+                    i++) {
+                String swiftCode = sortedSwiftCodes.get(i);
+                if (!swiftCode.startsWith(prefix)) {
+                    break;
+                }
+                swiftCodes.add(bySwiftCode.get(swiftCode));
+            }
+            return swiftCodes;
+        }
+
+        @Override
+        public List<SwiftCode> toList() {
+            return sortedSwiftCodes.stream().map(bySwiftCode::get).toList();
+        }
+
+        @Override
+        public String describe() {
+            return "heap";
+        }
+
+        @Override
+        public HeapSnapshot apply(List<SwiftCode> saved, List<SwiftCode> deleted) {
+            Map<String, SwiftCode> bySwiftCode = new HashMap<>(this.bySwiftCode);
+            Map<String, List<SwiftCode>> byHeadquarterCode = new HashMap<>(this.byHeadquarterCode);
+            Map<String, List<SwiftCode>> byCountryISO2 = new HashMap<>(this.byCountryISO2);
+            for (SwiftCode swiftCode : deleted) {
+                SwiftCode removed = bySwiftCode.remove(swiftCode.getSwiftCode());
+                if (removed != null) {
+                    removeFromGroup(byHeadquarterCode, removed.getHeadquarterCode(), removed);
+                    removeFromGroup(byCountryISO2, removed.getCountryISO2(), removed);
+                }
+            }
+            for (SwiftCode swiftCode : saved) {
+                SwiftCode replaced = bySwiftCode.put(swiftCode.getSwiftCode(), swiftCode);
+                if (replaced != null) {
+                    removeFromGroup(byHeadquarterCode, replaced.getHeadquarterCode(), replaced);
+                    removeFromGroup(byCountryISO2, replaced.getCountryISO2(), replaced);
+                }
+                addToGroup(byHeadquarterCode, swiftCode.getHeadquarterCode(), swiftCode);
+                addToGroup(byCountryISO2, swiftCode.getCountryISO2(), swiftCode);
+            }
+            return new HeapSnapshot(
+                    Map.copyOf(bySwiftCode),
+                    Map.copyOf(byHeadquarterCode),
+                    Map.copyOf(byCountryISO2),
+                    bySwiftCode.keySet().stream().sorted().toList());
+        }
+
+        private static Map<String, List<SwiftCode>> groupSorted(
+                Collection<SwiftCode> swiftCodes, Function<SwiftCode, String> key) {
+            Map<String, List<SwiftCode>> groups = new HashMap<>();
+            for (SwiftCode swiftCode : swiftCodes) {
+                String groupKey = key.apply(swiftCode);
+                if (groupKey != null) {
+                    groups.computeIfAbsent(groupKey, k -> new ArrayList<>()).add(swiftCode);
+                }
+            }
+            groups.replaceAll((groupKey, group) -> {
+                group.sort(BY_SWIFT_CODE);
+                return List.copyOf(group);
+            });
+            return Map.copyOf(groups);
+        }
+
+        private static void addToGroup(Map<String, List<SwiftCode>> groups, String groupKey, SwiftCode swiftCode) {
+            if (groupKey == null) {
+                return;
+            }
+            List<SwiftCode> group = new ArrayList<>(groups.getOrDefault(groupKey, List.of()));
+            int index = Collections.binarySearch(group, swiftCode, BY_SWIFT_CODE);
+            group.add(index < 0 ? -index - 1 : index, swiftCode);
+            groups.put(groupKey, List.copyOf(group));
+        }
+
+        private static void removeFromGroup(Map<String, List<SwiftCode>> groups, String groupKey, SwiftCode swiftCode) {
+            List<SwiftCode> group = groupKey == null ? null : groups.get(groupKey);
+            if (group == null) {
+                return;
+            }
+            List<SwiftCode> remaining = group.stream()
+                    .filter(member -> !member.getSwiftCode().equals(swiftCode.getSwiftCode()))
+                    .toList();
+            if (remaining.isEmpty()) {
+                groups.remove(groupKey);
+            } else {
+                groups.put(groupKey, remaining);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.parser.swiftdata.facade.domain;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param storage how the loaded directory is held: {@code compact} packs it into an off-heap
+ *     {@link CompactSwiftCodeIndex}, {@code heap} keeps maps of the entities
+ * @param precomputedBranches whether the responses of every headquarter's branches are kept ready on the heap;
+ *     otherwise, by default, they are mapped from the directory on each headquarter lookup
+ * @param snapshotPath file the compact directory is written to after every import and restored from at startup; empty
+ *     disables the snapshot
+ * @param overlayMergeThreshold number of saved and deleted codes the compact directory and the {@link BankNameIndex}
+ *     keep next to their index before they are merged into a new one
+ */
+@ConfigurationProperties(prefix = "swift-codes.directory")
+record SwiftCodeDirectoryProperties(
+        @DefaultValue("compact") Storage storage,
+        @DefaultValue("false") boolean precomputedBranches,
+        @DefaultValue("") String snapshotPath,
+        @DefaultValue("1024") int overlayMergeThreshold) {
+
+    enum Storage {
+        COMPACT,
+        HEAP
+    }
+}
@@ -0,0 +1,18 @@
+package org.parser.swiftdata.facade.domain;
+
+import org.springframework.http.MediaType;
+
+enum SwiftCodeExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CSV(new MediaType("text", "csv"));
+
+    private final MediaType mediaType;
+
+    SwiftCodeExportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    MediaType mediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,116 @@
+package org.parser.swiftdata.facade.domain;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.parser.swiftdata.facade.dto.SwiftCodeBranchResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes the directory to an output stream row by row. Rows come from a server-side cursor in a read-only transaction
+ * and are detached from the persistence context once written, so the heap used does not grow with the export size.
+ */
+@Component
+@Slf4j
+class SwiftCodeExporter {
+
+    private static final String CSV_HEADER =
+            "swiftCode,bankName,address,countryISO2,countryName,isHeadquarter,headquarterCode";
+
+    private final SwiftCodeRepository repository;
+
+    private final EntityManager entityManager;
+
+    private final ObjectWriter rowWriter;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    SwiftCodeExporter(
+            SwiftCodeRepository repository,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.rowWriter = objectMapper.writerFor(SwiftCodeBranchResponse.class);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void export(SwiftCodeExportFormat format, String countryISO2, Boolean isHeadquarter, OutputStream output) {
+        long startTime = System.nanoTime();
+        long exportedRecords = readOnlyTransaction.execute(status -> {
+            try (Stream<SwiftCode> swiftCodes = repository.streamAll(countryISO2, isHeadquarter)) {
+                return switch (format) {
+                    case NDJSON -> writeNdjson(swiftCodes, output);
+                    case CSV -> writeCsv(swiftCodes, output);
+                };
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info(
+                "Exported {} swift codes as {} in {} ms",
+                exportedRecords,
+                format,
+                (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    private long writeNdjson(Stream<SwiftCode> swiftCodes, OutputStream output) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = rowWriter.createGenerator(output)) {
+            generator.setRootValueSeparator(null);
+            for (SwiftCode swiftCode : (Iterable<SwiftCode>) swiftCodes::iterator) {
+                rowWriter.writeValue(generator, new SwiftCodeBranchResponse(swiftCode));
+                generator.writeRaw('\n');
+                entityManager.detach(swiftCode);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Stream<SwiftCode> swiftCodes, OutputStream output) throws IOException {
+        long count = 0;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            for (SwiftCode swiftCode : (Iterable<SwiftCode>) swiftCodes::iterator) {
+                writer.write(toCsvRow(swiftCode));
+                entityManager.detach(swiftCode);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static String toCsvRow(SwiftCode swiftCode) {
+        return String.join(
+                        ",",
+                        quote(swiftCode.getSwiftCode()),
+                        quote(swiftCode.getBankName()),
+                        quote(swiftCode.getAddress()),
+                        quote(swiftCode.getCountryISO2()),
+                        quote(swiftCode.getCountryName()),
+                        String.valueOf(swiftCode.isHeadquarter()),
+                        quote(swiftCode.getHeadquarterCode()))
+                + "\n";
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
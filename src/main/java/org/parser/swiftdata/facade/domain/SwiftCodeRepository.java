@@ -1,15 +1,82 @@
 package org.parser.swiftdata.facade.domain;
 
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface SwiftCodeRepository extends JpaRepository<SwiftCode, String> {
+public interface SwiftCodeRepository extends JpaRepository<SwiftCode, String>, SwiftCodeBatchRepository {
 
     List<SwiftCode> findByHeadquarterCode(String headquarterCode);
 
+    List<SwiftCode> findByHeadquarterCodeIn(Collection<String> headquarterCodes);
+
     List<SwiftCode> findByCountryISO2(String countryISO2);
 
+    List<SwiftCode> findByCountryISO2OrderBySwiftCode(String countryISO2, Limit limit);
+
+    List<SwiftCode> findByCountryISO2AndSwiftCodeGreaterThanOrderBySwiftCode(
+            String countryISO2, String swiftCode, Limit limit);
+
+    List<SwiftCode> findBySwiftCodeStartingWithOrderBySwiftCode(String prefix, Limit limit);
+
+    List<SwiftCode> findByBankNameContainingIgnoreCaseAndSwiftCodeStartingWithOrderBySwiftCode(
+            String bankName, String prefix, Limit limit);
+
     boolean existsByCountryName(String countryName);
+
+    /** Swift codes per country ISO2 code and name, ordered by the lowest swift code of each. */
+    @Query(
+            """
+            SELECT new org.parser.swiftdata.facade.domain.CountryCount(s.countryISO2, s.countryName, COUNT(s))
+            FROM SwiftCode s
+            GROUP BY s.countryISO2, s.countryName
+            ORDER BY MIN(s.swiftCode)
+            """)
+    List<CountryCount> countByCountry();
+
+    /** The highest {@link SwiftCode#getImportPosition() import position} stored, or 0 when there is none. */
+    @Query("SELECT COALESCE(MAX(s.importPosition), 0) FROM SwiftCode s")
+    long findMaxImportPosition();
+
+    @Query("SELECT s.swiftCode FROM SwiftCode s WHERE s.swiftCode IN :swiftCodes")
+    List<String> findExistingSwiftCodes(@Param("swiftCodes") Collection<String> swiftCodes);
+
+    /** Deletes a headquarter together with its branches in one statement, without loading them. */
+    @Modifying
+    @Query("DELETE FROM SwiftCode s WHERE s.headquarterCode = :headquarterCode")
+    int deleteByHeadquarterCode(@Param("headquarterCode") String headquarterCode);
+
+    /** Deletes the given headquarters' codes, branches included, in one statement. */
+    @Modifying
+    @Query("DELETE FROM SwiftCode s WHERE s.headquarterCode IN :headquarterCodes")
+    int deleteByHeadquarterCodeIn(@Param("headquarterCodes") Collection<String> headquarterCodes);
+
+    /**
+     * Streams swift codes ordered by code, optionally filtered by country and by headquarter flag. Must be consumed
+     * inside a transaction and closed afterwards.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(
+            """
+            SELECT s FROM SwiftCode s
+            WHERE (:countryISO2 IS NULL OR s.countryISO2 = :countryISO2)
+              AND (:isHeadquarter IS NULL OR s.isHeadquarter = :isHeadquarter)
+            ORDER BY s.swiftCode
+            """)
+    Stream<SwiftCode> streamAll(
+            @Param("countryISO2") String countryISO2, @Param("isHeadquarter") Boolean isHeadquarter);
 }
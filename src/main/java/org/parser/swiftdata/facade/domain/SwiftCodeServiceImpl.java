@@ -1,41 +1,88 @@
 package org.parser.swiftdata.facade.domain;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.parser.swiftdata.facade.SwiftCodeService;
 import org.parser.swiftdata.facade.dto.*;
+import org.parser.swiftdata.facade.dto.SwiftCodeBulkResponse.Status;
 import org.parser.swiftdata.infrastructure.error.Result;
 import org.parser.swiftdata.infrastructure.error.SwiftCodeError;
+import org.parser.swiftdata.infrastructure.validator.SwiftCodeValidator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.validation.Errors;
+import org.springframework.validation.ObjectError;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@Timed(value = "swift.codes.service", histogram = true)
 class SwiftCodeServiceImpl implements SwiftCodeService {
 
     private final SwiftCodeRepository repository;
 
+    private final SwiftCodeDirectory directory;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final SwiftCodeValidator swiftCodeValidator;
+
     @Override
     public Result<SwiftCodeBranchResponse> getSwiftCodeById(String swiftCodeId) {
-        SwiftCode swiftCode = repository.findById(swiftCodeId).orElse(null);
+        SwiftCode swiftCode = directory.findById(swiftCodeId).orElse(null);
 
         if (swiftCode == null) {
             return Result.failure(new SwiftCodeError.SwiftCodeNotFoundById(swiftCodeId));
         }
 
         if (swiftCode.isHeadquarter()) {
-            List<SwiftCode> branches = repository.findByHeadquarterCode(swiftCode.getHeadquarterCode());
-            return Result.success(new SwiftCodeHeadquarterResponse(swiftCode, branches));
+            return Result.success(SwiftCodeHeadquarterResponse.withBranchResponses(
+                    swiftCode, directory.findBranchResponses(swiftCode.getHeadquarterCode())));
         }
 
         return Result.success(new SwiftCodeBranchResponse(swiftCode));
     }
 
+    @Override
+    public Result<SwiftCodeBatchLookupResponse> getSwiftCodesByIds(List<String> swiftCodeIds) {
+        Set<String> requestedIds = new LinkedHashSet<>(swiftCodeIds);
+        Map<String, SwiftCode> swiftCodes = directory.findAllById(requestedIds).stream()
+                .collect(Collectors.toMap(SwiftCode::getSwiftCode, Function.identity()));
+
+        Set<String> headquarterCodes = swiftCodes.values().stream()
+                .filter(SwiftCode::isHeadquarter)
+                .map(SwiftCode::getHeadquarterCode)
+                .collect(Collectors.toSet());
+        Map<String, List<SwiftCode>> branchesByHeadquarterCode = headquarterCodes.isEmpty()
+                ? Map.of()
+                : directory.findByHeadquarterCodeIn(headquarterCodes).stream()
+                        .collect(Collectors.groupingBy(SwiftCode::getHeadquarterCode));
+
+        List<SwiftCodeBranchResponse> found = new ArrayList<>(swiftCodes.size());
+        List<String> misses = new ArrayList<>();
+        for (String swiftCodeId : requestedIds) {
+            SwiftCode swiftCode = swiftCodes.get(swiftCodeId);
+            if (swiftCode == null) {
+                misses.add(swiftCodeId);
+            } else if (swiftCode.isHeadquarter()) {
+                found.add(new SwiftCodeHeadquarterResponse(
+                        swiftCode, branchesByHeadquarterCode.getOrDefault(swiftCode.getHeadquarterCode(), List.of())));
+            } else {
+                found.add(new SwiftCodeBranchResponse(swiftCode));
+            }
+        }
+        return Result.success(new SwiftCodeBatchLookupResponse(found, misses));
+    }
+
     @Override
     public Result<CountrySwiftCodesResponse> getSwiftCodesByCountry(String countryISO2) {
-        List<SwiftCode> swiftCodes = repository.findByCountryISO2(countryISO2);
+        List<SwiftCode> swiftCodes = directory.findByCountryISO2(countryISO2);
 
         if (swiftCodes.isEmpty()) {
             return Result.failure(new SwiftCodeError.CountryNotFoundByCountryISO2(countryISO2));
@@ -45,6 +92,30 @@ class SwiftCodeServiceImpl implements SwiftCodeService {
         return Result.success(new CountrySwiftCodesResponse(countryISO2, countryName, swiftCodes));
     }
 
+    @Override
+    public Result<CountrySwiftCodesResponse> getSwiftCodesByCountry(String countryISO2, String after, int limit) {
+        List<SwiftCode> page = directory.findCountryPage(countryISO2, after, limit + 1);
+
+        if (page.isEmpty() && after == null) {
+            return Result.failure(new SwiftCodeError.CountryNotFoundByCountryISO2(countryISO2));
+        }
+
+        boolean hasNextPage = page.size() > limit;
+        List<SwiftCode> swiftCodes = hasNextPage ? page.subList(0, limit) : page;
+        String countryName = swiftCodes.isEmpty() ? null : swiftCodes.getFirst().getCountryName();
+        String nextCursor = hasNextPage ? swiftCodes.getLast().getSwiftCode() : null;
+        return Result.success(new CountrySwiftCodesResponse(countryISO2, countryName, swiftCodes, nextCursor));
+    }
+
+    @Override
+    public Result<SwiftCodeSearchResponse> searchSwiftCodes(String prefix, String bankName, int limit) {
+        String codePrefix = prefix == null ? null : prefix.toUpperCase(Locale.ROOT);
+        List<SwiftCodeBranchResponse> swiftCodes = directory.search(codePrefix, bankName, limit).stream()
+                .map(SwiftCodeBranchResponse::new)
+                .toList();
+        return Result.success(new SwiftCodeSearchResponse(swiftCodes));
+    }
+
     @Override
     @Transactional
     public Result<ApiResponse> addSwiftCode(SwiftCodeRequest swiftCodeRequest) {
@@ -52,20 +123,10 @@ class SwiftCodeServiceImpl implements SwiftCodeService {
             return Result.failure(new SwiftCodeError.SwiftCodeIdExists(swiftCodeRequest.getSwiftCode()));
         }
 
-        if (swiftCodeRequest.getIsHeadquarter() == null) {
-            swiftCodeRequest.setIsHeadquarter(swiftCodeRequest.getSwiftCode().endsWith("XXX"));
-        }
-
-        SwiftCode createdSwiftCode = new SwiftCode(
-                swiftCodeRequest.getSwiftCode(),
-                swiftCodeRequest.getBankName(),
-                swiftCodeRequest.getAddress(),
-                swiftCodeRequest.getCountryISO2().toUpperCase(),
-                swiftCodeRequest.getCountryName().toUpperCase(),
-                swiftCodeRequest.getIsHeadquarter(),
-                swiftCodeRequest.getSwiftCode().substring(0, 8));
+        SwiftCode createdSwiftCode = toSwiftCode(swiftCodeRequest);
 
         repository.save(createdSwiftCode);
+        eventPublisher.publishEvent(SwiftCodesChangedEvent.saved(createdSwiftCode));
         return Result.success(new ApiResponse("swift code created successfully"));
     }
 
@@ -77,17 +138,187 @@ class SwiftCodeServiceImpl implements SwiftCodeService {
             return Result.failure(new SwiftCodeError.SwiftCodeNotFoundById(swiftCodeId));
         }
 
-        List<String> toDeleteIds = List.of(swiftCodeToDelete.getSwiftCode());
+        List<SwiftCode> swiftCodesToDelete = List.of(swiftCodeToDelete);
+        int deletedCount;
 
         if (swiftCodeToDelete.isHeadquarter()) {
-            List<SwiftCode> swiftCodesToDelete =
-                    repository.findByHeadquarterCode(swiftCodeToDelete.getHeadquarterCode());
-            toDeleteIds =
-                    swiftCodesToDelete.stream().map(SwiftCode::getSwiftCode).toList();
+            swiftCodesToDelete = directory.findByHeadquarterCode(swiftCodeToDelete.getHeadquarterCode());
+            deletedCount = repository.deleteByHeadquarterCode(swiftCodeToDelete.getHeadquarterCode());
+        } else {
+            repository.deleteAllById(List.of(swiftCodeId));
+            deletedCount = 1;
+        }
+
+        eventPublisher.publishEvent(SwiftCodesChangedEvent.deleted(swiftCodesToDelete));
+        return Result.success(
+                new ApiResponse(String.format("swift code deleted successfully, deleted %d record(s)", deletedCount)));
+    }
+
+    @Override
+    @Transactional
+    public Result<SwiftCodeBulkResponse> addSwiftCodes(List<SwiftCodeRequest> swiftCodeRequests, BulkMode mode) {
+        List<Errors> validated = swiftCodeValidator.validateAll(swiftCodeRequests);
+        List<String> requestedIds = swiftCodeRequests.stream()
+                .map(SwiftCodeRequest::getSwiftCode)
+                .filter(Objects::nonNull)
+                .toList();
+        Set<String> existingIds =
+                requestedIds.isEmpty() ? Set.of() : new HashSet<>(repository.findExistingSwiftCodes(requestedIds));
+
+        List<SwiftCodeBulkResponse.Item> items = new ArrayList<>(swiftCodeRequests.size());
+        List<SwiftCode> createdSwiftCodes = new ArrayList<>();
+        Map<String, Integer> createdItems = new HashMap<>();
+        for (int i = 0; i < swiftCodeRequests.size(); i++) {
+            SwiftCodeRequest swiftCodeRequest = swiftCodeRequests.get(i);
+            String swiftCodeId = swiftCodeRequest.getSwiftCode();
+            Errors errors = validated.get(i);
+            if (errors.hasErrors()) {
+                items.add(new SwiftCodeBulkResponse.Item(swiftCodeId, Status.INVALID, describe(errors)));
+            } else if (existingIds.contains(swiftCodeId)) {
+                items.add(conflict(swiftCodeId));
+            } else if (createdItems.putIfAbsent(swiftCodeId, i) != null) {
+                items.add(new SwiftCodeBulkResponse.Item(
+                        swiftCodeId, Status.INVALID, "Swift code is given more than once in the request"));
+            } else {
+                createdSwiftCodes.add(toSwiftCode(swiftCodeRequest));
+                items.add(new SwiftCodeBulkResponse.Item(swiftCodeId, Status.CREATED, null));
+            }
         }
 
-        repository.deleteAllById(toDeleteIds);
-        return Result.success(new ApiResponse(
-                String.format("swift code deleted successfully, deleted %d record(s)", toDeleteIds.size())));
+        if (mode == BulkMode.ALL_OR_NOTHING && createdSwiftCodes.size() < swiftCodeRequests.size()) {
+            return Result.success(SwiftCodeBulkResponse.of(mode, notApplied(items)));
+        }
+        List<SwiftCode> insertedSwiftCodes = insertAll(createdSwiftCodes, createdItems, items, mode);
+        if (mode == BulkMode.ALL_OR_NOTHING && insertedSwiftCodes.size() < createdSwiftCodes.size()) {
+            return Result.success(SwiftCodeBulkResponse.of(mode, notApplied(items)));
+        }
+        if (!insertedSwiftCodes.isEmpty()) {
+            eventPublisher.publishEvent(new SwiftCodesChangedEvent(insertedSwiftCodes, List.of()));
+        }
+        return Result.success(SwiftCodeBulkResponse.of(mode, items));
+    }
+
+    /**
+     * Inserts the created swift codes and returns the ones inserted. The items of codes inserted by someone else since
+     * they were checked turn into conflicts; in best-effort mode the other codes are then inserted again.
+     */
+    private List<SwiftCode> insertAll(
+            List<SwiftCode> swiftCodes,
+            Map<String, Integer> itemIndexes,
+            List<SwiftCodeBulkResponse.Item> items,
+            BulkMode mode) {
+        List<SwiftCode> remaining = swiftCodes;
+        while (!remaining.isEmpty()) {
+            try {
+                repository.insertAll(remaining);
+                return remaining;
+            } catch (DuplicateKeyException e) {
+                Set<String> existingIds = new HashSet<>(repository.findExistingSwiftCodes(
+                        remaining.stream().map(SwiftCode::getSwiftCode).toList()));
+                if (existingIds.isEmpty()) {
+                    throw e;
+                }
+                log.info("Swift codes {} were created concurrently, reporting them as conflicts", existingIds);
+                existingIds.forEach(swiftCodeId -> items.set(itemIndexes.get(swiftCodeId), conflict(swiftCodeId)));
+                if (mode == BulkMode.ALL_OR_NOTHING) {
+                    return List.of();
+                }
+                remaining = remaining.stream()
+                        .filter(swiftCode -> !existingIds.contains(swiftCode.getSwiftCode()))
+                        .toList();
+            }
+        }
+        return remaining;
+    }
+
+    @Override
+    @Transactional
+    public Result<SwiftCodeBulkResponse> deleteSwiftCodes(List<String> swiftCodeIds, BulkMode mode) {
+        Map<String, SwiftCode> swiftCodes = repository.findAllById(new LinkedHashSet<>(swiftCodeIds)).stream()
+                .collect(Collectors.toMap(SwiftCode::getSwiftCode, Function.identity()));
+        Set<String> headquarterCodes = swiftCodes.values().stream()
+                .filter(SwiftCode::isHeadquarter)
+                .map(SwiftCode::getHeadquarterCode)
+                .collect(Collectors.toSet());
+        Map<String, List<SwiftCode>> branchesByHeadquarterCode = headquarterCodes.isEmpty()
+                ? Map.of()
+                : directory.findByHeadquarterCodeIn(headquarterCodes).stream()
+                        .collect(Collectors.groupingBy(SwiftCode::getHeadquarterCode));
+
+        List<SwiftCodeBulkResponse.Item> items = new ArrayList<>(swiftCodeIds.size());
+        List<SwiftCode> deletedSwiftCodes = new ArrayList<>();
+        List<String> branchIds = new ArrayList<>();
+        Set<String> seenIds = new HashSet<>();
+        for (String swiftCodeId : swiftCodeIds) {
+            SwiftCode swiftCode = swiftCodes.get(swiftCodeId);
+            if (swiftCode == null) {
+                items.add(new SwiftCodeBulkResponse.Item(
+                        swiftCodeId, Status.NOT_FOUND, "Swift code of id: " + swiftCodeId + " not found"));
+            } else if (!seenIds.add(swiftCodeId)) {
+                items.add(new SwiftCodeBulkResponse.Item(
+                        swiftCodeId, Status.INVALID, "Swift code is given more than once in the request"));
+            } else if (swiftCode.isHeadquarter()) {
+                List<SwiftCode> group =
+                        branchesByHeadquarterCode.getOrDefault(swiftCode.getHeadquarterCode(), List.of(swiftCode));
+                deletedSwiftCodes.addAll(group);
+                items.add(new SwiftCodeBulkResponse.Item(
+                        swiftCodeId, Status.DELETED, String.format("deleted %d record(s)", group.size())));
+            } else {
+                if (!headquarterCodes.contains(swiftCode.getHeadquarterCode())) {
+                    branchIds.add(swiftCodeId);
+                    deletedSwiftCodes.add(swiftCode);
+                }
+                items.add(new SwiftCodeBulkResponse.Item(swiftCodeId, Status.DELETED, "deleted 1 record(s)"));
+            }
+        }
+
+        if (mode == BulkMode.ALL_OR_NOTHING && items.stream().anyMatch(item -> !item.isSuccess())) {
+            return Result.success(SwiftCodeBulkResponse.of(mode, notApplied(items)));
+        }
+        if (!headquarterCodes.isEmpty()) {
+            repository.deleteByHeadquarterCodeIn(headquarterCodes);
+        }
+        if (!branchIds.isEmpty()) {
+            repository.deleteAllByIdInBatch(branchIds);
+        }
+        if (!deletedSwiftCodes.isEmpty()) {
+            eventPublisher.publishEvent(SwiftCodesChangedEvent.deleted(deletedSwiftCodes));
+        }
+        return Result.success(SwiftCodeBulkResponse.of(mode, items));
+    }
+
+    private static SwiftCode toSwiftCode(SwiftCodeRequest swiftCodeRequest) {
+        if (swiftCodeRequest.getIsHeadquarter() == null) {
+            swiftCodeRequest.setIsHeadquarter(swiftCodeRequest.getSwiftCode().endsWith("XXX"));
+        }
+
+        return new SwiftCode(
+                swiftCodeRequest.getSwiftCode(),
+                swiftCodeRequest.getBankName(),
+                swiftCodeRequest.getAddress(),
+                swiftCodeRequest.getCountryISO2().toUpperCase(),
+                swiftCodeRequest.getCountryName().toUpperCase(),
+                swiftCodeRequest.getIsHeadquarter(),
+                swiftCodeRequest.getSwiftCode().substring(0, 8));
+    }
+
+    private static SwiftCodeBulkResponse.Item conflict(String swiftCodeId) {
+        return new SwiftCodeBulkResponse.Item(
+                swiftCodeId, Status.CONFLICT, "Swift code id: " + swiftCodeId + " currently exists");
+    }
+
+    private static String describe(Errors errors) {
+        return errors.getAllErrors().stream()
+                .map(ObjectError::getDefaultMessage)
+                .collect(Collectors.joining("; "));
+    }
+
+    /** The items of an all-or-nothing write which failed, with the ones which would have succeeded not applied. */
+    private static List<SwiftCodeBulkResponse.Item> notApplied(List<SwiftCodeBulkResponse.Item> items) {
+        return items.stream()
+                .map(item -> item.isSuccess()
+                        ? new SwiftCodeBulkResponse.Item(item.swiftCode(), Status.NOT_APPLIED, null)
+                        : item)
+                .toList();
     }
 }
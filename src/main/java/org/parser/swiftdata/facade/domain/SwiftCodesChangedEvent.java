@@ -0,0 +1,15 @@
+package org.parser.swiftdata.facade.domain;
+
+import java.util.List;
+
+/** Published by {@link SwiftCodeServiceImpl} inside the transaction that saved or deleted the given swift codes. */
+public record SwiftCodesChangedEvent(List<SwiftCode> saved, List<SwiftCode> deleted) {
+
+    public static SwiftCodesChangedEvent saved(SwiftCode swiftCode) {
+        return new SwiftCodesChangedEvent(List.of(swiftCode), List.of());
+    }
+
+    public static SwiftCodesChangedEvent deleted(List<SwiftCode> swiftCodes) {
+        return new SwiftCodesChangedEvent(List.of(), swiftCodes);
+    }
+}
@@ -0,0 +1,10 @@
+package org.parser.swiftdata.facade.dto;
+
+/**
+ * How a bulk write treats failing items: {@code ALL_OR_NOTHING} writes nothing unless every item can be written,
+ * {@code BEST_EFFORT} writes the items which can be and reports the others.
+ */
+public enum BulkMode {
+    ALL_OR_NOTHING,
+    BEST_EFFORT
+}
@@ -1,7 +1,8 @@
 package org.parser.swiftdata.facade.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.AbstractList;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.Getter;
 import org.parser.swiftdata.facade.domain.SwiftCode;
 
@@ -9,11 +10,32 @@ import org.parser.swiftdata.facade.domain.SwiftCode;
 public class CountrySwiftCodesResponse {
     private final String countryISO2;
     private final String countryName;
+    /** Responses of the rows created as the list is read, so serializing writes them one by one. */
     private final List<SwiftCodeBranchResponse> swiftCodes;
 
+    /** Value of {@code after} for the next page; absent on the last page and in unpaginated responses. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String nextCursor;
+
     public CountrySwiftCodesResponse(String countryISO2, String countryName, List<SwiftCode> swiftCodes) {
+        this(countryISO2, countryName, swiftCodes, null);
+    }
+
+    public CountrySwiftCodesResponse(
+            String countryISO2, String countryName, List<SwiftCode> swiftCodes, String nextCursor) {
         this.countryISO2 = countryISO2;
         this.countryName = countryName;
-        this.swiftCodes = swiftCodes.stream().map(SwiftCodeBranchResponse::new).collect(Collectors.toList());
+        this.swiftCodes = new AbstractList<>() {
+            @Override
+            public SwiftCodeBranchResponse get(int index) {
+                return new SwiftCodeBranchResponse(swiftCodes.get(index));
+            }
+
+            @Override
+            public int size() {
+                return swiftCodes.size();
+            }
+        };
+        this.nextCursor = nextCursor;
     }
 }
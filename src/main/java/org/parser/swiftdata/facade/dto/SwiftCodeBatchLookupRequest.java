@@ -0,0 +1,16 @@
+package org.parser.swiftdata.facade.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record SwiftCodeBatchLookupRequest(
+        @NotEmpty(message = "SWIFT codes cannot be empty")
+                @Size(
+                        max = MAX_SWIFT_CODES,
+                        message = "At most " + MAX_SWIFT_CODES + " SWIFT codes can be looked up at once")
+                List<@NotBlank(message = "SWIFT code cannot be empty") String> swiftCodes) {
+
+    public static final int MAX_SWIFT_CODES = 1000;
+}
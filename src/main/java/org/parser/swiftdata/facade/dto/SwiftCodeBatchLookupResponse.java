@@ -0,0 +1,9 @@
+package org.parser.swiftdata.facade.dto;
+
+import java.util.List;
+
+/**
+ * Result of a batch lookup. Every found entry has the same shape as the single lookup response, i.e. headquarters
+ * include their branches; codes which do not exist are listed in {@code misses}.
+ */
+public record SwiftCodeBatchLookupResponse(List<SwiftCodeBranchResponse> swiftCodes, List<String> misses) {}
@@ -0,0 +1,27 @@
+package org.parser.swiftdata.facade.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Items are validated one by one when the request is processed, so every invalid item is reported with its errors; only
+ * a missing item rejects the whole request.
+ */
+public record SwiftCodeBulkCreateRequest(
+        @NotEmpty(message = "SWIFT codes cannot be empty")
+                @Size(
+                        max = MAX_SWIFT_CODES,
+                        message = "At most " + MAX_SWIFT_CODES + " SWIFT codes can be created at once")
+                List<@NotNull(message = "SWIFT code cannot be null") SwiftCodeRequest> swiftCodes,
+        BulkMode mode) {
+
+    public static final int MAX_SWIFT_CODES = 1000;
+
+    public SwiftCodeBulkCreateRequest {
+        if (mode == null) {
+            mode = BulkMode.ALL_OR_NOTHING;
+        }
+    }
+}
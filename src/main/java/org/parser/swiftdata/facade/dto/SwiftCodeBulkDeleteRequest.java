@@ -0,0 +1,23 @@
+package org.parser.swiftdata.facade.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record SwiftCodeBulkDeleteRequest(
+        @NotEmpty(message = "SWIFT codes cannot be empty")
+                @Size(
+                        max = MAX_SWIFT_CODES,
+                        message = "At most " + MAX_SWIFT_CODES + " SWIFT codes can be deleted at once")
+                List<@NotBlank(message = "SWIFT code cannot be empty") String> swiftCodes,
+        BulkMode mode) {
+
+    public static final int MAX_SWIFT_CODES = 1000;
+
+    public SwiftCodeBulkDeleteRequest {
+        if (mode == null) {
+            mode = BulkMode.ALL_OR_NOTHING;
+        }
+    }
+}
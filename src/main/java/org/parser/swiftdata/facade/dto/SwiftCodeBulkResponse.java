@@ -0,0 +1,41 @@
+package org.parser.swiftdata.facade.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * Result of a bulk write with one entry per requested swift code, in request order. In {@code ALL_OR_NOTHING} mode a
+ * single failing item leaves the others {@code NOT_APPLIED}.
+ */
+public record SwiftCodeBulkResponse(BulkMode mode, int succeeded, int failed, List<Item> items) {
+
+    public enum Status {
+        CREATED,
+        DELETED,
+        INVALID,
+        CONFLICT,
+        NOT_FOUND,
+        NOT_APPLIED
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Item(String swiftCode, Status status, String message) {
+
+        @JsonIgnore
+        public boolean isSuccess() {
+            return status == Status.CREATED || status == Status.DELETED;
+        }
+    }
+
+    public static SwiftCodeBulkResponse of(BulkMode mode, List<Item> items) {
+        int succeeded = (int) items.stream().filter(Item::isSuccess).count();
+        return new SwiftCodeBulkResponse(mode, succeeded, items.size() - succeeded, items);
+    }
+
+    /** Whether every item was written. */
+    @JsonIgnore
+    public boolean isComplete() {
+        return failed == 0;
+    }
+}
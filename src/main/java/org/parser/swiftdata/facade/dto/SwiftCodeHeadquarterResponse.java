@@ -1,5 +1,6 @@
 package org.parser.swiftdata.facade.dto;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.Getter;
@@ -9,8 +10,19 @@ import org.parser.swiftdata.facade.domain.SwiftCode;
 public class SwiftCodeHeadquarterResponse extends SwiftCodeBranchResponse {
     private final List<SwiftCodeBranchResponse> branches;
 
-    public SwiftCodeHeadquarterResponse(SwiftCode swiftCode, List<SwiftCode> branches) {
+    public SwiftCodeHeadquarterResponse(SwiftCode swiftCode, Collection<SwiftCode> branches) {
         super(swiftCode);
         this.branches = branches.stream().map(SwiftCodeBranchResponse::new).collect(Collectors.toList());
     }
+
+    private SwiftCodeHeadquarterResponse(SwiftCode swiftCode, List<SwiftCodeBranchResponse> branches) {
+        super(swiftCode);
+        this.branches = branches;
+    }
+
+    /** Response sharing the given, already mapped, immutable list of branches. */
+    public static SwiftCodeHeadquarterResponse withBranchResponses(
+            SwiftCode swiftCode, List<SwiftCodeBranchResponse> branches) {
+        return new SwiftCodeHeadquarterResponse(swiftCode, branches);
+    }
 }
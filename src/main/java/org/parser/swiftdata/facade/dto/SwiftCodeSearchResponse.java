@@ -0,0 +1,6 @@
+package org.parser.swiftdata.facade.dto;
+
+import java.util.List;
+
+/** Swift codes matching a search, ordered by code. Headquarters are listed without their branches. */
+public record SwiftCodeSearchResponse(List<SwiftCodeBranchResponse> swiftCodes) {}
@@ -0,0 +1,159 @@
+package org.parser.swiftdata.infrastructure.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.parser.swiftdata.facade.domain.SwiftCode;
+import org.parser.swiftdata.facade.domain.SwiftCodesChangedEvent;
+import org.parser.swiftdata.infrastructure.error.BodyFormat;
+import org.parser.swiftdata.infrastructure.error.HandleResult;
+import org.parser.swiftdata.infrastructure.error.Result;
+import org.parser.swiftdata.infrastructure.parser.SwiftCodeDataLoadedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Cache of serialized successful responses keyed by endpoint, key, {@link BodyFormat} and, for JSON, whether it is
+ * pretty printed. Entries are evicted after
+ * commit of every write touching them, so a repeated request costs one map lookup. Caching starts once the data file
+ * has been imported; before that responses are serialized on every call but still carry an ETag. The ETags are weak,
+ * since Tomcat compresses only responses without a strong one.
+ */
+@Component
+@Slf4j
+public class ResponseCache {
+
+    private final Map<Key, CachedResponse> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile boolean active;
+
+    public Result<CachedResponse> get(Key key, Supplier<Result<?>> loader) {
+        CachedResponse cached = entries.get(key);
+        if (cached != null) {
+            return Result.success(cached);
+        }
+
+        long loadedGeneration = generation.get();
+        Result<CachedResponse> serialized = serialize(loader.get(), key.format(), key.pretty());
+        if (!serialized.isSuccess()) {
+            return serialized;
+        }
+
+        CachedResponse response = serialized.getData();
+        if (active && generation.get() == loadedGeneration) {
+            entries.put(key, response);
+            if (generation.get() != loadedGeneration) {
+                entries.remove(key, response);
+            }
+        }
+        return Result.success(response);
+    }
+
+    /** Serializes a response which is not worth caching, so that it still carries an ETag. */
+    public Result<CachedResponse> serialize(Result<?> result) {
+        return serialize(result, BodyFormat.JSON);
+    }
+
+    public Result<CachedResponse> serialize(Result<?> result, BodyFormat format) {
+        return serialize(result, format, false);
+    }
+
+    public Result<CachedResponse> serialize(Result<?> result, BodyFormat format, boolean pretty) {
+        if (!result.isSuccess()) {
+            return Result.failure(result.getError());
+        }
+        return Result.success(CachedResponse.of(HandleResult.serialize(result.getData(), format, pretty)));
+    }
+
+    @EventListener
+    public void onDataLoaded(SwiftCodeDataLoadedEvent event) {
+        generation.incrementAndGet();
+        entries.clear();
+        active = true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSwiftCodesChanged(SwiftCodesChangedEvent event) {
+        generation.incrementAndGet();
+        event.saved().forEach(this::evict);
+        event.deleted().forEach(this::evict);
+    }
+
+    private void evict(SwiftCode swiftCode) {
+        for (BodyFormat format : BodyFormat.values()) {
+            for (boolean pretty : new boolean[] {false, true}) {
+                entries.remove(Key.swiftCode(swiftCode.getSwiftCode(), format, pretty));
+                entries.remove(Key.swiftCode(swiftCode.getHeadquarterCode() + "XXX", format, pretty));
+                entries.remove(Key.country(swiftCode.getCountryISO2(), format, pretty));
+            }
+        }
+    }
+
+    public enum Endpoint {
+        SWIFT_CODE,
+        COUNTRY
+    }
+
+    /** Pretty printing applies to JSON only, so it is dropped from the keys of the binary formats. */
+    public record Key(Endpoint endpoint, String key, BodyFormat format, boolean pretty) {
+
+        public Key {
+            pretty = pretty && format == BodyFormat.JSON;
+        }
+
+        public static Key swiftCode(String swiftCode) {
+            return swiftCode(swiftCode, BodyFormat.JSON);
+        }
+
+        public static Key swiftCode(String swiftCode, BodyFormat format) {
+            return swiftCode(swiftCode, format, false);
+        }
+
+        public static Key swiftCode(String swiftCode, BodyFormat format, boolean pretty) {
+            return new Key(Endpoint.SWIFT_CODE, swiftCode, format, pretty);
+        }
+
+        public static Key country(String countryISO2) {
+            return country(countryISO2, BodyFormat.JSON);
+        }
+
+        public static Key country(String countryISO2, BodyFormat format) {
+            return country(countryISO2, format, false);
+        }
+
+        public static Key country(String countryISO2, BodyFormat format, boolean pretty) {
+            return new Key(Endpoint.COUNTRY, countryISO2, format, pretty);
+        }
+    }
+
+    public record CachedResponse(byte[] body, String eTag) {
+
+        static CachedResponse of(byte[] body) {
+            return new CachedResponse(body, "W/\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        }
+
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || opaqueTag(tag).equals(opaqueTag(eTag))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /** If-None-Match compares weakly, so a tag matches with or without its weakness indicator. */
+        private static String opaqueTag(String tag) {
+            return tag.startsWith("W/") ? tag.substring(2) : tag;
+        }
+    }
+}
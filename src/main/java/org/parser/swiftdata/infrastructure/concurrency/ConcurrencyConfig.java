@@ -0,0 +1,82 @@
+package org.parser.swiftdata.infrastructure.concurrency;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Support for running on virtual threads ({@code spring.threads.virtual.enabled}): a limit on concurrently held
+ * database connections in front of the pool, and metrics of virtual threads pinned to their carrier.
+ */
+@Configuration
+@Slf4j
+class ConcurrencyConfig {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+                    return bean;
+                }
+                ConnectionLimitProperties properties =
+                        Binder.get(environment).bindOrCreate("swift-codes.datasource", ConnectionLimitProperties.class);
+                int maxConcurrentConnections = properties.maxConcurrentConnections() > 0
+                        ? properties.maxConcurrentConnections()
+                        : poolSize(dataSource);
+                log.info("Limiting data source '{}' to {} concurrent connections", beanName, maxConcurrentConnections);
+                return new ConnectionLimitingDataSource(
+                        dataSource, maxConcurrentConnections, properties.acquireTimeout());
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder connectionLimitMetrics(DataSource dataSource) {
+        return registry -> {
+            try {
+                if (dataSource.isWrapperFor(ConnectionLimitingDataSource.class)) {
+                    ConnectionLimitingDataSource limited = dataSource.unwrap(ConnectionLimitingDataSource.class);
+                    Gauge.builder("datasource.connection.permits.available", limited::availablePermits)
+                            .description("Connections which may still be checked out")
+                            .register(registry);
+                    Gauge.builder("datasource.connection.permits.waiting", limited::waitingThreads)
+                            .description("Threads waiting for a connection permit")
+                            .register(registry);
+                }
+            } catch (SQLException e) {
+                log.warn("Could not register connection limit metrics: {}", e.getMessage());
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry, Environment environment) {
+        return new VirtualThreadPinningMonitor(
+                meterRegistry,
+                environment.getProperty(
+                        "swift-codes.virtual-threads.pinned-threshold", Duration.class, Duration.ofMillis(20)));
+    }
+
+    /** Hikari reports -1 until the pool is started and then falls back to its default size of 10. */
+    private static int poolSize(DataSource dataSource) {
+        int poolSize = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : -1;
+        return poolSize > 0 ? poolSize : DEFAULT_POOL_SIZE;
+    }
+}
@@ -0,0 +1,14 @@
+package org.parser.swiftdata.infrastructure.concurrency;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param maxConcurrentConnections connections which may be checked out at the same time; 0 uses the maximum size of
+ *     the connection pool
+ * @param acquireTimeout how long a caller waits for a permit before the connection request fails
+ */
+@ConfigurationProperties(prefix = "swift-codes.datasource")
+record ConnectionLimitProperties(
+        @DefaultValue("0") int maxConcurrentConnections, @DefaultValue("30s") Duration acquireTimeout) {}
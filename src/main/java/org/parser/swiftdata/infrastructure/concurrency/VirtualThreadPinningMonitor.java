@@ -0,0 +1,65 @@
+package org.parser.swiftdata.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event, emitted when a virtual thread blocks while pinned to its
+ * carrier (e.g. inside a {@code synchronized} block), into the {@code jvm.threads.virtual.pinned} timer. The stack
+ * trace of the pinned thread is logged at debug level.
+ */
+@Slf4j
+class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Timer pinnedTimer;
+
+    private final Counter pinnedCounter;
+
+    private final Duration threshold;
+
+    private RecordingStream recordingStream;
+
+    VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.threshold = threshold;
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent blocked while pinned to their carrier thread")
+                .register(meterRegistry);
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned.events")
+                .description("Number of times a virtual thread blocked while pinned to its carrier thread")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, event -> {
+            pinnedTimer.record(event.getDuration());
+            pinnedCounter.increment();
+            if (log.isDebugEnabled()) {
+                log.debug("Virtual thread pinned for {}: {}", event.getDuration(), event.getStackTrace());
+            }
+        });
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recordingStream != null;
+    }
+}
@@ -0,0 +1,34 @@
+package org.parser.swiftdata.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * JDBC and R2DBC access to the same database. Spring Boot does not configure a JDBC data source once an R2DBC
+ * {@link ConnectionFactory} exists, so it is declared here from the usual {@code spring.datasource.*} properties; JPA
+ * keeps serving all writes and the blocking reads, R2DBC only the reactive read endpoints.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties
+                .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+}
@@ -0,0 +1,71 @@
+package org.parser.swiftdata.infrastructure.error;
+
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Encodings the API writes its responses in. JSON is the default; CBOR and Smile are binary encodings of the same
+ * document, Protobuf follows {@code src/main/proto/swift_codes.proto} and covers the lookup responses only.
+ */
+public enum BodyFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(MediaType.parseMediaType(BodyFormat.SMILE_VALUE)),
+    PROTOBUF(MediaType.parseMediaType(BodyFormat.PROTOBUF_VALUE));
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    public static final String PROTOBUF_VALUE = "application/x-protobuf";
+
+    private final MediaType mediaType;
+
+    BodyFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /** Format of the given content type, JSON for any other. */
+    public static BodyFormat of(MediaType contentType) {
+        if (contentType != null) {
+            for (BodyFormat format : values()) {
+                if (format.mediaType.equalsTypeAndSubtype(contentType)) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+
+    /**
+     * Format preferred by an {@code Accept} header: the first format, in declaration order, included by the accepted
+     * type of the highest quality. JSON when the header is absent, malformed or accepts none of them.
+     */
+    public static BodyFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept).stream()
+                    .filter(mediaType -> mediaType.getQualityValue() > 0)
+                    .sorted(Comparator.comparingDouble(MediaType::getQualityValue)
+                            .reversed())
+                    .toList();
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        for (MediaType mediaType : accepted) {
+            for (BodyFormat format : values()) {
+                if (mediaType.includes(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+}
@@ -2,31 +2,173 @@ package org.parser.swiftdata.infrastructure.error;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.text.SimpleDateFormat;
+import java.util.EnumMap;
+import java.util.Map;
 import lombok.SneakyThrows;
+import org.parser.swiftdata.infrastructure.cache.ResponseCache.CachedResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+/**
+ * Builds the responses of the API. Bodies are compact JSON written straight to the response stream; a request with
+ * {@code ?pretty=true} gets them indented. Clients asking for one of the binary {@link BodyFormat}s in {@code Accept}
+ * get the body in that encoding instead, so every response carries {@code Vary: Accept}.
+ */
 public class HandleResult {
-    private static final ObjectWriter ow = new ObjectMapper()
-            .enable(SerializationFeature.INDENT_OUTPUT)
-            .registerModule(new JavaTimeModule())
-            .setDateFormat(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"))
-            .writerWithDefaultPrettyPrinter();
+    private static final ObjectMapper mapper = configure(new ObjectMapper());
 
-    @SneakyThrows
-    public static ResponseEntity<String> handleResult(Result<?> toHandle, HttpStatus onSuccess, String uri) {
-        if (toHandle.isSuccess()) return new ResponseEntity<>(ow.writeValueAsString(toHandle.getData()), onSuccess);
+    private static final ObjectWriter ow = mapper.writer();
+
+    private static final ObjectWriter prettyWriter = mapper.writerWithDefaultPrettyPrinter();
+
+    private static final ObjectWriter cborWriter = configure(new CBORMapper()).writer();
+
+    private static final ObjectWriter smileWriter = configure(new SmileMapper()).writer();
+
+    /**
+     * Encoding bodies into memory, and writing them to the response stream, which includes the time the client takes to
+     * accept them. Registered globally, where Spring Boot adds its registries, since responses are written statically.
+     */
+    private static final Map<BodyFormat, Timer> serializationTimers =
+            timers("swift.codes.serialization", "Time taken to encode response bodies");
+
+    private static final Map<BodyFormat, Timer> responseWriteTimers =
+            timers("swift.codes.response.write", "Time taken to write response bodies to the response stream");
+
+    public static ResponseEntity<JsonBody> handleResult(Result<?> toHandle, HttpStatus onSuccess, String uri) {
+        return handleResult(toHandle, onSuccess, uri, prettyRequested());
+    }
+
+    /** For handlers running outside the request thread, which tell whether pretty output was requested. */
+    public static ResponseEntity<JsonBody> handleResult(
+            Result<?> toHandle, HttpStatus onSuccess, String uri, boolean pretty) {
+        if (toHandle.isSuccess()) {
+            return ResponseEntity.status(onSuccess)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(new JsonBody(toHandle.getData(), pretty));
+        }
         Error error = toHandle.getError();
         ErrorWrapper errorWrapper = getInfoByError(error, uri, onSuccess);
-        return new ResponseEntity<>(ow.writeValueAsString(errorWrapper), errorWrapper.occurredStatus());
+        return ResponseEntity.status(errorWrapper.occurredStatus())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(new JsonBody(errorWrapper, pretty));
+    }
+
+    /**
+     * Writes a response already serialized in {@code format}, pretty printed when it was requested. Answers
+     * {@code 304 Not Modified} when the client holds the current representation according to {@code If-None-Match}.
+     */
+    public static ResponseEntity<byte[]> handleCachedResult(
+            Result<CachedResponse> toHandle, BodyFormat format, HttpStatus onSuccess, String uri, String ifNoneMatch) {
+        if (toHandle.isSuccess()) {
+            CachedResponse response = toHandle.getData();
+            if (response.matches(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(response.eTag())
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .build();
+            }
+            return ResponseEntity.status(onSuccess)
+                    .eTag(response.eTag())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .contentType(format.mediaType())
+                    .body(response.body());
+        }
+        ErrorWrapper errorWrapper = getInfoByError(toHandle.getError(), uri, onSuccess);
+        return ResponseEntity.status(errorWrapper.occurredStatus())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format.mediaType())
+                .body(serialize(new JsonBody(errorWrapper, prettyRequested()), format));
+    }
+
+    /** Compact JSON of a response, as stored by the response cache. */
+    public static byte[] serialize(Object data) {
+        return serialize(data, BodyFormat.JSON);
+    }
+
+    /** A response in the given format, as stored by the response cache. */
+    public static byte[] serialize(Object data, BodyFormat format) {
+        return serialize(data, format, false);
+    }
+
+    /** A response in the given format, as stored by the response cache; pretty printing applies to JSON only. */
+    public static byte[] serialize(Object data, BodyFormat format, boolean pretty) {
+        return serialize(new JsonBody(data, pretty), format);
+    }
+
+    public static ResponseEntity<JsonBody> handleError(ErrorWrapper errorWrapper) {
+        return ResponseEntity.status(errorWrapper.occurredStatus())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(new JsonBody(errorWrapper, prettyRequested()));
+    }
+
+    static void write(JsonBody body, OutputStream output) {
+        write(body, BodyFormat.JSON, output);
     }
 
+    /** Writes the body in the given format; pretty printing applies to JSON only. */
     @SneakyThrows
-    public static ResponseEntity<String> handleError(ErrorWrapper errorWrapper) {
-        return new ResponseEntity<>(ow.writeValueAsString(errorWrapper), errorWrapper.occurredStatus());
+    static void write(JsonBody body, BodyFormat format, OutputStream output) {
+        responseWriteTimers.get(format).recordCallable(() -> {
+            encode(body, format, output);
+            return null;
+        });
+    }
+
+    @SneakyThrows
+    private static byte[] serialize(JsonBody body, BodyFormat format) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        serializationTimers.get(format).recordCallable(() -> {
+            encode(body, format, output);
+            return null;
+        });
+        return output.toByteArray();
+    }
+
+    private static void encode(JsonBody body, BodyFormat format, OutputStream output) throws IOException {
+        switch (format) {
+            case JSON -> (body.pretty() ? prettyWriter : ow).writeValue(output, body.value());
+            case CBOR -> cborWriter.writeValue(output, body.value());
+            case SMILE -> smileWriter.writeValue(output, body.value());
+            case PROTOBUF -> ProtobufBodyWriter.write(body.value(), output);
+        }
+    }
+
+    private static Map<BodyFormat, Timer> timers(String name, String description) {
+        Map<BodyFormat, Timer> timers = new EnumMap<>(BodyFormat.class);
+        for (BodyFormat format : BodyFormat.values()) {
+            timers.put(
+                    format,
+                    Timer.builder(name)
+                            .description(description)
+                            .tag("format", format.name().toLowerCase())
+                            .publishPercentileHistogram()
+                            .register(Metrics.globalRegistry));
+        }
+        return timers;
+    }
+
+    private static <T extends ObjectMapper> T configure(T mapper) {
+        mapper.registerModule(new JavaTimeModule()).setDateFormat(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"));
+        return mapper;
+    }
+
+    /** Whether the current request asks for pretty JSON with {@code ?pretty=true}. */
+    public static boolean prettyRequested() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                && Boolean.parseBoolean(attributes.getRequest().getParameter("pretty"));
     }
 
     private static ErrorWrapper getInfoByError(Error error, String uri, HttpStatus onSuccess) {
@@ -40,6 +182,18 @@ public class HandleResult {
                     HttpStatus.NOT_FOUND);
             case SwiftCodeError.SwiftCodeIdExists e -> new ErrorWrapper(
                     "Swift code id: " + e.id() + " currently exists", onSuccess, uri, HttpStatus.CONFLICT);
+            case SwiftCodeError.DataImportNotFoundById e -> new ErrorWrapper(
+                    "Import of id: " + e.id() + " not found", onSuccess, uri, HttpStatus.NOT_FOUND);
+            case SwiftCodeError.DataFileNotReadable e -> new ErrorWrapper(
+                    "Data file: " + e.path() + " does not exist or is not readable",
+                    onSuccess,
+                    uri,
+                    HttpStatus.BAD_REQUEST);
+            case SwiftCodeError.DataFileOutsideImportDirectory e -> new ErrorWrapper(
+                    "Data file: " + e.fileName() + " is not in the import directory",
+                    onSuccess,
+                    uri,
+                    HttpStatus.BAD_REQUEST);
         };
     }
 }
@@ -0,0 +1,7 @@
+package org.parser.swiftdata.infrastructure.error;
+
+/**
+ * Response body written by {@link JsonBodyHttpMessageConverter} straight to the response stream, as compact JSON
+ * unless {@code pretty} or unless the client negotiated another {@link BodyFormat}.
+ */
+public record JsonBody(Object value, boolean pretty) {}
@@ -0,0 +1,46 @@
+package org.parser.swiftdata.infrastructure.error;
+
+import java.io.IOException;
+import java.util.Arrays;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Writes {@link JsonBody} responses in the {@link BodyFormat} of the negotiated content type; picked up by Spring Boot
+ * ahead of the default converters.
+ */
+@Component
+class JsonBodyHttpMessageConverter extends AbstractHttpMessageConverter<JsonBody> {
+
+    JsonBodyHttpMessageConverter() {
+        super(Arrays.stream(BodyFormat.values()).map(BodyFormat::mediaType).toArray(MediaType[]::new));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JsonBody.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected JsonBody readInternal(Class<? extends JsonBody> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("JsonBody is written only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(JsonBody body, HttpOutputMessage outputMessage) throws IOException {
+        HandleResult.write(
+                body,
+                BodyFormat.of(outputMessage.getHeaders().getContentType()),
+                StreamUtils.nonClosing(outputMessage.getBody()));
+    }
+}
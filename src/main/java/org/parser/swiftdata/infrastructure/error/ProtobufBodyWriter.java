@@ -0,0 +1,110 @@
+package org.parser.swiftdata.infrastructure.error;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import org.parser.swiftdata.facade.dto.CountrySwiftCodesResponse;
+import org.parser.swiftdata.facade.dto.SwiftCodeBatchLookupResponse;
+import org.parser.swiftdata.facade.dto.SwiftCodeBranchResponse;
+import org.parser.swiftdata.facade.dto.SwiftCodeHeadquarterResponse;
+import org.parser.swiftdata.facade.dto.SwiftCodeSearchResponse;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * Writes the lookup responses and errors as the messages of {@code src/main/proto/swift_codes.proto}, straight from the
+ * response objects rather than through generated classes. Nested messages are length-prefixed, so their size is
+ * computed before they are written.
+ */
+class ProtobufBodyWriter {
+
+    private ProtobufBodyWriter() {}
+
+    static void write(Object value, OutputStream output) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(output);
+        switch (value) {
+            case SwiftCodeBranchResponse swiftCode -> writeSwiftCodeFields(out, swiftCode, true);
+            case CountrySwiftCodesResponse country -> {
+                writeString(out, 1, country.getCountryISO2());
+                writeString(out, 2, country.getCountryName());
+                writeSwiftCodes(out, 3, country.getSwiftCodes(), false);
+                writeString(out, 4, country.getNextCursor());
+            }
+            case SwiftCodeBatchLookupResponse batch -> {
+                writeSwiftCodes(out, 1, batch.swiftCodes(), true);
+                for (String miss : batch.misses()) {
+                    out.writeString(2, miss);
+                }
+            }
+            case SwiftCodeSearchResponse search -> writeSwiftCodes(out, 1, search.swiftCodes(), true);
+            case ErrorWrapper error -> {
+                writeString(out, 1, error.errorMessage());
+                out.writeInt32(2, error.expectedStatus().value());
+                writeString(out, 3, error.uri());
+                out.writeInt32(4, error.occurredStatus().value());
+            }
+            default -> throw new HttpMessageNotWritableException(
+                    value.getClass().getSimpleName() + " has no Protobuf encoding");
+        }
+        out.flush();
+    }
+
+    private static void writeSwiftCodes(
+            CodedOutputStream out, int field, List<? extends SwiftCodeBranchResponse> swiftCodes, boolean withCountry)
+            throws IOException {
+        for (SwiftCodeBranchResponse swiftCode : swiftCodes) {
+            out.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(swiftCodeSize(swiftCode, withCountry));
+            writeSwiftCodeFields(out, swiftCode, withCountry);
+        }
+    }
+
+    private static void writeSwiftCodeFields(
+            CodedOutputStream out, SwiftCodeBranchResponse swiftCode, boolean withCountry) throws IOException {
+        writeString(out, 1, swiftCode.getAddress());
+        writeString(out, 2, swiftCode.getBankName());
+        if (withCountry) {
+            writeString(out, 3, swiftCode.getCountryISO2());
+            writeString(out, 4, swiftCode.getCountryName());
+        }
+        if (swiftCode.isHeadquarter()) {
+            out.writeBool(5, true);
+        }
+        writeString(out, 6, swiftCode.getSwiftCode());
+        if (swiftCode instanceof SwiftCodeHeadquarterResponse headquarter) {
+            writeSwiftCodes(out, 7, headquarter.getBranches(), true);
+        }
+    }
+
+    private static int swiftCodeSize(SwiftCodeBranchResponse swiftCode, boolean withCountry) {
+        int size = stringSize(1, swiftCode.getAddress()) + stringSize(2, swiftCode.getBankName());
+        if (withCountry) {
+            size += stringSize(3, swiftCode.getCountryISO2()) + stringSize(4, swiftCode.getCountryName());
+        }
+        if (swiftCode.isHeadquarter()) {
+            size += CodedOutputStream.computeBoolSize(5, true);
+        }
+        size += stringSize(6, swiftCode.getSwiftCode());
+        if (swiftCode instanceof SwiftCodeHeadquarterResponse headquarter) {
+            for (SwiftCodeBranchResponse branch : headquarter.getBranches()) {
+                int branchSize = swiftCodeSize(branch, true);
+                size += CodedOutputStream.computeTagSize(7)
+                        + CodedOutputStream.computeUInt32SizeNoTag(branchSize)
+                        + branchSize;
+            }
+        }
+        return size;
+    }
+
+    /** Empty strings are the proto3 default and are left out, as generated code does. */
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            out.writeString(field, value);
+        }
+    }
+
+    private static int stringSize(int field, String value) {
+        return value == null || value.isEmpty() ? 0 : CodedOutputStream.computeStringSize(field, value);
+    }
+}
@@ -7,4 +7,10 @@ public sealed interface SwiftCodeError extends Error {
     record CountryNotFoundByCountryISO2(String countryISO2code) implements SwiftCodeError {}
 
     record SwiftCodeIdExists(String id) implements SwiftCodeError {}
+
+    record DataImportNotFoundById(long id) implements SwiftCodeError {}
+
+    record DataFileNotReadable(String path) implements SwiftCodeError {}
+
+    record DataFileOutsideImportDirectory(String fileName) implements SwiftCodeError {}
 }
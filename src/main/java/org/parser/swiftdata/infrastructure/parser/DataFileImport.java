@@ -0,0 +1,30 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.*;
+
+/** A data file applied by the delta import, identified by the SHA-256 checksum of its content. */
+@Entity
+@Table(name = "data_file_imports")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+class DataFileImport {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "checksum", nullable = false, length = 64)
+    private String checksum;
+
+    @Column(name = "row_count", nullable = false)
+    private int rowCount;
+
+    @Column(name = "imported_at", nullable = false)
+    private Instant importedAt;
+}
@@ -0,0 +1,11 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+interface DataFileImportRepository extends JpaRepository<DataFileImport, Long> {
+
+    Optional<DataFileImport> findFirstByOrderByIdDesc();
+}
@@ -0,0 +1,12 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled whether a change of the data file is swapped in while the application runs
+ * @param quietPeriod how long the file must stay unchanged after a change before it is imported
+ */
+@ConfigurationProperties(prefix = "data.file.watch")
+record DataFileWatchProperties(@DefaultValue("false") boolean enabled, @DefaultValue("5s") Duration quietPeriod) {}
@@ -0,0 +1,117 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.parser.swiftdata.infrastructure.error.Result;
+import org.parser.swiftdata.infrastructure.parser.DataImportProperties.ImportStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Watches the directory of {@code data.file.path} and queues an {@link ImportStrategy#SWAP} import once the data file
+ * has been created or modified and then left alone for {@code data.file.watch.quiet-period}. Copying a file in place
+ * raises several modify events; waiting for them to stop keeps a half-written file from being imported.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "data.file.watch.enabled", havingValue = "true")
+class DataFileWatcher {
+
+    private final DataLoaderService dataLoaderService;
+
+    private final DataFileWatchProperties properties;
+
+    private final Path dataFile;
+
+    private volatile WatchService watchService;
+
+    DataFileWatcher(
+            DataLoaderService dataLoaderService,
+            DataFileWatchProperties properties,
+            @Value("${data.file.path}") String dataFilePath) {
+        this.dataLoaderService = dataLoaderService;
+        this.properties = properties;
+        this.dataFile = Path.of(dataFilePath).toAbsolutePath();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+        Path directory = dataFile.getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            log.warn("Directory of data file '{}' does not exist, not watching it", dataFile);
+            return;
+        }
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        Thread.ofPlatform().name("data-file-watcher").daemon().start(this::watch);
+        log.info("Watching data file '{}' for changes", dataFile);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void watch() {
+        boolean changed = false;
+        long quietUntil = 0;
+        try {
+            while (true) {
+                WatchKey key;
+                if (changed) {
+                    key = watchService.poll(quietUntil - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (key == null) {
+                        changed = false;
+                        swapIn();
+                        continue;
+                    }
+                } else {
+                    key = watchService.take();
+                }
+
+                if (touchesDataFile(key)) {
+                    changed = true;
+                    quietUntil = System.nanoTime() + properties.quietPeriod().toNanos();
+                }
+                if (!key.reset()) {
+                    log.warn("Directory of data file '{}' is no longer accessible, stopped watching it", dataFile);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.info("Stopped watching data file '{}'", dataFile);
+        }
+    }
+
+    private boolean touchesDataFile(WatchKey key) {
+        boolean touched = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            touched |= event.kind() == OVERFLOW || dataFile.getFileName().equals(event.context());
+        }
+        return touched;
+    }
+
+    private void swapIn() {
+        Result<DataImportResponse> started = dataLoaderService.startImport(dataFile.toString(), ImportStrategy.SWAP);
+        if (started.isSuccess()) {
+            log.info(
+                    "Data file '{}' changed, queued import {}",
+                    dataFile,
+                    started.getData().id());
+        } else {
+            log.warn("Data file '{}' changed but cannot be read, keeping the stored swift codes", dataFile);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import static org.parser.swiftdata.infrastructure.error.HandleResult.handleResult;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.parser.swiftdata.infrastructure.error.JsonBody;
+import org.parser.swiftdata.infrastructure.error.Result;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("v1/admin/imports")
+@RequiredArgsConstructor
+class DataImportController {
+
+    private final DataLoaderService dataLoaderService;
+
+    @Value("${data.file.path:}")
+    private String dataFilePath;
+
+    @PostMapping(path = "/", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<JsonBody> startImport(
+            @RequestBody(required = false) DataImportRequest importRequest, HttpServletRequest request) {
+        Result<DataImportResponse> started = importRequest == null || importRequest.fileName() == null
+                ? dataLoaderService.startImport(dataFilePath)
+                : dataLoaderService.startImportFromDirectory(importRequest.fileName());
+        return handleResult(started, HttpStatus.ACCEPTED, request.getRequestURI());
+    }
+
+    @GetMapping(path = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<JsonBody> getImport(@PathVariable long id, HttpServletRequest request) {
+        return handleResult(dataLoaderService.findImport(id), HttpStatus.OK, request.getRequestURI());
+    }
+}
@@ -0,0 +1,23 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/** Out of service until the import queued at startup has finished; part of the readiness group. */
+@Component
+@RequiredArgsConstructor
+class DataImportHealthIndicator implements HealthIndicator {
+
+    private final DataLoaderService dataLoaderService;
+
+    @Override
+    public Health health() {
+        return dataLoaderService.isInitialImportFinished()
+                ? Health.up().build()
+                : Health.outOfService()
+                        .withDetail("reason", "initial import running")
+                        .build();
+    }
+}
@@ -0,0 +1,114 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import java.io.File;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import org.parser.swiftdata.infrastructure.parser.DataImportProperties.ImportStrategy;
+
+/**
+ * Progress of one import run. The importing threads add the records they processed or skipped and the offset of the
+ * file they have read up to; the remaining time is estimated from the share of the file still to be read.
+ */
+@Getter
+final class DataImportProgress {
+
+    enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final long id;
+
+    private final String filePath;
+
+    private final ImportStrategy strategy;
+
+    private final long fileBytes;
+
+    private final AtomicLong processedRecords = new AtomicLong();
+
+    private final AtomicLong skippedRecords = new AtomicLong();
+
+    private final AtomicLong bytesRead = new AtomicLong();
+
+    private volatile Status status = Status.QUEUED;
+
+    private volatile Instant startedAt;
+
+    private volatile Instant finishedAt;
+
+    private volatile String failure;
+
+    DataImportProgress(long id, File file, ImportStrategy strategy) {
+        this.id = id;
+        this.filePath = file.getPath();
+        this.strategy = strategy;
+        this.fileBytes = file.length();
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+    }
+
+    void addProcessed(long records) {
+        processedRecords.addAndGet(records);
+    }
+
+    void addSkipped(long records) {
+        skippedRecords.addAndGet(records);
+    }
+
+    /** Records that the file has been read up to {@code position}; earlier positions are ignored. */
+    void readUpTo(long position) {
+        bytesRead.accumulateAndGet(position, Math::max);
+    }
+
+    void complete() {
+        bytesRead.set(fileBytes);
+        finishedAt = Instant.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        failure = message;
+        finishedAt = Instant.now();
+        status = Status.FAILED;
+    }
+
+    boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    DataImportResponse toResponse() {
+        Instant started = startedAt;
+        Instant finished = finishedAt;
+        double elapsedSeconds = started == null
+                ? 0
+                : Duration.between(started, finished == null ? Instant.now() : finished)
+                                .toNanos()
+                        / 1_000_000_000.0;
+        long processed = processedRecords.get();
+        long read = bytesRead.get();
+        double completed = fileBytes > 0 ? (double) read / fileBytes : isFinished() ? 1 : 0;
+        Long etaSeconds =
+                status != Status.RUNNING || read == 0 ? null : Math.round(elapsedSeconds * (fileBytes - read) / read);
+        return new DataImportResponse(
+                id,
+                filePath,
+                strategy,
+                status,
+                started,
+                finished,
+                processed,
+                skippedRecords.get(),
+                Math.round(completed * 1000) / 10.0,
+                elapsedSeconds > 0 ? Math.round(processed / elapsedSeconds) : 0,
+                etaSeconds,
+                failure);
+    }
+}
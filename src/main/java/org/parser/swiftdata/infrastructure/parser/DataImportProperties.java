@@ -0,0 +1,31 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param directory directory whose files may be imported by name through {@code POST /v1/admin/imports/}; empty allows
+ *     only the configured {@code data.file.path}
+ */
+@ConfigurationProperties(prefix = "data.import")
+record DataImportProperties(
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("batch") ImportStrategy strategy,
+        @DefaultValue("0") int parserThreads,
+        @DefaultValue("4") int writerThreads,
+        @DefaultValue("8") int queueCapacity,
+        @DefaultValue("0.5") double swapMinRowRatio,
+        @DefaultValue("") String directory) {
+
+    enum ImportStrategy {
+        BATCH,
+        COPY,
+        PARALLEL,
+        DELTA,
+        SWAP
+    }
+
+    int effectiveParserThreads() {
+        return parserThreads > 0 ? parserThreads : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,7 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+/**
+ * @param fileName name of the file in the {@code data.import.directory} to import; the configured
+ *     {@code data.file.path} when absent
+ */
+record DataImportRequest(String fileName) {}
@@ -0,0 +1,30 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import org.parser.swiftdata.infrastructure.parser.DataImportProgress.Status;
+import org.parser.swiftdata.infrastructure.parser.DataImportProperties.ImportStrategy;
+
+/**
+ * State of an import run.
+ *
+ * @param percentComplete share of the file read so far
+ * @param rowsPerSecond records processed per second since the start
+ * @param etaSeconds estimated time until the file is read; absent unless running
+ * @param error why the import failed; absent unless failed
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+record DataImportResponse(
+        long id,
+        String filePath,
+        ImportStrategy strategy,
+        Status status,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Instant startedAt,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Instant finishedAt,
+        long processedRecords,
+        long skippedRecords,
+        double percentComplete,
+        long rowsPerSecond,
+        Long etaSeconds,
+        String error) {}
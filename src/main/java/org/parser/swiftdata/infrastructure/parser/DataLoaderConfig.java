@@ -1,16 +1,27 @@
 package org.parser.swiftdata.infrastructure.parser;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties({DataImportProperties.class, DataFileWatchProperties.class})
 class DataLoaderConfig {
 
     @Bean
     public CommandLineRunner loadSwiftData(
             DataLoaderService dataLoaderService, @Value("${data.file.path}") String dataFilePath) {
-        return (args) -> dataLoaderService.loadSwiftCodeData(dataFilePath);
+        return (args) -> dataLoaderService.startInitialImport(dataFilePath);
+    }
+
+    /** Runs imports one after another, so a re-import requested during an import waits for it. */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService dataImportExecutor() {
+        return Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("data-import").daemon().factory());
     }
 }
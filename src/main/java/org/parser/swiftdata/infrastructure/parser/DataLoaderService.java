@@ -1,10 +1,28 @@
 package org.parser.swiftdata.infrastructure.parser;
 
 import java.io.File;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.parser.swiftdata.facade.DirectorySnapshotService;
+import org.parser.swiftdata.infrastructure.error.Result;
+import org.parser.swiftdata.infrastructure.error.SwiftCodeError;
+import org.parser.swiftdata.infrastructure.parser.DataImportProperties.ImportStrategy;
+import org.parser.swiftdata.infrastructure.parser.SwiftCodeDataLoadedEvent.Origin;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+/**
+ * Runs imports of the data file one at a time on the {@code dataImportExecutor} and keeps their progress. An import
+ * fails when its strategy throws; once it finishes, successfully or not, {@link SwiftCodeDataLoadedEvent} is published
+ * so the read model reloads.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -12,12 +30,129 @@ class DataLoaderService {
 
     private final SwiftCodeParserService swiftCodeParserService;
 
-    public void loadSwiftCodeData(String dataFilePath) {
+    private final SwiftCodeCopyLoaderService swiftCodeCopyLoaderService;
+
+    private final SwiftCodeImportPipeline swiftCodeImportPipeline;
+
+    private final SwiftCodeDeltaImportService swiftCodeDeltaImportService;
+
+    private final SwiftCodeTableSwapService swiftCodeTableSwapService;
+
+    private final DataImportProperties importProperties;
+
+    private final DirectorySnapshotService directorySnapshotService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ExecutorService dataImportExecutor;
+
+    private final Map<Long, DataImportProgress> imports = new ConcurrentHashMap<>();
+
+    private final AtomicLong importIds = new AtomicLong();
+
+    private volatile boolean initialImportFinished;
+
+    /** Queues an import of the file with the configured strategy and returns its progress right away. */
+    public Result<DataImportResponse> startImport(String dataFilePath) {
+        return startImport(dataFilePath, importProperties.strategy());
+    }
+
+    public Result<DataImportResponse> startImport(String dataFilePath, ImportStrategy strategy) {
         File dataFile = new File(dataFilePath);
-        if (!dataFile.exists() || !dataFile.canRead()) {
-            log.error("Data file '{}' does not exist or is not readable", dataFilePath);
+        if (!dataFile.isFile() || !dataFile.canRead()) {
+            return Result.failure(new SwiftCodeError.DataFileNotReadable(dataFilePath));
+        }
+        DataImportProgress progress = new DataImportProgress(importIds.incrementAndGet(), dataFile, strategy);
+        imports.put(progress.getId(), progress);
+        dataImportExecutor.execute(() -> runImport(dataFile, progress));
+        return Result.success(progress.toResponse());
+    }
+
+    /**
+     * Queues an import of {@code fileName} resolved against the {@code data.import.directory}. Names which, once
+     * normalized, point outside of that directory are rejected, as is any name when no directory is configured.
+     */
+    public Result<DataImportResponse> startImportFromDirectory(String fileName) {
+        if (importProperties.directory().isEmpty()) {
+            return Result.failure(new SwiftCodeError.DataFileOutsideImportDirectory(fileName));
+        }
+        Path directory = Path.of(importProperties.directory()).toAbsolutePath().normalize();
+        Path dataFile;
+        try {
+            dataFile = directory.resolve(fileName).normalize();
+        } catch (InvalidPathException e) {
+            return Result.failure(new SwiftCodeError.DataFileOutsideImportDirectory(fileName));
+        }
+        if (!dataFile.startsWith(directory) || dataFile.equals(directory)) {
+            return Result.failure(new SwiftCodeError.DataFileOutsideImportDirectory(fileName));
+        }
+        return startImport(dataFile.toString());
+    }
+
+    /**
+     * Restores the directory from its snapshot or, if there is no snapshot of the current data file, queues the import
+     * run at startup; the application is not ready until it finishes, even if the file is missing.
+     */
+    public void startInitialImport(String dataFilePath) {
+        if (directorySnapshotService.restore(dataFilePath)) {
+            log.info("Restored the directory from its snapshot, skipping the import of '{}'", dataFilePath);
+            initialImportFinished = true;
+            eventPublisher.publishEvent(new SwiftCodeDataLoadedEvent(dataFilePath, Origin.SNAPSHOT));
             return;
         }
-        swiftCodeParserService.parseAndStoreSwiftCodes(dataFile);
+        Result<DataImportResponse> started = startImport(dataFilePath);
+        if (!started.isSuccess()) {
+            log.error("Data file '{}' does not exist or is not readable", dataFilePath);
+            dataImportExecutor.execute(() -> {
+                initialImportFinished = true;
+                eventPublisher.publishEvent(new SwiftCodeDataLoadedEvent(dataFilePath, Origin.FAILED_IMPORT));
+            });
+        }
+    }
+
+    public Result<DataImportResponse> findImport(long id) {
+        return Optional.ofNullable(imports.get(id))
+                .<Result<DataImportResponse>>map(progress -> Result.success(progress.toResponse()))
+                .orElseGet(() -> Result.failure(new SwiftCodeError.DataImportNotFoundById(id)));
+    }
+
+    public boolean isInitialImportFinished() {
+        return initialImportFinished;
+    }
+
+    /** Imports the file on the calling thread. */
+    public void loadSwiftCodeData(String dataFilePath) {
+        File dataFile = new File(dataFilePath);
+        runImport(dataFile, new DataImportProgress(importIds.incrementAndGet(), dataFile, importProperties.strategy()));
+    }
+
+    private void runImport(File dataFile, DataImportProgress progress) {
+        progress.start();
+        try {
+            if (!dataFile.exists() || !dataFile.canRead()) {
+                log.error("Data file '{}' does not exist or is not readable", dataFile.getPath());
+                progress.fail("Data file does not exist or is not readable");
+            } else {
+                directorySnapshotService.invalidate();
+                switch (progress.getStrategy()) {
+                    case BATCH -> swiftCodeParserService.parseAndStoreSwiftCodes(dataFile, progress);
+                    case COPY -> swiftCodeCopyLoaderService.parseAndStoreSwiftCodes(dataFile, progress);
+                    case PARALLEL -> swiftCodeImportPipeline.parseAndStoreSwiftCodes(dataFile, progress);
+                    case DELTA -> swiftCodeDeltaImportService.parseAndStoreSwiftCodes(dataFile, progress);
+                    case SWAP -> swiftCodeTableSwapService.parseAndStoreSwiftCodes(dataFile, progress);
+                }
+                progress.complete();
+            }
+        } catch (RuntimeException e) {
+            log.error("Import of '{}' failed: {}", dataFile.getPath(), e.getMessage(), e);
+            progress.fail(e.getMessage());
+        } finally {
+            initialImportFinished = true;
+            eventPublisher.publishEvent(new SwiftCodeDataLoadedEvent(
+                    dataFile.getPath(),
+                    progress.getStatus() == DataImportProgress.Status.COMPLETED
+                            ? Origin.IMPORT
+                            : Origin.FAILED_IMPORT));
+        }
     }
 }
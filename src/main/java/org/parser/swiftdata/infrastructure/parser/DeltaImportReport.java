@@ -0,0 +1,18 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+/**
+ * Outcome of a delta import.
+ *
+ * @param fileUnchanged whether the file had the checksum of the last applied one, in which case nothing was read
+ * @param skipped rows of the file which could not be parsed
+ */
+record DeltaImportReport(boolean fileUnchanged, int inserted, int updated, int deleted, int unchanged, int skipped) {
+
+    static DeltaImportReport ofUnchangedFile() {
+        return new DeltaImportReport(true, 0, 0, 0, 0, 0);
+    }
+
+    int changed() {
+        return inserted + updated + deleted;
+    }
+}
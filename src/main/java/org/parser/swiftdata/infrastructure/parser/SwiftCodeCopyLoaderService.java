@@ -0,0 +1,192 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import static org.parser.swiftdata.infrastructure.parser.SwiftCodeParserService.parseSwiftCodeRecord;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.parser.swiftdata.facade.domain.SwiftCode;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.stereotype.Service;
+
+/**
+ * Loads the CSV file with PostgreSQL {@code COPY FROM STDIN} into a temporary staging table and merges it into
+ * {@code swift_codes} with a single set-based upsert. Falls back to {@link SwiftCodeParserService} when the database
+ * is not PostgreSQL. A failed copy or merge is rolled back and rethrown, failing the import.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+class SwiftCodeCopyLoaderService {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final int COPY_PROGRESS_INTERVAL = 1000;
+
+    private static final String CREATE_STAGING_TABLE =
+            """
+            CREATE TEMP TABLE swift_codes_staging (LIKE swift_codes INCLUDING DEFAULTS, file_position bigint NOT NULL)
+            ON COMMIT DROP
+            """;
+
+    private static final String COPY_INTO_STAGING_TABLE =
+            """
+            COPY swift_codes_staging (swift_code, bank_name, address, country_iso2, country_name, is_headquarter, headquarter_code, content_hash, file_position)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    /**
+     * The last staged row of every code, like the batch and delta imports keep the last record of a code that occurs
+     * more than once in the file.
+     */
+    static final String SELECT_LAST_STAGED_ROWS =
+            """
+            SELECT swift_code, bank_name, address, country_iso2, country_name, is_headquarter, headquarter_code, content_hash
+            FROM (
+                SELECT DISTINCT ON (swift_code) *
+                FROM swift_codes_staging
+                ORDER BY swift_code, file_position DESC
+            ) last_staged
+            """;
+
+    private static final String MERGE_STAGING_TABLE =
+            """
+            INSERT INTO swift_codes (swift_code, bank_name, address, country_iso2, country_name, is_headquarter, headquarter_code, content_hash)
+            """
+                    + SELECT_LAST_STAGED_ROWS
+                    + """
+            ON CONFLICT (swift_code) DO UPDATE SET
+                bank_name = EXCLUDED.bank_name,
+                address = EXCLUDED.address,
+                country_iso2 = EXCLUDED.country_iso2,
+                country_name = EXCLUDED.country_name,
+                is_headquarter = EXCLUDED.is_headquarter,
+                headquarter_code = EXCLUDED.headquarter_code,
+                content_hash = EXCLUDED.content_hash
+            """;
+
+    private final DataSource dataSource;
+
+    private final SwiftCodeParserService swiftCodeParserService;
+
+    public void parseAndStoreSwiftCodes(File file, DataImportProgress progress) {
+        if (!supportsCopy()) {
+            log.warn("Database does not support COPY, falling back to batch import");
+            swiftCodeParserService.parseAndStoreSwiftCodes(file, progress);
+            return;
+        }
+
+        log.info("Copying swift codes from file: {}", file.getAbsolutePath());
+        long startTime = System.nanoTime();
+        StagedRecords staged;
+        int mergedRecords;
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                staged = copyIntoStagingTable(connection, file, progress);
+                mergedRecords = statement.executeUpdate(MERGE_STAGING_TABLE);
+                connection.commit();
+                progress.addProcessed(staged.copied());
+            } catch (IOException | SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (IOException | SQLException e) {
+            throw new IllegalStateException("Copying the data file failed: " + e.getMessage(), e);
+        }
+
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        log.info(
+                "Finished copying swift codes. Copied: {}, Merged: {}, Skipped: {}, Time: {} s, Throughput: {} rows/s",
+                staged.copied(),
+                mergedRecords,
+                staged.skipped(),
+                String.format("%.2f", elapsedSeconds),
+                String.format("%.0f", elapsedSeconds > 0 ? staged.copied() / elapsedSeconds : 0));
+    }
+
+    /**
+     * Creates {@code swift_codes_staging}, dropped on commit, and copies the valid records of the file into it within
+     * the connection's open transaction.
+     */
+    StagedRecords copyIntoStagingTable(Connection connection, File file, DataImportProgress progress)
+            throws IOException, SQLException {
+        int copiedRecords = 0;
+        int skippedRecords = 0;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_STAGING_TABLE);
+        }
+
+        SwiftCodeCsvTokenizer record = new SwiftCodeCsvTokenizer(SwiftCodeCsvTokenizer.map(file));
+        try (Writer copyWriter = new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(
+                        connection.unwrap(PGConnection.class), COPY_INTO_STAGING_TABLE, COPY_BUFFER_SIZE),
+                StandardCharsets.UTF_8))) {
+
+            record.next(); // header
+            while (record.next()) {
+                if (record.columnCount() < 7) {
+                    log.error("Record does not contain enough columns: {}. Skipping.", record.recordText());
+                    skippedRecords++;
+                    progress.addSkipped(1);
+                    continue;
+                }
+
+                try {
+                    copyWriter.write(toCopyRow(parseSwiftCodeRecord(record), record.position()));
+                    copiedRecords++;
+                    if (copiedRecords % COPY_PROGRESS_INTERVAL == 0) {
+                        progress.readUpTo(record.position());
+                    }
+                } catch (IllegalArgumentException e) {
+                    log.error(
+                            "Error parsing record {}: {}. Skipping this record.", record.recordText(), e.getMessage());
+                    skippedRecords++;
+                    progress.addSkipped(1);
+                }
+            }
+        }
+        return new StagedRecords(copiedRecords, skippedRecords);
+    }
+
+    /** The file position orders duplicated codes in the staging table; it grows with every record. */
+    static String toCopyRow(SwiftCode swiftCode, long filePosition) {
+        return String.join(
+                        ",",
+                        quote(swiftCode.getSwiftCode()),
+                        quote(swiftCode.getBankName()),
+                        quote(swiftCode.getAddress()),
+                        quote(swiftCode.getCountryISO2()),
+                        quote(swiftCode.getCountryName()),
+                        swiftCode.isHeadquarter() ? "t" : "f",
+                        quote(swiftCode.getHeadquarterCode()),
+                        Long.toString(swiftCode.computeContentHash()),
+                        Long.toString(filePosition))
+                + "\n";
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "";
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    boolean supportsCopy() {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isWrapperFor(PGConnection.class);
+        } catch (SQLException e) {
+            log.error("Error checking database COPY support: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    record StagedRecords(int copied, int skipped) {}
+}
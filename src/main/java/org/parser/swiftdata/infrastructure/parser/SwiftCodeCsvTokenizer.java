@@ -0,0 +1,167 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Minimal CSV tokenizer working directly on the bytes of a (memory-mapped) file. {@link #next()} only records the
+ * column boundaries of the current record; a column is decoded into a {@link String} when it is requested, so the
+ * columns the import does not use are never copied. Quoted columns may contain separators, escaped quotes and line
+ * breaks.
+ */
+final class SwiftCodeCsvTokenizer {
+
+    private static final byte SEPARATOR = ',';
+    private static final byte QUOTE = '"';
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int position;
+
+    private int recordStart;
+    private int recordEnd;
+    private int columnCount;
+    private int[] columnStarts = new int[8];
+    private int[] columnEnds = new int[8];
+    private boolean[] columnQuoted = new boolean[8];
+    private byte[] scratch = new byte[256];
+
+    SwiftCodeCsvTokenizer(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.limit = buffer.limit();
+        this.position = hasByteOrderMark(buffer) ? 3 : 0;
+    }
+
+    static MappedByteBuffer map(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to be mapped: " + channel.size() + " bytes");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Advances to the next record.
+     *
+     * @return {@code false} when there are no more records
+     */
+    boolean next() {
+        if (position >= limit) {
+            return false;
+        }
+        recordStart = position;
+        columnCount = 0;
+
+        int columnStart = position;
+        boolean quoted = false;
+        boolean inQuotes = false;
+        int index = position;
+        while (index < limit) {
+            byte current = buffer.get(index);
+            if (inQuotes) {
+                if (current == QUOTE) {
+                    if (index + 1 < limit && buffer.get(index + 1) == QUOTE) {
+                        index += 2;
+                        continue;
+                    }
+                    inQuotes = false;
+                }
+            } else if (current == QUOTE) {
+                quoted |= index == columnStart;
+                inQuotes = true;
+            } else if (current == SEPARATOR) {
+                addColumn(columnStart, index, quoted);
+                columnStart = index + 1;
+                quoted = false;
+            } else if (current == LINE_FEED) {
+                break;
+            }
+            index++;
+        }
+
+        position = Math.min(index + 1, limit);
+        recordEnd = index > columnStart && buffer.get(index - 1) == CARRIAGE_RETURN ? index - 1 : index;
+        addColumn(columnStart, Math.max(columnStart, recordEnd), quoted);
+        return true;
+    }
+
+    int columnCount() {
+        return columnCount;
+    }
+
+    String column(int index) {
+        if (index >= columnCount) {
+            throw new IndexOutOfBoundsException("Column " + index + " out of " + columnCount);
+        }
+        int start = columnStarts[index];
+        int end = columnEnds[index];
+        if (!columnQuoted[index]) {
+            return decode(start, end);
+        }
+
+        start++;
+        if (end > start && buffer.get(end - 1) == QUOTE) {
+            end--;
+        }
+        ensureScratchCapacity(end - start);
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            byte current = buffer.get(i);
+            scratch[length++] = current;
+            if (current == QUOTE && i + 1 < end && buffer.get(i + 1) == QUOTE) {
+                i++;
+            }
+        }
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /** Raw text of the current record, used for error reporting only. */
+    String recordText() {
+        return decode(recordStart, recordEnd);
+    }
+
+    /** Number of bytes consumed so far. */
+    int position() {
+        return position;
+    }
+
+    private String decode(int start, int end) {
+        ensureScratchCapacity(end - start);
+        buffer.get(start, scratch, 0, end - start);
+        return new String(scratch, 0, end - start, StandardCharsets.UTF_8);
+    }
+
+    private void addColumn(int start, int end, boolean quoted) {
+        if (columnCount == columnStarts.length) {
+            columnStarts = Arrays.copyOf(columnStarts, columnCount * 2);
+            columnEnds = Arrays.copyOf(columnEnds, columnCount * 2);
+            columnQuoted = Arrays.copyOf(columnQuoted, columnCount * 2);
+        }
+        columnStarts[columnCount] = start;
+        columnEnds[columnCount] = end;
+        columnQuoted[columnCount] = quoted;
+        columnCount++;
+    }
+
+    private void ensureScratchCapacity(int length) {
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+    }
+
+    private static boolean hasByteOrderMark(ByteBuffer buffer) {
+        return buffer.limit() >= 3
+                && buffer.get(0) == (byte) 0xEF
+                && buffer.get(1) == (byte) 0xBB
+                && buffer.get(2) == (byte) 0xBF;
+    }
+}
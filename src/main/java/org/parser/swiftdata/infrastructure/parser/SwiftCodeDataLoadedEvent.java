@@ -0,0 +1,18 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+/**
+ * Published once the database holds the full SWIFT code directory: after an import (also a failed one, leaving whatever
+ * the database holds) or after the directory was restored from its snapshot instead.
+ */
+public record SwiftCodeDataLoadedEvent(String dataFilePath, Origin origin) {
+
+    public enum Origin {
+        IMPORT,
+        FAILED_IMPORT,
+        SNAPSHOT
+    }
+
+    public SwiftCodeDataLoadedEvent(String dataFilePath) {
+        this(dataFilePath, Origin.IMPORT);
+    }
+}
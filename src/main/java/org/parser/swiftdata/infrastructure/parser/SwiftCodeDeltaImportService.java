@@ -0,0 +1,156 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import static org.parser.swiftdata.infrastructure.parser.SwiftCodeParserService.parseSwiftCodeRecord;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.parser.swiftdata.facade.domain.SwiftCode;
+import org.parser.swiftdata.facade.domain.SwiftCodeRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Applies only the difference between the data file and {@code swift_codes}. Every parsed row is hashed with
+ * {@link SwiftCode#computeContentHash()} and compared with the {@code content_hash} stored with the row: new codes are
+ * inserted, codes with another (or no) hash are updated and stored codes missing from the file are deleted, all in one
+ * transaction. A file with the same SHA-256 checksum as the last applied one is not parsed at all, while a file which
+ * cannot be read or holds no valid record fails the import and leaves the stored codes as they are.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+class SwiftCodeDeltaImportService {
+
+    private static final String SELECT_CONTENT_HASHES = "SELECT swift_code, content_hash FROM swift_codes";
+
+    private static final String DELETE_SWIFT_CODE = "DELETE FROM swift_codes WHERE swift_code = ?";
+
+    private final SwiftCodeRepository repository;
+
+    private final DataFileImportRepository dataFileImportRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final DataImportProperties importProperties;
+
+    public DeltaImportReport parseAndStoreSwiftCodes(File file, DataImportProgress progress) {
+        log.info("Applying changes from file: {}", file.getAbsolutePath());
+        long startTime = System.nanoTime();
+        ByteBuffer buffer;
+        String checksum;
+        try {
+            buffer = SwiftCodeCsvTokenizer.map(file);
+            checksum = checksum(buffer.duplicate());
+        } catch (IOException e) {
+            throw new IllegalStateException("Reading the data file failed: " + e.getMessage(), e);
+        }
+
+        Optional<DataFileImport> lastImport = dataFileImportRepository.findFirstByOrderByIdDesc();
+        if (lastImport.isPresent() && lastImport.get().getChecksum().equals(checksum) && repository.count() > 0) {
+            log.info(
+                    "Data file is unchanged since the import of {} at {}, skipping it",
+                    lastImport.get().getFileName(),
+                    lastImport.get().getImportedAt());
+            return DeltaImportReport.ofUnchangedFile();
+        }
+
+        Map<String, SwiftCode> fileRows = new LinkedHashMap<>();
+        int skippedRecords = parse(buffer, fileRows);
+        progress.addSkipped(skippedRecords);
+        progress.readUpTo(buffer.limit());
+        if (fileRows.isEmpty()) {
+            throw new IllegalStateException("No valid records in the data file, keeping the stored swift codes");
+        }
+
+        Map<String, Long> storedHashes = new HashMap<>();
+        jdbcTemplate.query(SELECT_CONTENT_HASHES, row -> {
+            long hash = row.getLong(2);
+            storedHashes.put(row.getString(1), row.wasNull() ? null : hash);
+        });
+
+        List<SwiftCode> inserts = new ArrayList<>();
+        List<SwiftCode> updates = new ArrayList<>();
+        int unchanged = 0;
+        for (SwiftCode swiftCode : fileRows.values()) {
+            if (!storedHashes.containsKey(swiftCode.getSwiftCode())) {
+                inserts.add(swiftCode);
+                continue;
+            }
+            Long storedHash = storedHashes.remove(swiftCode.getSwiftCode());
+            if (storedHash == null || storedHash != swiftCode.computeContentHash()) {
+                updates.add(swiftCode);
+            } else {
+                unchanged++;
+            }
+        }
+        List<String> deletes = new ArrayList<>(storedHashes.keySet());
+
+        List<SwiftCode> upserts = new ArrayList<>(inserts);
+        upserts.addAll(updates);
+        int batchSize = importProperties.batchSize();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < upserts.size(); from += batchSize) {
+                repository.upsertAll(upserts.subList(from, Math.min(upserts.size(), from + batchSize)));
+            }
+            jdbcTemplate.batchUpdate(
+                    DELETE_SWIFT_CODE, deletes, batchSize, (ps, swiftCode) -> ps.setString(1, swiftCode));
+            dataFileImportRepository.save(
+                    new DataFileImport(null, file.getName(), checksum, fileRows.size(), Instant.now()));
+        });
+
+        progress.addProcessed(upserts.size() + deletes.size());
+        DeltaImportReport report =
+                new DeltaImportReport(false, inserts.size(), updates.size(), deletes.size(), unchanged, skippedRecords);
+        log.info(
+                "Finished delta import. Inserted: {}, Updated: {}, Deleted: {}, Unchanged: {}, Skipped: {}, Time: {} s",
+                report.inserted(),
+                report.updated(),
+                report.deleted(),
+                report.unchanged(),
+                report.skipped(),
+                String.format("%.2f", (System.nanoTime() - startTime) / 1_000_000_000.0));
+        return report;
+    }
+
+    /** Parses all records into {@code swiftCodes}, the last one winning for a repeated code; returns the skip count. */
+    private static int parse(ByteBuffer buffer, Map<String, SwiftCode> swiftCodes) {
+        int skippedRecords = 0;
+        SwiftCodeCsvTokenizer record = new SwiftCodeCsvTokenizer(buffer);
+        record.next(); // header
+        while (record.next()) {
+            if (record.columnCount() < 7) {
+                log.error("Record does not contain enough columns: {}. Skipping.", record.recordText());
+                skippedRecords++;
+                continue;
+            }
+            try {
+                SwiftCode swiftCode = parseSwiftCodeRecord(record);
+                swiftCodes.put(swiftCode.getSwiftCode(), swiftCode);
+            } catch (Exception e) {
+                log.error("Error parsing record {}: {}. Skipping this record.", record.recordText(), e.getMessage());
+                skippedRecords++;
+            }
+        }
+        return skippedRecords;
+    }
+
+    static String checksum(ByteBuffer content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(content);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Import meters shared by the batch and parallel imports: {@code swift.codes.import.rows} counts stored rows and
+ * skipped rows by reason, so {@code rate()} over it gives the rows/s of a running import, and
+ * {@code swift.codes.import.batch} times each batch write.
+ */
+@Component
+class SwiftCodeImportMetrics {
+
+    enum SkipReason {
+        MISSING_COLUMNS,
+        INVALID_RECORD,
+        NOT_STORED,
+        BATCH_FAILED
+    }
+
+    private final Counter storedCounter;
+
+    private final Map<SkipReason, Counter> skippedCounters = new EnumMap<>(SkipReason.class);
+
+    private final Timer batchTimer;
+
+    SwiftCodeImportMetrics(MeterRegistry meterRegistry) {
+        this.storedCounter = Counter.builder("swift.codes.import.rows")
+                .description("Rows of the data file handled by imports")
+                .tag("outcome", "stored")
+                .tag("reason", "none")
+                .register(meterRegistry);
+        for (SkipReason reason : SkipReason.values()) {
+            skippedCounters.put(
+                    reason,
+                    Counter.builder("swift.codes.import.rows")
+                            .description("Rows of the data file handled by imports")
+                            .tag("outcome", "skipped")
+                            .tag("reason", reason.name().toLowerCase())
+                            .register(meterRegistry));
+        }
+        this.batchTimer = Timer.builder("swift.codes.import.batch")
+                .description("Time taken to write a batch of swift codes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    void stored(int rows) {
+        storedCounter.increment(rows);
+    }
+
+    void skipped(SkipReason reason, int rows) {
+        skippedCounters.get(reason).increment(rows);
+    }
+
+    <T> T timeBatch(Supplier<T> write) {
+        return batchTimer.record(write);
+    }
+}
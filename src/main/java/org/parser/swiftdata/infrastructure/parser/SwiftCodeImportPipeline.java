@@ -0,0 +1,250 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import static org.parser.swiftdata.infrastructure.parser.SwiftCodeParserService.parseSwiftCodeRecord;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.parser.swiftdata.facade.domain.SwiftCode;
+import org.parser.swiftdata.facade.domain.SwiftCodeRepository;
+import org.parser.swiftdata.infrastructure.parser.SwiftCodeImportMetrics.SkipReason;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+/**
+ * Producer/consumer import: the calling thread splits the mapped file into chunks of whole records, a pool of parser
+ * threads tokenizes them into {@link SwiftCode} batches and a pool of writer threads upserts them. Both hand-offs go
+ * through bounded queues, so a slow database blocks the reader instead of buffering the whole file in memory. With
+ * {@code spring.threads.virtual.enabled} both pools run on virtual threads; their sizes still bound the parallelism.
+ *
+ * <p>Batches are written in no particular order, so every code is written with its import position, the end of its
+ * record in the file above the positions of all earlier imports, and a stored row is only updated by a code with a
+ * higher one; as in the sequential imports, the last record of a code wins.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+class SwiftCodeImportPipeline {
+
+    private static final RecordChunk END_OF_RECORDS = new RecordChunk(0, ByteBuffer.allocate(0));
+
+    private static final List<SwiftCode> END_OF_BATCHES = new ArrayList<>();
+
+    /** Mapped files are shorter than {@link Integer#MAX_VALUE}, so positions in the file need 31 bits. */
+    private static final int FILE_POSITION_BITS = 31;
+
+    private final SwiftCodeRepository repository;
+
+    private final DataImportProperties importProperties;
+
+    private final SwiftCodeImportMetrics importMetrics;
+
+    private final Environment environment;
+
+    public void parseAndStoreSwiftCodes(File file, DataImportProgress progress) {
+        int parserThreads = importProperties.effectiveParserThreads();
+        int writerThreads = importProperties.writerThreads();
+        log.info(
+                "Parsing swift codes from file: {} with {} parser and {} writer threads",
+                file.getAbsolutePath(),
+                parserThreads,
+                writerThreads);
+        long startTime = System.nanoTime();
+
+        BlockingQueue<RecordChunk> recordChunks = new ArrayBlockingQueue<>(importProperties.queueCapacity());
+        BlockingQueue<List<SwiftCode>> swiftCodeBatches = new ArrayBlockingQueue<>(importProperties.queueCapacity());
+        AtomicInteger processedRecords = new AtomicInteger();
+        AtomicInteger skippedRecords = new AtomicInteger();
+        AtomicInteger runningParsers = new AtomicInteger(parserThreads);
+        long importPositionBase =
+                ((repository.findMaxImportPosition() >> FILE_POSITION_BITS) + 1) << FILE_POSITION_BITS;
+
+        ExecutorService parsers = Executors.newFixedThreadPool(parserThreads, threadFactory("swift-import-parser-"));
+        ExecutorService writers = Executors.newFixedThreadPool(writerThreads, threadFactory("swift-import-writer-"));
+        try {
+            List<Future<?>> parserTasks = new ArrayList<>();
+            for (int i = 0; i < parserThreads; i++) {
+                parserTasks.add(parsers.submit(() -> {
+                    try {
+                        parseChunks(recordChunks, swiftCodeBatches, importPositionBase, skippedRecords, progress);
+                    } finally {
+                        if (runningParsers.decrementAndGet() == 0) {
+                            endBatches(swiftCodeBatches, writerThreads);
+                        }
+                    }
+                }));
+            }
+            List<Future<?>> writerTasks = new ArrayList<>();
+            for (int i = 0; i < writerThreads; i++) {
+                writerTasks.add(writers.submit(
+                        () -> writeBatches(swiftCodeBatches, processedRecords, skippedRecords, progress)));
+            }
+
+            List<Throwable> failures = new ArrayList<>();
+            try {
+                readChunks(file, recordChunks, progress);
+            } finally {
+                for (int i = 0; i < parserThreads; i++) {
+                    recordChunks.put(END_OF_RECORDS);
+                }
+                awaitAll(parserTasks, failures);
+                awaitAll(writerTasks, failures);
+            }
+            if (!failures.isEmpty()) {
+                throw new IllegalStateException(
+                        "Swift codes import task failed: " + failures.getFirst().getMessage(), failures.getFirst());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Swift codes import was interrupted", e);
+        } finally {
+            parsers.shutdownNow();
+            writers.shutdownNow();
+        }
+
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        log.info(
+                "Finished parsing swift codes. Processed: {}, Skipped: {}, Time: {} s, Throughput: {} rows/s",
+                processedRecords.get(),
+                skippedRecords.get(),
+                String.format("%.2f", elapsedSeconds),
+                String.format("%.0f", elapsedSeconds > 0 ? processedRecords.get() / elapsedSeconds : 0));
+    }
+
+    private void readChunks(File file, BlockingQueue<RecordChunk> recordChunks, DataImportProgress progress)
+            throws InterruptedException {
+        int chunkSize = importProperties.batchSize();
+        try {
+            ByteBuffer buffer = SwiftCodeCsvTokenizer.map(file);
+            SwiftCodeCsvTokenizer record = new SwiftCodeCsvTokenizer(buffer);
+            record.next(); // header
+            int chunkStart = record.position();
+            int chunkRecords = 0;
+            while (record.next()) {
+                if (++chunkRecords >= chunkSize) {
+                    recordChunks.put(
+                            new RecordChunk(chunkStart, buffer.slice(chunkStart, record.position() - chunkStart)));
+                    chunkStart = record.position();
+                    chunkRecords = 0;
+                    progress.readUpTo(chunkStart);
+                }
+            }
+            if (chunkRecords > 0) {
+                recordChunks.put(new RecordChunk(chunkStart, buffer.slice(chunkStart, record.position() - chunkStart)));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Reading the data file failed: " + e.getMessage(), e);
+        }
+    }
+
+    private void parseChunks(
+            BlockingQueue<RecordChunk> recordChunks,
+            BlockingQueue<List<SwiftCode>> swiftCodeBatches,
+            long importPositionBase,
+            AtomicInteger skippedRecords,
+            DataImportProgress progress) {
+        try {
+            RecordChunk chunk;
+            while ((chunk = recordChunks.take()) != END_OF_RECORDS) {
+                Map<String, SwiftCode> batch = new LinkedHashMap<>();
+                SwiftCodeCsvTokenizer record = new SwiftCodeCsvTokenizer(chunk.records());
+                while (record.next()) {
+                    if (record.columnCount() < 7) {
+                        log.error("Record does not contain enough columns: {}. Skipping.", record.recordText());
+                        skippedRecords.incrementAndGet();
+                        progress.addSkipped(1);
+                        importMetrics.skipped(SkipReason.MISSING_COLUMNS, 1);
+                        continue;
+                    }
+                    try {
+                        SwiftCode swiftCode = parseSwiftCodeRecord(record);
+                        swiftCode.setImportPosition(importPositionBase + chunk.offset() + record.position());
+                        batch.put(swiftCode.getSwiftCode(), swiftCode);
+                    } catch (Exception e) {
+                        log.error(
+                                "Error parsing record {}: {}. Skipping this record.",
+                                record.recordText(),
+                                e.getMessage());
+                        skippedRecords.incrementAndGet();
+                        progress.addSkipped(1);
+                        importMetrics.skipped(SkipReason.INVALID_RECORD, 1);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    swiftCodeBatches.put(new ArrayList<>(batch.values()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeBatches(
+            BlockingQueue<List<SwiftCode>> swiftCodeBatches,
+            AtomicInteger processedRecords,
+            AtomicInteger skippedRecords,
+            DataImportProgress progress) {
+        try {
+            List<SwiftCode> batch;
+            while ((batch = swiftCodeBatches.take()) != END_OF_BATCHES) {
+                try {
+                    List<SwiftCode> records = batch;
+                    int stored = importMetrics.timeBatch(() -> repository.upsertAllIfNewer(records));
+                    processedRecords.addAndGet(stored);
+                    progress.addProcessed(stored);
+                    importMetrics.stored(stored);
+                } catch (RuntimeException e) {
+                    log.error(
+                            "Error storing batch of {} records: {}. Skipping this batch.",
+                            batch.size(),
+                            e.getMessage());
+                    skippedRecords.addAndGet(batch.size());
+                    progress.addSkipped(batch.size());
+                    importMetrics.skipped(SkipReason.BATCH_FAILED, batch.size());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Called once the last parser stops, however it stops, so that writers never wait for batches forever. */
+    private static void endBatches(BlockingQueue<List<SwiftCode>> swiftCodeBatches, int writerThreads) {
+        try {
+            for (int i = 0; i < writerThreads; i++) {
+                swiftCodeBatches.put(END_OF_BATCHES);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ThreadFactory threadFactory(String namePrefix) {
+        Thread.Builder builder = Threading.VIRTUAL.isActive(environment) ? Thread.ofVirtual() : Thread.ofPlatform();
+        return builder.name(namePrefix, 0).factory();
+    }
+
+    /** Records of the file starting at {@code offset}. */
+    private record RecordChunk(int offset, ByteBuffer records) {}
+
+    /** Waits for every task, also after one of them failed, collecting the failures. */
+    private static void awaitAll(List<Future<?>> tasks, List<Throwable> failures) throws InterruptedException {
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                log.error("Swift codes import task failed: {}", e.getCause().getMessage(), e.getCause());
+                failures.add(e.getCause());
+            }
+        }
+    }
+}
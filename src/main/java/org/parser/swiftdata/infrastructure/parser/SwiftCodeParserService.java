@@ -1,14 +1,16 @@
 package org.parser.swiftdata.infrastructure.parser;
 
-import com.opencsv.CSVParserBuilder;
-import com.opencsv.CSVReader;
-import com.opencsv.CSVReaderBuilder;
-import com.opencsv.exceptions.CsvValidationException;
-import java.io.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.parser.swiftdata.facade.domain.SwiftCode;
 import org.parser.swiftdata.facade.domain.SwiftCodeRepository;
+import org.parser.swiftdata.infrastructure.parser.SwiftCodeImportMetrics.SkipReason;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -18,48 +20,90 @@ class SwiftCodeParserService {
 
     private final SwiftCodeRepository repository;
 
-    public void parseAndStoreSwiftCodes(File file) {
+    private final DataImportProperties importProperties;
+
+    private final SwiftCodeImportMetrics importMetrics;
+
+    public void parseAndStoreSwiftCodes(File file, DataImportProgress progress) {
         log.info("Parsing swift codes from file: {}", file.getAbsolutePath());
+        long startTime = System.nanoTime();
         int processedRecords = 0;
         int skippedRecords = 0;
+        Map<String, SwiftCode> batch = new LinkedHashMap<>();
 
-        try (FileReader fileReader = new FileReader(file);
-                CSVReader csvReader = new CSVReaderBuilder(fileReader)
-                        .withCSVParser(new CSVParserBuilder().withSeparator(',').build())
-                        .build()) {
-
-            String[] headers = csvReader.readNextSilently();
-            String[] record;
-            while ((record = csvReader.readNext()) != null) {
-                if (record.length < 7) {
-                    log.error("Record does not contain enough columns: {}. Skipping.", String.join(",", record));
+        try {
+            SwiftCodeCsvTokenizer record = new SwiftCodeCsvTokenizer(SwiftCodeCsvTokenizer.map(file));
+            record.next(); // header
+            while (record.next()) {
+                if (record.columnCount() < 7) {
+                    log.error("Record does not contain enough columns: {}. Skipping.", record.recordText());
                     skippedRecords++;
+                    progress.addSkipped(1);
+                    importMetrics.skipped(SkipReason.MISSING_COLUMNS, 1);
                     continue;
                 }
 
                 try {
-                    storeSwiftCodeRecord(record);
-                    processedRecords++;
+                    SwiftCode swiftCode = parseSwiftCodeRecord(record);
+                    batch.put(swiftCode.getSwiftCode(), swiftCode);
                 } catch (Exception e) {
                     log.error(
-                            "Error parsing record {}: {}. Skipping this record.",
-                            String.join(",", record),
-                            e.getMessage());
+                            "Error parsing record {}: {}. Skipping this record.", record.recordText(), e.getMessage());
                     skippedRecords++;
+                    progress.addSkipped(1);
+                    importMetrics.skipped(SkipReason.INVALID_RECORD, 1);
+                    continue;
+                }
+
+                if (batch.size() >= importProperties.batchSize()) {
+                    int stored = storeBatch(batch, progress);
+                    processedRecords += stored;
+                    skippedRecords += batch.size() - stored;
+                    batch.clear();
+                    progress.readUpTo(record.position());
                 }
             }
-        } catch (IOException | CsvValidationException e) {
-            log.error("Error reading CSV file: {}", e.getMessage(), e);
+            int stored = storeBatch(batch, progress);
+            processedRecords += stored;
+            skippedRecords += batch.size() - stored;
+        } catch (IOException e) {
+            throw new IllegalStateException("Reading the data file failed: " + e.getMessage(), e);
+        }
+
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        log.info(
+                "Finished parsing swift codes. Processed: {}, Skipped: {}, Time: {} s, Throughput: {} rows/s",
+                processedRecords,
+                skippedRecords,
+                String.format("%.2f", elapsedSeconds),
+                String.format("%.0f", elapsedSeconds > 0 ? processedRecords / elapsedSeconds : 0));
+    }
+
+    private int storeBatch(Map<String, SwiftCode> batch, DataImportProgress progress) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            int stored = importMetrics.timeBatch(() -> repository.upsertAll(new ArrayList<>(batch.values())));
+            progress.addProcessed(stored);
+            progress.addSkipped(batch.size() - stored);
+            importMetrics.stored(stored);
+            importMetrics.skipped(SkipReason.NOT_STORED, batch.size() - stored);
+            return stored;
+        } catch (DataAccessException e) {
+            log.error("Error storing batch of {} records: {}. Skipping this batch.", batch.size(), e.getMessage());
+            progress.addSkipped(batch.size());
+            importMetrics.skipped(SkipReason.BATCH_FAILED, batch.size());
+            return 0;
         }
-        log.info("Finished parsing swift codes. Processed: {}, Skipped: {}", processedRecords, skippedRecords);
     }
 
-    private void storeSwiftCodeRecord(String[] record) {
-        String swiftCode = record[1].trim();
-        String bankName = record[3].trim();
-        String address = record[4].trim();
-        String countryIso2 = record[0].toUpperCase().trim();
-        String countryName = record[6].toUpperCase().trim();
+    static SwiftCode parseSwiftCodeRecord(SwiftCodeCsvTokenizer record) {
+        String swiftCode = record.column(1).trim();
+        String bankName = record.column(3).trim();
+        String address = record.column(4).trim();
+        String countryIso2 = record.column(0).toUpperCase().trim();
+        String countryName = record.column(6).toUpperCase().trim();
 
         if (swiftCode.length() != 11) {
             throw new IllegalArgumentException("Swift code length is not equal 11: " + swiftCode);
@@ -68,8 +112,6 @@ class SwiftCodeParserService {
         boolean isHeadquarter = swiftCode.endsWith("XXX");
         String headquarterCode = swiftCode.substring(0, swiftCode.length() - 3);
 
-        SwiftCode swiftCodeEntity =
-                new SwiftCode(swiftCode, bankName, address, countryIso2, countryName, isHeadquarter, headquarterCode);
-        repository.save(swiftCodeEntity);
+        return new SwiftCode(swiftCode, bankName, address, countryIso2, countryName, isHeadquarter, headquarterCode);
     }
 }
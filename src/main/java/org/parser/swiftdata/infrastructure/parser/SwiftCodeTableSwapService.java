@@ -0,0 +1,200 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.parser.swiftdata.infrastructure.parser.SwiftCodeCopyLoaderService.StagedRecords;
+import org.springframework.stereotype.Service;
+
+/**
+ * Replaces the whole of {@code swift_codes} with the data file in one transaction. The file is copied into
+ * {@code swift_codes_shadow}, which gets the indexes of {@code swift_codes} only after it is filled; its row count is
+ * checked, and it is renamed over {@code swift_codes}, so other transactions see either the old or the new table and
+ * never a partly loaded one. The transaction starts by locking {@code swift_codes} in {@code EXCLUSIVE} mode, which
+ * lets readers in but holds back writes through the API until the swap commits, instead of losing them with the replaced
+ * table; such a write then fails and can be retried against the new table. Rows are copied with their content hash, so
+ * a later delta import compares them as usual. PostgreSQL only: on other databases the file is applied with
+ * {@link SwiftCodeDeltaImportService}, whose single transaction gives readers the same guarantee.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+class SwiftCodeTableSwapService {
+
+    private static final String SHADOW_SUFFIX = "_shadow";
+
+    private static final String LOCK_TABLE = "LOCK TABLE swift_codes IN EXCLUSIVE MODE";
+
+    private static final String DROP_SHADOW_TABLE = "DROP TABLE IF EXISTS swift_codes_shadow";
+
+    private static final String CREATE_SHADOW_TABLE =
+            "CREATE TABLE swift_codes_shadow (LIKE swift_codes INCLUDING DEFAULTS INCLUDING CONSTRAINTS)";
+
+    /** Keeps the same row of a duplicated code as the COPY and delta imports, so a later delta import matches it. */
+    static final String FILL_SHADOW_TABLE =
+            """
+            INSERT INTO swift_codes_shadow (swift_code, bank_name, address, country_iso2, country_name, is_headquarter, headquarter_code, content_hash)
+            """
+                    + SwiftCodeCopyLoaderService.SELECT_LAST_STAGED_ROWS;
+
+    private static final String SELECT_INDEXES =
+            """
+            SELECT index_class.relname, pg_get_indexdef(index_class.oid), constraint_.contype = 'p'
+            FROM pg_index index_
+            JOIN pg_class index_class ON index_class.oid = index_.indexrelid
+            LEFT JOIN pg_constraint constraint_ ON constraint_.conindid = index_.indexrelid
+            WHERE index_.indrelid = 'swift_codes'::regclass
+            """;
+
+    private static final String COUNT_STAGED_CODES = "SELECT count(DISTINCT swift_code) FROM swift_codes_staging";
+
+    private static final String COUNT_SWIFT_CODES = "SELECT count(*) FROM swift_codes";
+
+    private static final String ANALYZE_SHADOW_TABLE = "ANALYZE swift_codes_shadow";
+
+    private static final String RENAME_TABLE_TO_PREVIOUS = "ALTER TABLE swift_codes RENAME TO swift_codes_previous";
+
+    private static final String RENAME_SHADOW_TABLE = "ALTER TABLE swift_codes_shadow RENAME TO swift_codes";
+
+    private static final String DROP_PREVIOUS_TABLE = "DROP TABLE swift_codes_previous";
+
+    private final SwiftCodeCopyLoaderService swiftCodeCopyLoaderService;
+
+    private final SwiftCodeDeltaImportService swiftCodeDeltaImportService;
+
+    private final DataFileImportRepository dataFileImportRepository;
+
+    private final DataSource dataSource;
+
+    private final DataImportProperties importProperties;
+
+    public void parseAndStoreSwiftCodes(File file, DataImportProgress progress) {
+        if (!swiftCodeCopyLoaderService.supportsCopy()) {
+            log.warn("Database does not support the table swap, applying the file with the delta import");
+            swiftCodeDeltaImportService.parseAndStoreSwiftCodes(file, progress);
+            return;
+        }
+
+        log.info("Swapping in swift codes from file: {}", file.getAbsolutePath());
+        long startTime = System.nanoTime();
+        StagedRecords staged;
+        int shadowRecords;
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(LOCK_TABLE);
+                List<TableIndex> indexes = readIndexes(statement);
+                statement.execute(DROP_SHADOW_TABLE);
+                statement.execute(CREATE_SHADOW_TABLE);
+                staged = swiftCodeCopyLoaderService.copyIntoStagingTable(connection, file, progress);
+                shadowRecords = statement.executeUpdate(FILL_SHADOW_TABLE);
+                for (TableIndex index : indexes) {
+                    index.createOnShadowTable(statement);
+                }
+                statement.execute(ANALYZE_SHADOW_TABLE);
+                verifyRowCount(statement, shadowRecords);
+
+                statement.execute(RENAME_TABLE_TO_PREVIOUS);
+                statement.execute(RENAME_SHADOW_TABLE);
+                statement.execute(DROP_PREVIOUS_TABLE);
+                for (TableIndex index : indexes) {
+                    index.renameFromShadow(statement);
+                }
+                connection.commit();
+                progress.addProcessed(shadowRecords);
+            } catch (IOException | SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (IOException | SQLException e) {
+            throw new IllegalStateException("Swapping in the data file failed: " + e.getMessage(), e);
+        }
+
+        recordImport(file, shadowRecords);
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        log.info(
+                "Finished swapping in swift codes. Rows: {}, Skipped: {}, Time: {} s, Throughput: {} rows/s",
+                shadowRecords,
+                staged.skipped(),
+                String.format("%.2f", elapsedSeconds),
+                String.format("%.0f", elapsedSeconds > 0 ? staged.copied() / elapsedSeconds : 0));
+    }
+
+    /** Refuses a shadow table that lost rows while being filled, or is much smaller than the table it would replace. */
+    private void verifyRowCount(Statement statement, int shadowRecords) throws SQLException {
+        long stagedCodes = count(statement, COUNT_STAGED_CODES);
+        long currentRecords = count(statement, COUNT_SWIFT_CODES);
+        if (shadowRecords != stagedCodes) {
+            throw new IllegalStateException(
+                    "Shadow table has %d rows but %d codes were copied".formatted(shadowRecords, stagedCodes));
+        }
+        if (shadowRecords == 0 || shadowRecords < currentRecords * importProperties.swapMinRowRatio()) {
+            throw new IllegalStateException("Shadow table has %d rows, too few to replace the %d stored ones"
+                    .formatted(shadowRecords, currentRecords));
+        }
+    }
+
+    /** Records the file like the delta import does, so that a delta import of the same file afterwards is skipped. */
+    private void recordImport(File file, int rowCount) {
+        try {
+            String checksum = SwiftCodeDeltaImportService.checksum(SwiftCodeCsvTokenizer.map(file));
+            dataFileImportRepository.save(new DataFileImport(null, file.getName(), checksum, rowCount, Instant.now()));
+        } catch (IOException e) {
+            log.warn("Could not record the checksum of the swapped in file: {}", e.getMessage());
+        }
+    }
+
+    private static List<TableIndex> readIndexes(Statement statement) throws SQLException {
+        List<TableIndex> indexes = new ArrayList<>();
+        try (ResultSet rows = statement.executeQuery(SELECT_INDEXES)) {
+            while (rows.next()) {
+                indexes.add(new TableIndex(rows.getString(1), rows.getString(2), rows.getBoolean(3)));
+            }
+        }
+        return indexes;
+    }
+
+    private static long count(Statement statement, String query) throws SQLException {
+        try (ResultSet rows = statement.executeQuery(query)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    /** An index of {@code swift_codes}, recreated on the shadow table under a temporary name. */
+    record TableIndex(String name, String definition, boolean primaryKey) {
+
+        String shadowName() {
+            return name + SHADOW_SUFFIX;
+        }
+
+        String shadowDefinition() {
+            return definition
+                    .replaceFirst("INDEX " + name + " ON ", "INDEX " + shadowName() + " ON ")
+                    .replaceFirst(" ON (\\S+\\.)?swift_codes USING ", " ON swift_codes_shadow USING ");
+        }
+
+        void createOnShadowTable(Statement statement) throws SQLException {
+            statement.execute(shadowDefinition());
+            if (primaryKey) {
+                statement.execute("ALTER TABLE swift_codes_shadow ADD CONSTRAINT %s PRIMARY KEY USING INDEX %s"
+                        .formatted(shadowName(), shadowName()));
+            }
+        }
+
+        /** Renaming the index of the primary key renames the constraint as well. */
+        void renameFromShadow(Statement statement) throws SQLException {
+            statement.execute("ALTER INDEX %s RENAME TO %s".formatted(shadowName(), name));
+        }
+    }
+}
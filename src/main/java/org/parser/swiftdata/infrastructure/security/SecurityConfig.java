@@ -0,0 +1,31 @@
+package org.parser.swiftdata.infrastructure.security;
+
+import static org.springframework.security.config.Customizer.withDefaults;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * The administrative endpoints under {@code /v1/admin/} require HTTP Basic authentication of a user with the
+ * {@code ADMIN} role, by default the {@code spring.security.user} configured from {@code ADMIN_USERNAME} and
+ * {@code ADMIN_PASSWORD}. The lookup and management API and the actuator endpoints stay open, as before.
+ */
+@Configuration
+class SecurityConfig {
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        return http.authorizeHttpRequests(requests -> requests.requestMatchers("/v1/admin/**")
+                        .hasRole("ADMIN")
+                        .anyRequest()
+                        .permitAll())
+                .httpBasic(withDefaults())
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(sessions -> sessions.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .build();
+    }
+}
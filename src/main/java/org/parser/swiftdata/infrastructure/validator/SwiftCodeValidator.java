@@ -1,19 +1,28 @@
 package org.parser.swiftdata.infrastructure.validator;
 
-import java.util.List;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import org.parser.swiftdata.facade.CountryService;
 import org.parser.swiftdata.facade.domain.SwiftCode;
-import org.parser.swiftdata.facade.domain.SwiftCodeRepository;
 import org.parser.swiftdata.facade.dto.SwiftCodeRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.Errors;
 import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
 
 @Component("swiftCodeValidator")
-@RequiredArgsConstructor
 public class SwiftCodeValidator implements Validator {
 
-    private final SwiftCodeRepository repository;
+    private final CountryService countryService;
+
+    private final SpringValidatorAdapter beanValidator;
+
+    public SwiftCodeValidator(CountryService countryService, jakarta.validation.Validator beanValidator) {
+        this.countryService = countryService;
+        this.beanValidator = new SpringValidatorAdapter(beanValidator);
+    }
 
     @Override
     public boolean supports(Class<?> clazz) {
@@ -21,31 +30,80 @@ public class SwiftCodeValidator implements Validator {
     }
 
     @Override
+    @Timed(value = "swift.codes.validation", histogram = true)
     public void validate(Object target, Errors errors) {
         SwiftCodeRequest swiftCodeRequest = (SwiftCodeRequest) target;
 
-        validateCountryData(swiftCodeRequest.getCountryISO2(), swiftCodeRequest.getCountryName(), errors);
+        validateCountryData(
+                countryService.findCountryName(swiftCodeRequest.getCountryISO2()),
+                () -> countryService.existsByCountryName(swiftCodeRequest.getCountryName()),
+                swiftCodeRequest.getCountryName(),
+                errors);
         validateHeadquarterData(swiftCodeRequest.getIsHeadquarter(), swiftCodeRequest.getSwiftCode(), errors);
     }
 
-    private void validateCountryData(String countryISO2, String countryName, Errors errors) {
-        List<SwiftCode> recordsForCountry = repository.findByCountryISO2(countryISO2);
+    /**
+     * Validates requests created together, including the bean constraints of each. A request is also checked against
+     * the countries of the valid requests before it and rejected if it repeats one of their swift codes. Returns the
+     * errors of every request, in order.
+     */
+    @Timed(value = "swift.codes.validation", histogram = true)
+    public List<Errors> validateAll(List<SwiftCodeRequest> swiftCodeRequests) {
+        Set<String> swiftCodes = new HashSet<>();
+        Map<String, String> countryNamesByISO2 = new HashMap<>();
+        Set<String> countryNames = new HashSet<>();
+        List<Errors> validated = new ArrayList<>(swiftCodeRequests.size());
+
+        for (int i = 0; i < swiftCodeRequests.size(); i++) {
+            SwiftCodeRequest swiftCodeRequest = swiftCodeRequests.get(i);
+            Errors errors = new BeanPropertyBindingResult(swiftCodeRequest, "swiftCodes[" + i + "]");
+            validated.add(errors);
+            beanValidator.validate(swiftCodeRequest, errors);
+            if (errors.hasErrors()) {
+                continue;
+            }
 
-        if (recordsForCountry.isEmpty()) {
-            if (repository.existsByCountryName(countryName)) {
+            String countryISO2 = swiftCodeRequest.getCountryISO2();
+            String countryName = swiftCodeRequest.getCountryName();
+            if (swiftCodes.contains(swiftCodeRequest.getSwiftCode())) {
+                errors.rejectValue(
+                        "swiftCode", "swiftCode.duplicate", "Swift code is given more than once in the request");
+            }
+            validateCountryData(
+                    countryService
+                            .findCountryName(countryISO2)
+                            .or(() -> Optional.ofNullable(countryNamesByISO2.get(countryISO2))),
+                    () -> countryService.existsByCountryName(countryName) || countryNames.contains(countryName),
+                    countryName,
+                    errors);
+            validateHeadquarterData(swiftCodeRequest.getIsHeadquarter(), swiftCodeRequest.getSwiftCode(), errors);
+
+            if (!errors.hasErrors()) {
+                swiftCodes.add(swiftCodeRequest.getSwiftCode());
+                countryNamesByISO2.putIfAbsent(countryISO2, countryName);
+                countryNames.add(countryName);
+            }
+        }
+        return validated;
+    }
+
+    private void validateCountryData(
+            Optional<String> existingCountryName,
+            BooleanSupplier countryNameExists,
+            String countryName,
+            Errors errors) {
+        if (existingCountryName.isEmpty()) {
+            if (countryNameExists.getAsBoolean()) {
                 errors.rejectValue(
                         "countryISO2",
                         "countryName.conflict",
                         "Provided country " + "name exists while the countryISO2 does not");
             }
-        } else {
-            String existingCountryName = recordsForCountry.getFirst().getCountryName();
-            if (!existingCountryName.equals(countryName)) {
-                errors.rejectValue(
-                        "countryName",
-                        "countryName.mismatch",
-                        "Provided country " + "name does not match to the existing one for the countryISO2");
-            }
+        } else if (!existingCountryName.get().equals(countryName)) {
+            errors.rejectValue(
+                    "countryName",
+                    "countryName.mismatch",
+                    "Provided country " + "name does not match to the existing one for the countryISO2");
         }
     }
 
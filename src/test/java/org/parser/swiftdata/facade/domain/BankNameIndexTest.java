@@ -0,0 +1,112 @@
+package org.parser.swiftdata.facade.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class BankNameIndexTest {
+
+    private final SwiftCode santander =
+            new SwiftCode("BSCHESMMXXX", "Banco Santander S.A.", "Address", "ES", "SPAIN", true, "BSCHESMM");
+    private final SwiftCode santanderPoland =
+            new SwiftCode("WBKPPLPPXXX", "Santander Bank Polska", "Address", "PL", "POLAND", true, "WBKPPLPP");
+    private final SwiftCode deutsche =
+            new SwiftCode("DEUTDEFFXXX", "Deutsche Bank", "Address", "DE", "GERMANY", true, "DEUTDEFF");
+
+    private final BankNameIndex index = BankNameIndex.of(List.of(santander, santanderPoland, deutsche), 10);
+
+    @Test
+    void search_matchesWordsCaseInsensitively_andIntersectsThem() {
+        // given
+        // when / then
+        assertEquals(List.of("BSCHESMMXXX", "WBKPPLPPXXX"), swiftCodes(index.search("santander")));
+        assertEquals(List.of("DEUTDEFFXXX", "WBKPPLPPXXX"), swiftCodes(index.search("BANK")));
+        assertEquals(List.of("WBKPPLPPXXX"), swiftCodes(index.search("Santander, bank")));
+        assertEquals(List.of(), swiftCodes(index.search("Commerzbank")));
+        assertEquals(List.of(), swiftCodes(index.search(" - ")));
+    }
+
+    @Test
+    void search_toleratesOneTypo_inWordsOfFourOrMoreCharacters() {
+        // given
+        // when / then
+        assertEquals(List.of("BSCHESMMXXX", "WBKPPLPPXXX"), swiftCodes(index.search("Santnader")));
+        assertEquals(List.of("BSCHESMMXXX", "WBKPPLPPXXX"), swiftCodes(index.search("Santader")));
+        assertEquals(List.of("BSCHESMMXXX", "WBKPPLPPXXX"), swiftCodes(index.search("Santanders")));
+        assertEquals(List.of("DEUTDEFFXXX"), swiftCodes(index.search("Deutsxhe")));
+        assertEquals(List.of(), swiftCodes(index.search("Sanatnedr")));
+        assertEquals(List.of(), swiftCodes(index.search("SB")));
+    }
+
+    @Test
+    void apply_removesAndAddsCodes_withoutChangingOriginal() {
+        // given
+        SwiftCode renamed =
+                new SwiftCode("DEUTDEFFXXX", "Deutsche Santander", "Address", "DE", "GERMANY", true, "DEUTDEFF");
+
+        // when
+        BankNameIndex changed = index.apply(List.of(renamed), List.of(deutsche, santander));
+
+        // then
+        assertEquals(List.of("DEUTDEFFXXX", "WBKPPLPPXXX"), swiftCodes(changed.search("Santander")));
+        assertEquals(List.of("WBKPPLPPXXX"), swiftCodes(changed.search("Bank")));
+        assertEquals(List.of(), swiftCodes(changed.search("Banco")));
+        assertEquals(List.of(), swiftCodes(changed.search("Bancoo")));
+        assertEquals(List.of("BSCHESMMXXX"), swiftCodes(index.search("Banco")));
+    }
+
+    @Test
+    void apply_mergesPendingChanges_onceAboveThreshold() {
+        // given
+        BankNameIndex small = BankNameIndex.of(List.of(santander, deutsche), 2);
+        SwiftCode renamed =
+                new SwiftCode("DEUTDEFFXXX", "Deutsche Santander", "Address", "DE", "GERMANY", true, "DEUTDEFF");
+
+        // when
+        BankNameIndex pending = small.apply(List.of(renamed), List.of(deutsche));
+        BankNameIndex merged = pending.apply(List.of(santanderPoland), List.of());
+
+        // then
+        assertEquals(2, pending.pendingChanges());
+        assertEquals(List.of("BSCHESMMXXX", "DEUTDEFFXXX"), swiftCodes(pending.search("Santander")));
+        assertEquals(0, merged.pendingChanges());
+        assertEquals(List.of("BSCHESMMXXX", "DEUTDEFFXXX", "WBKPPLPPXXX"), swiftCodes(merged.search("Santnader")));
+        assertEquals(List.of("WBKPPLPPXXX"), swiftCodes(merged.search("Bank")));
+    }
+
+    @Test
+    void apply_removingPendingCode_dropsItFromResults() {
+        // given
+        BankNameIndex pending = index.apply(List.of(), List.of(santander)).apply(List.of(santander), List.of());
+
+        // when
+        BankNameIndex changed = pending.apply(List.of(), List.of(santander));
+
+        // then
+        assertEquals(List.of("BSCHESMMXXX", "WBKPPLPPXXX"), swiftCodes(pending.search("Santander")));
+        assertEquals(List.of("WBKPPLPPXXX"), swiftCodes(changed.search("Santander")));
+        assertEquals(List.of(), swiftCodes(changed.search("Banco")));
+    }
+
+    @Test
+    void withinOneEdit_acceptsSingleEdits_only() {
+        // given
+        // when / then
+        assertTrue(BankNameIndex.withinOneEdit("BANK", "BANK"));
+        assertTrue(BankNameIndex.withinOneEdit("BANK", "BANKS"));
+        assertTrue(BankNameIndex.withinOneEdit("BANK", "BAK"));
+        assertTrue(BankNameIndex.withinOneEdit("BANK", "BONK"));
+        assertTrue(BankNameIndex.withinOneEdit("BANK", "BNAK"));
+        assertFalse(BankNameIndex.withinOneEdit("BANK", "BONKS"));
+        assertFalse(BankNameIndex.withinOneEdit("BANK", "NABK"));
+        assertFalse(BankNameIndex.withinOneEdit("BANK", "BA"));
+    }
+
+    private static List<String> swiftCodes(long[] codes) {
+        return Arrays.stream(codes)
+                .mapToObj(code -> CompactSwiftCodeIndex.unpack(code, CompactSwiftCodeIndex.CODE_LENGTH))
+                .toList();
+    }
+}
@@ -0,0 +1,51 @@
+package org.parser.swiftdata.facade.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.parser.swiftdata.facade.dto.SwiftCodeBranchResponse;
+
+public class BranchHierarchyTest {
+
+    private final SwiftCode headquarter =
+            new SwiftCode("COBANK12XXX", "Bank HQ", "HQ Address", "PL", "POLAND", true, "COBANK12");
+    private final SwiftCode branch =
+            new SwiftCode("COBANK12001", "Bank Branch", null, "PL", "POLAND", false, "COBANK12");
+    private final SwiftCode otherBank =
+            new SwiftCode("DEUTDEFFXXX", "Deutsche Bank", "Address", "DE", "GERMANY", true, "DEUTDEFF");
+
+    private final BranchHierarchy hierarchy = BranchHierarchy.of(List.of(headquarter, otherBank, branch));
+
+    @Test
+    void branchesOf_returnsSameSortedList_onEveryLookup() {
+        // given
+        // when
+        List<SwiftCodeBranchResponse> branches = hierarchy.branchesOf("COBANK12");
+
+        // then
+        assertEquals(List.of("COBANK12001", "COBANK12XXX"), swiftCodes(branches));
+        assertSame(branches, hierarchy.branchesOf("COBANK12"));
+        assertEquals(List.of(), hierarchy.branchesOf("COBANK13"));
+    }
+
+    @Test
+    void apply_rebuildsOnlyChangedGroups_withoutChangingOriginal() {
+        // given
+        SwiftCode newBranch = new SwiftCode("COBANK12000", "New Branch", "Address", "PL", "POLAND", false, "COBANK12");
+        SwiftCode renamed = new SwiftCode("COBANK12001", "Renamed", null, "PL", "POLAND", false, "COBANK12");
+
+        // when
+        BranchHierarchy changed = hierarchy.apply(List.of(newBranch, renamed), List.of(otherBank));
+
+        // then
+        assertEquals(List.of("COBANK12000", "COBANK12001", "COBANK12XXX"), swiftCodes(changed.branchesOf("COBANK12")));
+        assertEquals("Renamed", changed.branchesOf("COBANK12").get(1).getBankName());
+        assertEquals(List.of(), changed.branchesOf("DEUTDEFF"));
+        assertEquals(List.of("DEUTDEFFXXX"), swiftCodes(hierarchy.branchesOf("DEUTDEFF")));
+    }
+
+    private static List<String> swiftCodes(List<SwiftCodeBranchResponse> branches) {
+        return branches.stream().map(SwiftCodeBranchResponse::getSwiftCode).toList();
+    }
+}
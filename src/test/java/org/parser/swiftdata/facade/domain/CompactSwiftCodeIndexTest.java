@@ -0,0 +1,109 @@
+package org.parser.swiftdata.facade.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class CompactSwiftCodeIndexTest {
+
+    private final SwiftCode headquarter =
+            new SwiftCode("COBANK12XXX", "Bank HQ", "HQ Address", "PL", "POLAND", true, "COBANK12");
+    private final SwiftCode branch = new SwiftCode("COBANK12001", "Bank HQ", null, "PL", "POLAND", false, "COBANK12");
+    private final SwiftCode otherBank =
+            new SwiftCode("COBANK13XXX", "Other Bank", "Ulica Łódzka 1", "PL", "POLAND", true, "COBANK13");
+    private final SwiftCode otherCountry =
+            new SwiftCode("DEUTDEFFXXX", "Deutsche Bank", "Address", "DE", "GERMANY", true, "DEUTDEFF");
+
+    private final CompactSwiftCodeIndex index =
+            CompactSwiftCodeIndex.of(List.of(otherCountry, headquarter, otherBank, branch));
+
+    @Test
+    void pack_keepsLexicographicOrder_andUnpacksToSameCode() {
+        // given
+        List<String> sorted = List.of("00000000000", "0ZZZZZZZZZZ", "A0000000000", "COBANK12001", "ZZZZZZZZZZZ");
+
+        // when
+        List<Long> packed = sorted.stream().map(CompactSwiftCodeIndex::pack).toList();
+
+        // then
+        for (int i = 1; i < packed.size(); i++) {
+            assertTrue(packed.get(i - 1) < packed.get(i));
+        }
+        assertEquals("COBANK12001", CompactSwiftCodeIndex.unpack(CompactSwiftCodeIndex.pack("COBANK12001"), 11));
+    }
+
+    @Test
+    void findById_restoresAllColumns() {
+        // given
+        // when
+        SwiftCode found = index.findById("COBANK13XXX").orElseThrow();
+
+        // then
+        assertEquals("COBANK13XXX", found.getSwiftCode());
+        assertEquals("Other Bank", found.getBankName());
+        assertEquals("Ulica Łódzka 1", found.getAddress());
+        assertEquals("PL", found.getCountryISO2());
+        assertEquals("POLAND", found.getCountryName());
+        assertTrue(found.isHeadquarter());
+        assertEquals("COBANK13", found.getHeadquarterCode());
+        assertNull(index.findById("COBANK12001").orElseThrow().getAddress());
+        assertTrue(index.findById("COBANK12002").isEmpty());
+        assertTrue(index.findById("cobank12001").isEmpty());
+    }
+
+    @Test
+    void findByHeadquarterCode_returnsContiguousRangeOfBranches() {
+        // given
+        // when
+        List<SwiftCode> found = index.findByHeadquarterCode("COBANK12");
+
+        // then
+        assertEquals(List.of("COBANK12001", "COBANK12XXX"), swiftCodes(found));
+        assertEquals(List.of(), index.findByHeadquarterCode("COBANK11"));
+    }
+
+    @Test
+    void findCountryPage_seeksPastCursor() {
+        // given
+        // when / then
+        assertEquals(List.of("COBANK12001", "COBANK12XXX", "COBANK13XXX"), swiftCodes(index.findByCountryISO2("PL")));
+        assertEquals(List.of("COBANK12001"), swiftCodes(index.findCountryPage("PL", null, 1)));
+        assertEquals(List.of("COBANK12XXX"), swiftCodes(index.findCountryPage("PL", "COBANK12001", 1)));
+        assertEquals(List.of("COBANK13XXX"), swiftCodes(index.findCountryPage("PL", "COBANK12ZZZ", 5)));
+        assertEquals(List.of("COBANK12XXX", "COBANK13XXX"), swiftCodes(index.findCountryPage("PL", "COBANK12002-", 5)));
+        assertEquals(List.of(), index.findByCountryISO2("US"));
+    }
+
+    @Test
+    void apply_addsReplacesAndRemovesCodes() {
+        // given
+        SwiftCode newBranch = new SwiftCode("COBANK12000", "New Branch", "Address", "PL", "POLAND", false, "COBANK12");
+        SwiftCode renamed = new SwiftCode("DEUTDEFFXXX", "Renamed", "Address", "DE", "GERMANY", true, "DEUTDEFF");
+
+        // when
+        CompactSwiftCodeIndex changed = index.apply(List.of(newBranch, renamed), List.of(otherBank));
+
+        // then
+        assertEquals(4, changed.size());
+        assertEquals(List.of("COBANK12000", "COBANK12001", "COBANK12XXX"), swiftCodes(changed.findByCountryISO2("PL")));
+        assertEquals("Renamed", changed.findById("DEUTDEFFXXX").orElseThrow().getBankName());
+        assertEquals("HQ Address", changed.findById("COBANK12XXX").orElseThrow().getAddress());
+        assertTrue(changed.findById("COBANK13XXX").isEmpty());
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void canIndex_rejectsCodesOutsideBase36() {
+        // given
+        SwiftCode lowerCase = new SwiftCode("cobank12xxx", "Bank", "Address", "PL", "POLAND", true, "cobank12");
+
+        // when / then
+        assertTrue(CompactSwiftCodeIndex.canIndex(List.of(headquarter, otherCountry)));
+        assertFalse(CompactSwiftCodeIndex.canIndex(List.of(headquarter, lowerCase)));
+    }
+
+    private static List<String> swiftCodes(List<SwiftCode> swiftCodes) {
+        return swiftCodes.stream().map(SwiftCode::getSwiftCode).toList();
+    }
+}
@@ -0,0 +1,76 @@
+package org.parser.swiftdata.facade.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.parser.swiftdata.infrastructure.parser.SwiftCodeDataLoadedEvent;
+import org.parser.swiftdata.infrastructure.parser.SwiftCodeDataLoadedEvent.Origin;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+public class CountryDirectoryTest {
+
+    @Mock
+    private SwiftCodeRepository repository;
+
+    private CountryDirectory countries;
+
+    private final SwiftCode headquarter =
+            new SwiftCode("COBANK12XXX", "Bank HQ", "HQ Address", "PL", "POLAND", true, "COBANK12");
+    private final SwiftCode branch =
+            new SwiftCode("COBANK12001", "Bank Branch", "Branch Address", "PL", "POLAND", false, "COBANK12");
+
+    @BeforeEach
+    void setUp() {
+        countries = new CountryDirectory(repository);
+    }
+
+    @Test
+    void findCountryName_delegatesToRepository_whenNotLoaded() {
+        // given
+        when(repository.findByCountryISO2OrderBySwiftCode("PL", Limit.of(1))).thenReturn(List.of(branch));
+        when(repository.existsByCountryName("FRANCE")).thenReturn(false);
+
+        // when / then
+        assertEquals(Optional.of("POLAND"), countries.findCountryName("PL"));
+        assertFalse(countries.existsByCountryName("FRANCE"));
+    }
+
+    @Test
+    void findCountryName_usesCountryRegistry_andFollowsChanges_whenLoaded() {
+        // given
+        when(repository.countByCountry())
+                .thenReturn(List.of(new CountryCount("DE", "GERMANY", 1), new CountryCount("PL", "POLAND", 2)));
+        countries.onDataLoaded(new SwiftCodeDataLoadedEvent("swift_codes.csv", Origin.SNAPSHOT));
+
+        // when
+        countries.onSwiftCodesChanged(SwiftCodesChangedEvent.deleted(List.of(headquarter, branch)));
+
+        // then
+        assertEquals(Optional.empty(), countries.findCountryName("PL"));
+        assertFalse(countries.existsByCountryName("POLAND"));
+        assertEquals(Optional.of("GERMANY"), countries.findCountryName("DE"));
+        assertTrue(countries.existsByCountryName("GERMANY"));
+        verify(repository, never()).findByCountryISO2OrderBySwiftCode(anyString(), any());
+        verify(repository, never()).existsByCountryName(anyString());
+    }
+
+    @Test
+    void onSwiftCodesChanged_isIgnored_whenNotLoaded() {
+        // given
+        // when
+        countries.onSwiftCodesChanged(SwiftCodesChangedEvent.saved(headquarter));
+
+        // then
+        verifyNoInteractions(repository);
+    }
+}
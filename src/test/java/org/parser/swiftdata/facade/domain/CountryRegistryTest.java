@@ -0,0 +1,78 @@
+package org.parser.swiftdata.facade.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public class CountryRegistryTest {
+
+    private final SwiftCode headquarter =
+            new SwiftCode("COBANK12XXX", "Bank HQ", "HQ Address", "PL", "POLAND", true, "COBANK12");
+    private final SwiftCode branch =
+            new SwiftCode("COBANK12001", "Bank Branch", null, "PL", "POLAND", false, "COBANK12");
+    private final SwiftCode otherCountry =
+            new SwiftCode("DEUTDEFFXXX", "Deutsche Bank", "Address", "DE", "GERMANY", true, "DEUTDEFF");
+
+    private final CountryRegistry registry = CountryRegistry.of(List.of(headquarter, otherCountry, branch));
+
+    @Test
+    void findCountryName_returnsNameOfRegisteredCountry() {
+        // given
+        // when
+        // then
+        assertEquals(Optional.of("POLAND"), registry.findCountryName("PL"));
+        assertEquals(Optional.empty(), registry.findCountryName("FR"));
+        assertTrue(registry.containsCountryName("GERMANY"));
+        assertFalse(registry.containsCountryName("FRANCE"));
+    }
+
+    @Test
+    void apply_keepsCountry_untilItsLastSwiftCodeIsRemoved() {
+        // given
+        // when
+        CountryRegistry withoutBranch = registry.apply(List.of(), List.of(branch));
+        CountryRegistry withoutPoland = withoutBranch.apply(List.of(), List.of(headquarter));
+
+        // then
+        assertEquals(Optional.of("POLAND"), withoutBranch.findCountryName("PL"));
+        assertEquals(Optional.empty(), withoutPoland.findCountryName("PL"));
+        assertFalse(withoutPoland.containsCountryName("POLAND"));
+        assertEquals(Optional.of("POLAND"), registry.findCountryName("PL"));
+    }
+
+    @Test
+    void apply_registersCountry_ofSavedSwiftCode() {
+        // given
+        SwiftCode newCountry = new SwiftCode("BNPAFRPPXXX", "BNP Paribas", "Address", "FR", "FRANCE", true, "BNPAFRPP");
+
+        // when
+        CountryRegistry changed = registry.apply(List.of(newCountry), List.of());
+
+        // then
+        assertEquals(Optional.of("FRANCE"), changed.findCountryName("FR"));
+        assertTrue(changed.containsCountryName("FRANCE"));
+        assertFalse(registry.containsCountryName("FRANCE"));
+    }
+
+    @Test
+    void ofCounts_registersFirstNameOfCountry_andSumsItsSwiftCodes() {
+        // given
+        List<CountryCount> counts = List.of(
+                new CountryCount("PL", "POLAND", 1),
+                new CountryCount("PL", "POLSKA", 1),
+                new CountryCount("DE", "GERMANY", 1));
+
+        // when
+        CountryRegistry counted = CountryRegistry.ofCounts(counts);
+        CountryRegistry withoutOne = counted.apply(List.of(), List.of(headquarter));
+
+        // then
+        assertEquals(2, counted.size());
+        assertEquals(Optional.of("POLAND"), counted.findCountryName("PL"));
+        assertTrue(counted.containsCountryName("POLSKA"));
+        assertEquals(Optional.of("POLAND"), withoutOne.findCountryName("PL"));
+        assertFalse(withoutOne.containsCountryName("POLAND"));
+    }
+}
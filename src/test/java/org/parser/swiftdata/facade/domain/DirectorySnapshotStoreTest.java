@@ -0,0 +1,149 @@
+package org.parser.swiftdata.facade.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.parser.swiftdata.facade.domain.SwiftCodeDirectoryProperties.Storage;
+
+public class DirectorySnapshotStoreTest {
+
+    private final SwiftCode headquarter =
+            new SwiftCode("COBANK12XXX", "Bank HQ", "HQ Address", "PL", "POLAND", true, "COBANK12");
+    private final SwiftCode branch = new SwiftCode("COBANK12001", "Bank HQ", null, "PL", "POLAND", false, "COBANK12");
+    private final SwiftCode otherCountry =
+            new SwiftCode("DEUTDEFFXXX", "Deutsche Bank", "Ulica Łódzka 1", "DE", "GERMANY", true, "DEUTDEFF");
+
+    private final CompactSwiftCodeIndex index = CompactSwiftCodeIndex.of(List.of(otherCountry, headquarter, branch));
+
+    @TempDir
+    private Path directory;
+
+    private Path dataFile;
+
+    private Path snapshotFile;
+
+    private DirectorySnapshotStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dataFile = Files.writeString(directory.resolve("swift_codes.csv"), "COUNTRY ISO2 CODE,SWIFT CODE\n");
+        snapshotFile = directory.resolve("swift_codes.snapshot");
+        store = new DirectorySnapshotStore(
+                new SwiftCodeDirectoryProperties(Storage.COMPACT, true, snapshotFile.toString(), 1024));
+    }
+
+    @Test
+    void read_returnsIndexWithSameRows_afterWrite() {
+        // given
+        store.write(index, dataFile.toString(), 7);
+
+        // when
+        Optional<CompactSwiftCodeIndex> restored = store.read(dataFile.toString(), 3, 7);
+
+        // then
+        assertTrue(restored.isPresent());
+        assertEquals(rows(index.toList()), rows(restored.get().toList()));
+        assertEquals(
+                List.of("COBANK12001", "COBANK12XXX"),
+                restored.get().findCountryPage("PL", null, 10).stream()
+                        .map(SwiftCode::getSwiftCode)
+                        .toList());
+        assertNull(restored.get().findById("COBANK12001").orElseThrow().getAddress());
+    }
+
+    @Test
+    void read_deletesSnapshot_whenDataFileChanged() throws IOException {
+        // given
+        store.write(index, dataFile.toString(), 7);
+        Files.setLastModifiedTime(
+                dataFile,
+                FileTime.fromMillis(Files.getLastModifiedTime(dataFile).toMillis() + 1000));
+
+        // when
+        Optional<CompactSwiftCodeIndex> restored = store.read(dataFile.toString(), 3, 7);
+
+        // then
+        assertTrue(restored.isEmpty());
+        assertFalse(Files.exists(snapshotFile));
+    }
+
+    @Test
+    void read_returnsEmpty_whenDatabaseHoldsOtherRowCount() {
+        // given
+        store.write(index, dataFile.toString(), 7);
+
+        // when
+        Optional<CompactSwiftCodeIndex> restored = store.read(dataFile.toString(), 4, 7);
+
+        // then
+        assertTrue(restored.isEmpty());
+    }
+
+    @Test
+    void read_deletesSnapshot_whenDatabaseVersionChanged() {
+        // given
+        store.write(index, dataFile.toString(), 7);
+
+        // when
+        Optional<CompactSwiftCodeIndex> restored = store.read(dataFile.toString(), 3, 8);
+
+        // then
+        assertTrue(restored.isEmpty());
+        assertFalse(Files.exists(snapshotFile));
+    }
+
+    @Test
+    void read_returnsEmpty_whenChecksumDoesNotMatch() throws IOException {
+        // given
+        store.write(index, dataFile.toString(), 7);
+        try (RandomAccessFile file = new RandomAccessFile(snapshotFile.toFile(), "rw")) {
+            file.seek(file.length() - 1);
+            int last = file.read();
+            file.seek(file.length() - 1);
+            file.write(last ^ 1);
+        }
+
+        // when
+        Optional<CompactSwiftCodeIndex> restored = store.read(dataFile.toString(), 3, 7);
+
+        // then
+        assertTrue(restored.isEmpty());
+    }
+
+    @Test
+    void write_doesNothing_whenSnapshotPathIsEmpty() {
+        // given
+        DirectorySnapshotStore disabled =
+                new DirectorySnapshotStore(new SwiftCodeDirectoryProperties(Storage.COMPACT, true, "", 1024));
+
+        // when
+        disabled.write(index, dataFile.toString(), 7);
+
+        // then
+        assertTrue(disabled.read(dataFile.toString(), 3, 7).isEmpty());
+        assertFalse(Files.exists(snapshotFile));
+    }
+
+    private static List<String> rows(List<SwiftCode> swiftCodes) {
+        return swiftCodes.stream()
+                .map(swiftCode -> String.join(
+                        "|",
+                        swiftCode.getSwiftCode(),
+                        swiftCode.getBankName(),
+                        String.valueOf(swiftCode.getAddress()),
+                        swiftCode.getCountryISO2(),
+                        swiftCode.getCountryName(),
+                        String.valueOf(swiftCode.isHeadquarter()),
+                        swiftCode.getHeadquarterCode()))
+                .toList();
+    }
+}
@@ -0,0 +1,138 @@
+package org.parser.swiftdata.facade.domain;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.parser.swiftdata.facade.CountryService;
+import org.parser.swiftdata.infrastructure.parser.SwiftCodeDataLoadedEvent;
+import org.springframework.data.domain.Limit;
+
+/**
+ * {@link SwiftCodeRepository} backed by maps, used where a database round trip would dominate what is measured. Only
+ * the query methods used by the services are supported.
+ */
+public final class InMemorySwiftCodeRepository {
+
+    private static final Comparator<SwiftCode> BY_SWIFT_CODE = Comparator.comparing(SwiftCode::getSwiftCode);
+
+    private InMemorySwiftCodeRepository() {}
+
+    /** A {@link CountryService} loaded from an in-memory repository with the given swift codes. */
+    public static CountryService loadedCountryService(Collection<SwiftCode> swiftCodes) {
+        CountryDirectory countries = new CountryDirectory(of(swiftCodes));
+        countries.onDataLoaded(new SwiftCodeDataLoadedEvent("benchmark"));
+        return countries;
+    }
+
+    public static SwiftCodeRepository of(Collection<SwiftCode> swiftCodes) {
+        Map<String, SwiftCode> bySwiftCode = new TreeMap<>();
+        swiftCodes.forEach(swiftCode -> bySwiftCode.put(swiftCode.getSwiftCode(), swiftCode));
+        Map<String, List<SwiftCode>> byHeadquarterCode = new HashMap<>();
+        Map<String, List<SwiftCode>> byCountryISO2 = new HashMap<>();
+        Set<String> countryNames = new HashSet<>();
+        Map<List<String>, Long> countByCountry = new LinkedHashMap<>();
+        for (SwiftCode swiftCode : bySwiftCode.values()) {
+            byHeadquarterCode
+                    .computeIfAbsent(swiftCode.getHeadquarterCode(), key -> new ArrayList<>())
+                    .add(swiftCode);
+            byCountryISO2
+                    .computeIfAbsent(swiftCode.getCountryISO2(), key -> new ArrayList<>())
+                    .add(swiftCode);
+            countryNames.add(swiftCode.getCountryName());
+            countByCountry.merge(List.of(swiftCode.getCountryISO2(), swiftCode.getCountryName()), 1L, Long::sum);
+        }
+
+        return (SwiftCodeRepository) Proxy.newProxyInstance(
+                SwiftCodeRepository.class.getClassLoader(),
+                new Class<?>[] {SwiftCodeRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAll" -> List.copyOf(bySwiftCode.values());
+                    case "findById" -> Optional.ofNullable(bySwiftCode.get((String) args[0]));
+                    case "existsById" -> bySwiftCode.containsKey((String) args[0]);
+                    case "count" -> (long) bySwiftCode.size();
+                    case "findAllById" -> stream((Iterable<?>) args[0])
+                            .map(bySwiftCode::get)
+                            .filter(Objects::nonNull)
+                            .toList();
+                    case "findByHeadquarterCode" -> byHeadquarterCode.getOrDefault((String) args[0], List.of());
+                    case "findByHeadquarterCodeIn" -> stream((Iterable<?>) args[0])
+                            .flatMap(code -> byHeadquarterCode.getOrDefault(code, List.of()).stream())
+                            .toList();
+                    case "findByCountryISO2" -> byCountryISO2.getOrDefault((String) args[0], List.of());
+                    case "findByCountryISO2OrderBySwiftCode" -> byCountryISO2
+                            .getOrDefault((String) args[0], List.of())
+                            .stream()
+                            .limit(((Limit) args[1]).max())
+                            .toList();
+                    case "findByCountryISO2AndSwiftCodeGreaterThanOrderBySwiftCode" -> byCountryISO2
+                            .getOrDefault((String) args[0], List.of())
+                            .stream()
+                            .filter(swiftCode -> swiftCode.getSwiftCode().compareTo((String) args[1]) > 0)
+                            .limit(((Limit) args[2]).max())
+                            .toList();
+                    case "existsByCountryName" -> countryNames.contains((String) args[0]);
+                    case "countByCountry" -> countByCountry.entrySet().stream()
+                            .map(count -> new CountryCount(
+                                    count.getKey().get(0), count.getKey().get(1), count.getValue()))
+                            .toList();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemorySwiftCodeRepository[" + bySwiftCode.size() + "]";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /** {@link DirectoryVersions} of a database which is never changed. */
+    static DirectoryVersions versions() {
+        return new DirectoryVersions((DirectoryVersionRepository) Proxy.newProxyInstance(
+                DirectoryVersionRepository.class.getClassLoader(),
+                new Class<?>[] {DirectoryVersionRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.empty();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemoryDirectoryVersionRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }));
+    }
+
+    /**
+     * Generates {@code countries * banksPerCountry} headquarters, each with {@code branchesPerBank} branches. Codes
+     * and names are deterministic, e.g. {@code AB000001XXX} and {@code AB000001001} in country {@code AB}.
+     */
+    public static List<SwiftCode> generate(int countries, int banksPerCountry, int branchesPerBank) {
+        List<SwiftCode> swiftCodes = new ArrayList<>(countries * banksPerCountry * (branchesPerBank + 1));
+        for (int country = 0; country < countries; country++) {
+            String countryISO2 = "" + (char) ('A' + country / 26 % 26) + (char) ('A' + country % 26);
+            String countryName = "COUNTRY " + countryISO2;
+            for (int bank = 0; bank < banksPerCountry; bank++) {
+                String headquarterCode = countryISO2 + String.format("%06d", bank);
+                swiftCodes.add(new SwiftCode(
+                        headquarterCode + "XXX",
+                        "BANK " + headquarterCode,
+                        bank + " MAIN STREET, CAPITAL",
+                        countryISO2,
+                        countryName,
+                        true,
+                        headquarterCode));
+                for (int branch = 1; branch <= branchesPerBank; branch++) {
+                    swiftCodes.add(new SwiftCode(
+                            headquarterCode + String.format("%03d", branch),
+                            "BANK " + headquarterCode + " BRANCH " + branch,
+                            branch + " HIGH STREET, CITY",
+                            countryISO2,
+                            countryName,
+                            false,
+                            headquarterCode));
+                }
+            }
+        }
+        swiftCodes.sort(BY_SWIFT_CODE);
+        return swiftCodes;
+    }
+
+    private static Stream<?> stream(Iterable<?> iterable) {
+        return StreamSupport.stream(iterable.spliterator(), false);
+    }
+}
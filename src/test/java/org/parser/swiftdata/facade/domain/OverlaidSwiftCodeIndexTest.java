@@ -0,0 +1,87 @@
+package org.parser.swiftdata.facade.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class OverlaidSwiftCodeIndexTest {
+
+    private final SwiftCode headquarter =
+            new SwiftCode("COBANK12XXX", "Bank HQ", "HQ Address", "PL", "POLAND", true, "COBANK12");
+    private final SwiftCode branch = new SwiftCode("COBANK12001", "Bank HQ", null, "PL", "POLAND", false, "COBANK12");
+    private final SwiftCode otherCountry =
+            new SwiftCode("DEUTDEFFXXX", "Deutsche Bank", "Address", "DE", "GERMANY", true, "DEUTDEFF");
+
+    private final CompactSwiftCodeIndex base = CompactSwiftCodeIndex.of(List.of(otherCountry, headquarter, branch));
+
+    @Test
+    void apply_belowThreshold_keepsIndexAndShadowsChangedRows() {
+        // given
+        OverlaidSwiftCodeIndex index = OverlaidSwiftCodeIndex.of(base, 10);
+        SwiftCode renamed = new SwiftCode("COBANK12XXX", "Renamed", "HQ Address", "PL", "POLAND", true, "COBANK12");
+        SwiftCode added = new SwiftCode("COBANK12002", "Bank HQ", "Branch", "PL", "POLAND", false, "COBANK12");
+
+        // when
+        OverlaidSwiftCodeIndex changed = index.apply(List.of(renamed, added), List.of(branch));
+
+        // then
+        assertSame(base, changed.index());
+        assertEquals(3, changed.pendingChanges());
+        assertEquals("Renamed", changed.findById("COBANK12XXX").orElseThrow().getBankName());
+        assertTrue(changed.findById("COBANK12001").isEmpty());
+        assertEquals(
+                List.of("COBANK12002", "COBANK12XXX"),
+                changed.findByHeadquarterCode("COBANK12").stream()
+                        .map(SwiftCode::getSwiftCode)
+                        .toList());
+        assertEquals(
+                List.of("COBANK12002"),
+                changed.findCountryPage("PL", null, 1).stream()
+                        .map(SwiftCode::getSwiftCode)
+                        .toList());
+        assertEquals(
+                List.of("COBANK12XXX"),
+                changed.findCountryPage("PL", "COBANK12002", 10).stream()
+                        .map(SwiftCode::getSwiftCode)
+                        .toList());
+        assertEquals(3, changed.toList().size());
+        assertTrue(index.findById("COBANK12001").isPresent());
+    }
+
+    @Test
+    void apply_aboveThreshold_mergesChangesIntoNewIndex() {
+        // given
+        OverlaidSwiftCodeIndex index = OverlaidSwiftCodeIndex.of(base, 1);
+        SwiftCode added = new SwiftCode("COBANK12002", "Bank HQ", "Branch", "PL", "POLAND", false, "COBANK12");
+
+        // when
+        OverlaidSwiftCodeIndex changed = index.apply(List.of(added), List.of(otherCountry));
+
+        // then
+        assertNotSame(base, changed.index());
+        assertEquals(0, changed.pendingChanges());
+        assertTrue(changed.index().findById("DEUTDEFFXXX").isEmpty());
+        assertEquals(
+                "Branch", changed.index().findById("COBANK12002").orElseThrow().getAddress());
+        assertEquals(
+                "HQ Address",
+                changed.index().findById("COBANK12XXX").orElseThrow().getAddress());
+        assertEquals(
+                List.of("COBANK12001", "COBANK12002", "COBANK12XXX"),
+                changed.toList().stream().map(SwiftCode::getSwiftCode).toList());
+    }
+
+    @Test
+    void apply_savedAfterDeleted_removesTombstone() {
+        // given
+        OverlaidSwiftCodeIndex index = OverlaidSwiftCodeIndex.of(base, 10).apply(List.of(), List.of(branch));
+
+        // when
+        OverlaidSwiftCodeIndex changed = index.apply(List.of(branch), List.of());
+
+        // then
+        assertEquals(1, changed.pendingChanges());
+        assertEquals(branch, changed.findById("COBANK12001").orElseThrow());
+    }
+}
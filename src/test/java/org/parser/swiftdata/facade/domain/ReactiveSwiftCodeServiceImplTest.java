@@ -0,0 +1,101 @@
+package org.parser.swiftdata.facade.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.parser.swiftdata.facade.dto.SwiftCodeBranchResponse;
+import org.parser.swiftdata.facade.dto.SwiftCodeHeadquarterResponse;
+import org.parser.swiftdata.infrastructure.error.SwiftCodeError;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveSwiftCodeServiceImplTest {
+
+    @InjectMocks
+    private ReactiveSwiftCodeServiceImpl reactiveSwiftCodeService;
+
+    @Mock
+    private ReactiveSwiftCodeRepository repository;
+
+    // getSwiftCodeById()
+
+    @Test
+    void getSwiftCodeById_returnsHeadquarterWithBranches_whenSwiftCodeIsHeadquarter() {
+        // given
+        SwiftCode headquarter = new SwiftCode("COBANK12XXX", "Bank HQ", "HQ Address", "PL", "Poland", true, "COBANK12");
+        SwiftCode branch = new SwiftCode("COBANK1234X", "Branch 1", "Addr 1", "PL", "Poland", false, "COBANK12");
+        when(repository.findById("COBANK12XXX")).thenReturn(Mono.just(headquarter));
+        when(repository.findByHeadquarterCode("COBANK12")).thenReturn(Flux.just(branch, headquarter));
+
+        // when
+        // then
+        StepVerifier.create(reactiveSwiftCodeService.getSwiftCodeById("COBANK12XXX"))
+                .assertNext(result -> {
+                    assertTrue(result.isSuccess());
+                    SwiftCodeHeadquarterResponse response =
+                            assertInstanceOf(SwiftCodeHeadquarterResponse.class, result.getData());
+                    assertEquals(2, response.getBranches().size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getSwiftCodeById_returnsFailure_whenSwiftCodeDoesNotExist() {
+        // given
+        when(repository.findById("NONEXISTENT")).thenReturn(Mono.empty());
+
+        // when
+        // then
+        StepVerifier.create(reactiveSwiftCodeService.getSwiftCodeById("NONEXISTENT"))
+                .assertNext(result -> {
+                    assertFalse(result.isSuccess());
+                    assertInstanceOf(SwiftCodeError.SwiftCodeNotFoundById.class, result.getError());
+                })
+                .verifyComplete();
+        verify(repository, never()).findByHeadquarterCode(any());
+    }
+
+    // getSwiftCodesByCountry()
+
+    @Test
+    void getSwiftCodesByCountry_streamsRows_whenCountryExists() {
+        // given
+        when(repository.existsByCountryISO2("PL")).thenReturn(Mono.just(true));
+        when(repository.findByCountryISO2OrderBySwiftCode("PL"))
+                .thenReturn(Flux.just(
+                        new SwiftCode("COBANK1234X", "Branch 1", "Addr 1", "PL", "Poland", false, "COBANK12"),
+                        new SwiftCode("COBANK12XXX", "Bank HQ", "HQ Address", "PL", "Poland", true, "COBANK12")));
+
+        // when
+        // then
+        StepVerifier.create(
+                        reactiveSwiftCodeService.getSwiftCodesByCountry("PL").flatMapMany(result -> result.getData()
+                                .map(SwiftCodeBranchResponse::getSwiftCode)))
+                .expectNext("COBANK1234X", "COBANK12XXX")
+                .verifyComplete();
+    }
+
+    @Test
+    void getSwiftCodesByCountry_returnsFailure_whenCountryDoesNotExist() {
+        // given
+        when(repository.existsByCountryISO2("XX")).thenReturn(Mono.just(false));
+
+        // when
+        // then
+        StepVerifier.create(reactiveSwiftCodeService.getSwiftCodesByCountry("XX"))
+                .assertNext(result -> {
+                    assertFalse(result.isSuccess());
+                    assertInstanceOf(SwiftCodeError.CountryNotFoundByCountryISO2.class, result.getError());
+                })
+                .verifyComplete();
+        verify(repository, never()).findByCountryISO2OrderBySwiftCode(any());
+    }
+}
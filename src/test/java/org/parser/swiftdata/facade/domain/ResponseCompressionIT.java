@@ -0,0 +1,65 @@
+package org.parser.swiftdata.facade.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+
+/** Runs on a real Tomcat, since compression is applied by the connector and not by MockMvc. */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+            "spring.datasource.url=jdbc:h2:mem:compression",
+            "server.compression.enabled=true",
+            "server.compression.mime-types=application/json",
+            "server.compression.min-response-size=2KB"
+        })
+public class ResponseCompressionIT {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SwiftCodeRepository repository;
+
+    @MockBean
+    private CommandLineRunner loadSwiftData;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        repository.saveAll(InMemorySwiftCodeRepository.generate(1, 20, 4));
+    }
+
+    @Test
+    void getSwiftCodesByCountry_isGzipped_whenClientAcceptsGzip() throws Exception {
+        // given
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/v1/swift-codes/country/AA"))
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build();
+
+        // when
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        // then
+        assertEquals(200, response.statusCode());
+        assertEquals(Optional.of("gzip"), response.headers().firstValue(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(response.headers().firstValue(HttpHeaders.ETAG).orElseThrow().startsWith("W/\""));
+        assertEquals(0x1f, response.body()[0] & 0xff);
+        assertEquals(0x8b, response.body()[1] & 0xff);
+    }
+}
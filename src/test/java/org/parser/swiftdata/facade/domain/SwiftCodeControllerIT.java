@@ -1,24 +1,38 @@
 package org.parser.swiftdata.facade.domain;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.google.protobuf.UnknownFieldSet;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.parser.swiftdata.infrastructure.error.BodyFormat;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@AutoConfigureObservability
 public class SwiftCodeControllerIT {
 
     @Autowired
@@ -105,6 +119,125 @@ public class SwiftCodeControllerIT {
                 .andExpect(content().string(containsString("not found")));
     }
 
+    @Test
+    void getSwiftCodeById_returnsNotModified_whenETagMatches() throws Exception {
+        // given
+        String eTag = mockMvc.perform(get("/v1/swift-codes/COBANK12XXX").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when
+        mockMvc.perform(get("/v1/swift-codes/COBANK12XXX")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                // then
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    // GET /v1/swift-codes/export
+
+    @Test
+    void exportSwiftCodes_streamsAllRowsAsNdjson() throws Exception {
+        // given
+        MvcResult asyncResult = mockMvc.perform(get("/v1/swift-codes/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        String body = mockMvc.perform(asyncDispatch(asyncResult))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{") && lines[0].contains("\"swiftCode\":\"COBANK1234X\""));
+        assertTrue(lines[2].contains("\"swiftCode\":\"NB123456XXX\""));
+    }
+
+    @Test
+    void exportSwiftCodes_streamsFilteredRowsAsCsv() throws Exception {
+        // given
+        MvcResult asyncResult = mockMvc.perform(get("/v1/swift-codes/export")
+                        .param("format", "CSV")
+                        .param("countryISO2", "PL")
+                        .param("isHeadquarter", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        mockMvc.perform(asyncDispatch(asyncResult))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(
+                        content()
+                                .string(
+                                        """
+                                swiftCode,bankName,address,countryISO2,countryName,isHeadquarter,headquarterCode
+                                COBANK12XXX,Name 3,Hq Address 2,PL,Poland,true,COBANK12
+                                """));
+    }
+
+    // POST /v1/swift-codes/batch-lookup
+
+    @Test
+    void getSwiftCodesByIds_returnsFoundEntriesAndMisses() throws Exception {
+        // given
+        String requestBody =
+                """
+                {
+                  "swiftCodes": ["COBANK12XXX", "NB123456XXX", "NONEXISTENT"]
+                }
+                """;
+
+        // when
+        mockMvc.perform(post("/v1/swift-codes/batch-lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCodes.length()").value(2))
+                .andExpect(jsonPath("$.swiftCodes[0].swiftCode").value("COBANK12XXX"))
+                .andExpect(jsonPath("$.swiftCodes[0].branches.length()").value(2))
+                .andExpect(jsonPath("$.swiftCodes[1].swiftCode").value("NB123456XXX"))
+                .andExpect(jsonPath("$.misses[0]").value("NONEXISTENT"));
+    }
+
+    @Test
+    void getSwiftCodesByIds_returnsBadRequest_whenNoCodesGiven() throws Exception {
+        // given
+        String requestBody = "{\"swiftCodes\": []}";
+
+        // when
+        mockMvc.perform(post("/v1/swift-codes/batch-lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                // then
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getSwiftCodesByIds_returnsBadRequest_whenCodeIsNullOrBlank() throws Exception {
+        // given
+        String requestBody = "{\"swiftCodes\": [\"COBANK12XXX\", null, \" \"]}";
+
+        // when
+        mockMvc.perform(post("/v1/swift-codes/batch-lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                // then
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("SWIFT code cannot be empty")));
+    }
+
     // GET /v1/swift-codes/country/{countryISO2code}
 
     @Test
@@ -130,6 +263,81 @@ public class SwiftCodeControllerIT {
                 .andExpect(content().string(containsString("not found")));
     }
 
+    @Test
+    void getSwiftCodesByCountry_returnsOk_whenETagIsStale() throws Exception {
+        // given
+        // when
+        mockMvc.perform(get("/v1/swift-codes/country/PL")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(content().string(containsString("COBANK12XXX")));
+    }
+
+    @Test
+    void getSwiftCodesByCountry_returnsPagesWithNextCursor_whenLimitGiven() throws Exception {
+        // given
+        // when
+        mockMvc.perform(get("/v1/swift-codes/country/PL").param("limit", "1").accept(MediaType.APPLICATION_JSON))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCodes.length()").value(1))
+                .andExpect(jsonPath("$.swiftCodes[0].swiftCode").value("COBANK1234X"))
+                .andExpect(jsonPath("$.nextCursor").value("COBANK1234X"));
+
+        mockMvc.perform(get("/v1/swift-codes/country/PL")
+                        .param("limit", "1")
+                        .param("after", "COBANK1234X")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCodes[0].swiftCode").value("COBANK12XXX"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getSwiftCodesByCountry_omitsNextCursor_whenUnpaginated() throws Exception {
+        // given
+        // when
+        mockMvc.perform(get("/v1/swift-codes/country/PL").accept(MediaType.APPLICATION_JSON))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCodes.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    // GET /v1/swift-codes/search
+
+    @Test
+    void searchSwiftCodes_returnsCodesMatchingPrefixAndBankName() throws Exception {
+        // given
+        // when
+        mockMvc.perform(get("/v1/swift-codes/search").param("prefix", "cobank").accept(MediaType.APPLICATION_JSON))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCodes.length()").value(2))
+                .andExpect(jsonPath("$.swiftCodes[0].swiftCode").value("COBANK1234X"))
+                .andExpect(jsonPath("$.swiftCodes[1].swiftCode").value("COBANK12XXX"));
+
+        mockMvc.perform(get("/v1/swift-codes/search")
+                        .param("prefix", "CO")
+                        .param("bankName", "name 3")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCodes.length()").value(1))
+                .andExpect(jsonPath("$.swiftCodes[0].bankName").value("Name 3"));
+    }
+
+    @Test
+    void searchSwiftCodes_returnsBadRequest_whenNoCriteriaGiven() throws Exception {
+        // given
+        // when
+        mockMvc.perform(get("/v1/swift-codes/search").param("prefix", " ").accept(MediaType.APPLICATION_JSON))
+                // then
+                .andExpect(status().isBadRequest());
+    }
+
     // POST /v1/swift-codes/
 
     @Test
@@ -218,6 +426,18 @@ public class SwiftCodeControllerIT {
                 .andExpect(content().string(containsString("swift code deleted successfully")));
     }
 
+    @Test
+    void deleteSwiftCode_deletesBranches_whenRecordIsHeadquarter() throws Exception {
+        // given
+        // when
+        mockMvc.perform(delete("/v1/swift-codes/COBANK12XXX").accept(MediaType.APPLICATION_JSON))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("deleted 2 record(s)")));
+        assertTrue(repository.findByHeadquarterCode("COBANK12").isEmpty());
+        assertEquals(1, repository.count());
+    }
+
     @Test
     void deleteSwiftCode_returnsNotFound_whenRecordDoesNotExist() throws Exception {
         // given
@@ -227,4 +447,367 @@ public class SwiftCodeControllerIT {
                 .andExpect(status().isNotFound())
                 .andExpect(content().string(containsString("not found")));
     }
+
+    // GET /v1/reactive/swift-codes/{swift-code}
+
+    @Test
+    void getSwiftCodeByIdReactive_returnsHeadquarterWithBranches() throws Exception {
+        // given
+        MvcResult asyncResult = mockMvc.perform(get("/v1/reactive/swift-codes/COBANK12XXX"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        mockMvc.perform(asyncDispatch(asyncResult))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().string(containsString("branches")))
+                .andExpect(content().string(containsString("COBANK1234X")));
+    }
+
+    @Test
+    void getSwiftCodeByIdReactive_returnsNotFound_whenSwiftCodeDoesNotExist() throws Exception {
+        // given
+        MvcResult asyncResult = mockMvc.perform(get("/v1/reactive/swift-codes/NONEXISTENT"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        mockMvc.perform(asyncDispatch(asyncResult))
+                // then
+                .andExpect(status().isNotFound())
+                .andExpect(content().string(containsString("not found")));
+    }
+
+    // GET /v1/reactive/swift-codes/country/{countryISO2code}
+
+    @Test
+    void getSwiftCodesByCountryReactive_streamsRowsAsNdjson() throws Exception {
+        // given
+        MvcResult asyncResult = mockMvc.perform(get("/v1/reactive/swift-codes/country/PL"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        MvcResult streamingResult = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(streamingResult))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"swiftCode\":\"COBANK1234X\""));
+        assertTrue(lines[1].contains("\"swiftCode\":\"COBANK12XXX\""));
+    }
+
+    @Test
+    void getSwiftCodesByCountryReactive_returnsNotFound_whenCountryDoesNotExist() throws Exception {
+        // given
+        MvcResult asyncResult = mockMvc.perform(get("/v1/reactive/swift-codes/country/XX"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        mockMvc.perform(asyncDispatch(asyncResult))
+                // then
+                .andExpect(status().isNotFound())
+                .andExpect(content().string(containsString("not found")));
+    }
+
+    // POST /v1/swift-codes/bulk
+
+    @Test
+    void createSwiftCodes_createsValidCodes_andReportsOthers_whenBestEffort() throws Exception {
+        // given
+        String payload =
+                """
+                {
+                    "mode": "BEST_EFFORT",
+                    "swiftCodes": [
+                        {"swiftCode": "NEWBANK1XXX", "bankName": "New Bank", "countryISO2": "PL", "countryName": "Poland"},
+                        {"swiftCode": "COBANK12XXX", "bankName": "Name 3", "countryISO2": "PL", "countryName": "Poland"},
+                        {"swiftCode": "NEWBANK2XXX", "bankName": "New Bank", "countryISO2": "PL", "countryName": "France"},
+                        {"swiftCode": "SHORT", "bankName": "New Bank", "countryISO2": "PL", "countryName": "Poland"}
+                    ]
+                }
+                """;
+
+        // when
+        mockMvc.perform(post("/v1/swift-codes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.items[*].status").value(contains("CREATED", "CONFLICT", "INVALID", "INVALID")));
+        mockMvc.perform(get("/v1/swift-codes/NEWBANK1XXX")).andExpect(status().isOk());
+    }
+
+    @Test
+    void createSwiftCodes_createsNothing_whenAllOrNothingAndOneCodeExists() throws Exception {
+        // given
+        String payload =
+                """
+                {
+                    "swiftCodes": [
+                        {"swiftCode": "NEWBANK1XXX", "bankName": "New Bank", "countryISO2": "PL", "countryName": "Poland"},
+                        {"swiftCode": "COBANK12XXX", "bankName": "Name 3", "countryISO2": "PL", "countryName": "Poland"}
+                    ]
+                }
+                """;
+
+        // when
+        mockMvc.perform(post("/v1/swift-codes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                // then
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.mode").value("ALL_OR_NOTHING"))
+                .andExpect(jsonPath("$.items[0].status").value("NOT_APPLIED"))
+                .andExpect(jsonPath("$.items[1].status").value("CONFLICT"));
+        mockMvc.perform(get("/v1/swift-codes/NEWBANK1XXX")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void createSwiftCodes_returnsBadRequest_whenItemIsNull() throws Exception {
+        // given
+        String payload = """
+                {"swiftCodes": [null]}
+                """;
+
+        // when
+        mockMvc.perform(post("/v1/swift-codes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                // then
+                .andExpect(status().isBadRequest());
+    }
+
+    // POST /v1/swift-codes/bulk-delete
+
+    @Test
+    void deleteSwiftCodes_deletesHeadquartersWithBranches() throws Exception {
+        // given
+        String payload = """
+                {"swiftCodes": ["COBANK12XXX", "NB123456XXX"]}
+                """;
+
+        // when
+        mockMvc.perform(post("/v1/swift-codes/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.items[0].message").value("deleted 2 record(s)"));
+        mockMvc.perform(get("/v1/swift-codes/COBANK1234X")).andExpect(status().isNotFound());
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void deleteSwiftCodes_returnsBadRequest_whenItemIsNull() throws Exception {
+        // given
+        String payload = """
+                {"swiftCodes": ["COBANK12XXX", null]}
+                """;
+
+        // when
+        mockMvc.perform(post("/v1/swift-codes/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                // then
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/v1/swift-codes/COBANK12XXX")).andExpect(status().isOk());
+    }
+
+    @Test
+    void negotiatedResponses_varyByAccept() throws Exception {
+        // given
+        String batchLookup = """
+                {"swiftCodes": ["COBANK12XXX"]}
+                """;
+
+        // when / then
+        mockMvc.perform(get("/v1/swift-codes/search").param("prefix", "COBANK"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)));
+        mockMvc.perform(post("/v1/swift-codes/batch-lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batchLookup))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)));
+    }
+
+    // ?pretty=true
+
+    @Test
+    void responses_areCompact_unlessPrettyIsRequested() throws Exception {
+        // given
+        String search = "/v1/swift-codes/search?prefix=COBANK";
+
+        // when
+        String compact = mockMvc.perform(get(search))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String pretty = mockMvc.perform(get(search).param("pretty", "true"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String prettyCached = mockMvc.perform(get("/v1/swift-codes/country/PL").param("pretty", "true"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        assertTrue(compact.startsWith("{\"swiftCodes\":[{"));
+        assertTrue(pretty.contains("\n  \"swiftCodes\" : ["));
+        assertTrue(prettyCached.contains("\n  \"countryISO2\" : \"PL\""));
+    }
+
+    @Test
+    void getSwiftCodesByCountry_servesPrettyOutputUnderItsOwnETag() throws Exception {
+        // given
+        String country = "/v1/swift-codes/country/PL";
+        String compactETag = mockMvc.perform(get(country))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when
+        String prettyETag = mockMvc.perform(get(country).param("pretty", "true"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // then
+        assertNotEquals(compactETag, prettyETag);
+        mockMvc.perform(get(country).param("pretty", "true").header(HttpHeaders.IF_NONE_MATCH, compactETag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(country).param("pretty", "true").header(HttpHeaders.IF_NONE_MATCH, prettyETag))
+                .andExpect(status().isNotModified());
+    }
+
+    // Accept: application/cbor, application/x-jackson-smile, application/x-protobuf
+
+    @Test
+    void getSwiftCodeById_returnsCbor_whenCborIsAccepted() throws Exception {
+        // given
+        String swiftCode = "COBANK12XXX";
+
+        // when
+        MvcResult result = mockMvc.perform(get("/v1/swift-codes/" + swiftCode).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                .andReturn();
+
+        // then
+        JsonNode body = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(swiftCode, body.get("swiftCode").asText());
+        assertTrue(body.get("branches").isArray());
+    }
+
+    @Test
+    void searchSwiftCodes_returnsSmile_whenSmileIsAccepted() throws Exception {
+        // given
+        MediaType smile = MediaType.parseMediaType(BodyFormat.SMILE_VALUE);
+
+        // when
+        MvcResult result = mockMvc.perform(
+                        get("/v1/swift-codes/search").param("prefix", "COBANK").accept(smile))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(smile))
+                .andReturn();
+
+        // then
+        JsonNode body = new SmileMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(2, body.get("swiftCodes").size());
+    }
+
+    @Test
+    void getSwiftCodesByCountry_returnsProtobuf_whenProtobufIsPreferred() throws Exception {
+        // given
+        String accept = "application/json;q=0.5, " + BodyFormat.PROTOBUF_VALUE;
+
+        // when
+        MvcResult result = mockMvc.perform(get("/v1/swift-codes/country/PL").header(HttpHeaders.ACCEPT, accept))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BodyFormat.PROTOBUF_VALUE))
+                .andReturn();
+
+        // then
+        UnknownFieldSet body = UnknownFieldSet.parseFrom(result.getResponse().getContentAsByteArray());
+        assertEquals("PL", body.getField(1).getLengthDelimitedList().getFirst().toStringUtf8());
+        assertEquals(2, body.getField(3).getLengthDelimitedList().size());
+    }
+
+    @Test
+    void getSwiftCodeById_returnsProtobufError_whenNotFound() throws Exception {
+        // given
+        // when
+        MvcResult result = mockMvc.perform(
+                        get("/v1/swift-codes/NONEXISTENT").header(HttpHeaders.ACCEPT, BodyFormat.PROTOBUF_VALUE))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(BodyFormat.PROTOBUF_VALUE))
+                .andReturn();
+
+        // then
+        UnknownFieldSet body = UnknownFieldSet.parseFrom(result.getResponse().getContentAsByteArray());
+        assertEquals(List.of(404L), body.getField(4).getVarintList());
+    }
+
+    @Test
+    void deleteSwiftCode_isNotAcceptable_asProtobuf() throws Exception {
+        // given
+        // when / then
+        mockMvc.perform(delete("/v1/swift-codes/COBANK1234X").header(HttpHeaders.ACCEPT, BodyFormat.PROTOBUF_VALUE))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    // GET /actuator/prometheus
+
+    @Test
+    void prometheus_exposesServiceValidationRepositoryAndSerializationTimers() throws Exception {
+        // given
+        String requestBody =
+                """
+                {
+                    "swiftCode": "NEWBANK1XXX",
+                    "bankName": "New Bank",
+                    "address": "New Address",
+                    "countryISO2": "PL",
+                    "countryName": "Poland",
+                    "isHeadquarter": true
+                }
+                """;
+        mockMvc.perform(post("/v1/swift-codes/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/v1/swift-codes/COBANK12XXX")).andExpect(status().isOk());
+
+        // when
+        mockMvc.perform(get("/actuator/prometheus"))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("swift_codes_service_seconds_bucket{")))
+                .andExpect(content().string(containsString("method=\"getSwiftCodeById\"")))
+                .andExpect(content().string(containsString("swift_codes_validation_seconds_count")))
+                .andExpect(content().string(containsString("swift_codes_serialization_seconds_bucket{")))
+                .andExpect(content().string(containsString("swift_codes_response_write_seconds_bucket{")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket{")));
+    }
 }
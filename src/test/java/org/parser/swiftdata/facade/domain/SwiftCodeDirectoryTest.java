@@ -0,0 +1,339 @@
+package org.parser.swiftdata.facade.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.parser.swiftdata.facade.domain.SwiftCodeDirectoryProperties.Storage;
+import org.parser.swiftdata.facade.dto.SwiftCodeBranchResponse;
+import org.parser.swiftdata.infrastructure.parser.SwiftCodeDataLoadedEvent;
+
+@ExtendWith(MockitoExtension.class)
+public class SwiftCodeDirectoryTest {
+
+    @Mock
+    private SwiftCodeRepository repository;
+
+    @Mock
+    private DirectoryVersions versions;
+
+    private SwiftCodeDirectory directory;
+
+    private final SwiftCode headquarter =
+            new SwiftCode("COBANK12XXX", "Bank HQ", "HQ Address", "PL", "POLAND", true, "COBANK12");
+    private final SwiftCode branch =
+            new SwiftCode("COBANK12001", "Bank Branch", "Branch Address", "PL", "POLAND", false, "COBANK12");
+    private final SwiftCode otherCountry =
+            new SwiftCode("DEUTDEFFXXX", "Deutsche Bank", "Address", "DE", "GERMANY", true, "DEUTDEFF");
+
+    @BeforeEach
+    void setUp() {
+        directory = directory(new SwiftCodeDirectoryProperties(Storage.HEAP, true, "", 1024));
+    }
+
+    private void load() {
+        when(repository.findAll()).thenReturn(List.of(branch, otherCountry, headquarter));
+        directory.onDataLoaded(new SwiftCodeDataLoadedEvent("swift_codes.csv"));
+    }
+
+    @Test
+    void findById_delegatesToRepository_whenNotLoaded() {
+        // given
+        when(repository.findById("COBANK12XXX")).thenReturn(Optional.of(headquarter));
+
+        // when
+        Optional<SwiftCode> found = directory.findById("COBANK12XXX");
+
+        // then
+        assertFalse(directory.isLoaded());
+        assertEquals(Optional.of(headquarter), found);
+    }
+
+    @Test
+    void lookups_useSnapshot_whenLoaded() {
+        // given
+        load();
+
+        // when / then
+        assertTrue(directory.isLoaded());
+        assertEquals(Optional.of(headquarter), directory.findById("COBANK12XXX"));
+        assertEquals(Optional.empty(), directory.findById("NONEXISTENT"));
+        assertEquals(List.of(branch, headquarter), directory.findByHeadquarterCode("COBANK12"));
+        assertEquals(List.of(branch, headquarter), directory.findByCountryISO2("PL"));
+        assertEquals(List.of(), directory.findByCountryISO2("US"));
+        verify(repository, never()).findById(anyString());
+        verify(repository, never()).findByHeadquarterCode(anyString());
+        verify(repository, never()).findByCountryISO2(anyString());
+    }
+
+    @Test
+    void onSwiftCodesChanged_addsSavedCodesInSortedOrder() {
+        // given
+        load();
+        SwiftCode newBranch = new SwiftCode("COBANK12000", "New Branch", "Address", "PL", "POLAND", false, "COBANK12");
+
+        // when
+        directory.onSwiftCodesChanged(SwiftCodesChangedEvent.saved(newBranch));
+
+        // then
+        assertEquals(Optional.of(newBranch), directory.findById("COBANK12000"));
+        assertEquals(List.of(newBranch, branch, headquarter), directory.findByHeadquarterCode("COBANK12"));
+        assertEquals(List.of(newBranch, branch, headquarter), directory.findByCountryISO2("PL"));
+    }
+
+    @Test
+    void onSwiftCodesChanged_removesDeletedCodesAndEmptyGroups() {
+        // given
+        load();
+
+        // when
+        directory.onSwiftCodesChanged(SwiftCodesChangedEvent.deleted(List.of(headquarter, branch)));
+
+        // then
+        assertEquals(Optional.empty(), directory.findById("COBANK12XXX"));
+        assertEquals(List.of(), directory.findByHeadquarterCode("COBANK12"));
+        assertEquals(List.of(), directory.findByCountryISO2("PL"));
+        assertEquals(List.of(otherCountry), directory.findByCountryISO2("DE"));
+    }
+
+    @Test
+    void onSwiftCodesChanged_isIgnored_whenNotLoaded() {
+        // given
+        // when
+        directory.onSwiftCodesChanged(SwiftCodesChangedEvent.saved(headquarter));
+
+        // then
+        assertFalse(directory.isLoaded());
+    }
+
+    @Test
+    void findAllById_andFindByHeadquarterCodeIn_useSnapshot_whenLoaded() {
+        // given
+        load();
+
+        // when / then
+        assertEquals(
+                List.of(otherCountry, headquarter),
+                directory.findAllById(List.of("DEUTDEFFXXX", "NONEXISTENT", "COBANK12XXX")));
+        assertEquals(List.of(branch, headquarter), directory.findByHeadquarterCodeIn(List.of("COBANK12")));
+        verify(repository, never()).findAllById(any());
+        verify(repository, never()).findByHeadquarterCodeIn(any());
+    }
+
+    @Test
+    void findCountryPage_seeksPastCursorInSnapshot_whenLoaded() {
+        // given
+        load();
+
+        // when / then
+        assertEquals(List.of(branch), directory.findCountryPage("PL", null, 1));
+        assertEquals(List.of(headquarter), directory.findCountryPage("PL", "COBANK12001", 5));
+        assertEquals(List.of(headquarter), directory.findCountryPage("PL", "COBANK12002", 5));
+        assertEquals(List.of(), directory.findCountryPage("PL", "COBANK12XXX", 5));
+        verify(repository, never()).findByCountryISO2OrderBySwiftCode(anyString(), any());
+    }
+
+    @Test
+    void lookups_useCompactIndex_whenStorageIsCompact() {
+        // given
+        directory = directory(new SwiftCodeDirectoryProperties(Storage.COMPACT, true, "", 1024));
+        load();
+
+        // when
+        directory.onSwiftCodesChanged(SwiftCodesChangedEvent.deleted(List.of(branch)));
+
+        // then
+        assertEquals(
+                "HQ Address", directory.findById("COBANK12XXX").orElseThrow().getAddress());
+        assertEquals(List.of("COBANK12XXX"), swiftCodes(directory.findByHeadquarterCode("COBANK12")));
+        assertEquals(List.of("COBANK12XXX"), swiftCodes(directory.findByCountryISO2("PL")));
+        assertEquals(List.of("DEUTDEFFXXX"), swiftCodes(directory.findCountryPage("DE", null, 10)));
+        verify(repository, never()).findById(anyString());
+    }
+
+    @Test
+    void restore_loadsDirectoryFromSnapshotWrittenAfterImport_withoutReadingRepository(@TempDir Path files)
+            throws IOException {
+        // given
+        String dataFile =
+                Files.writeString(files.resolve("swift_codes.csv"), "data").toString();
+        SwiftCodeDirectoryProperties properties = new SwiftCodeDirectoryProperties(
+                Storage.COMPACT, true, files.resolve("swift_codes.snapshot").toString(), 1024);
+        directory = directory(properties);
+        when(repository.findAll()).thenReturn(List.of(branch, otherCountry, headquarter));
+        directory.onDataLoaded(new SwiftCodeDataLoadedEvent(dataFile));
+        SwiftCodeDirectory restarted = directory(properties);
+        when(repository.count()).thenReturn(3L);
+
+        // when
+        boolean restored = restarted.restore(dataFile);
+
+        // then
+        assertTrue(restored);
+        assertTrue(restarted.isLoaded());
+        assertEquals(
+                "Bank Branch", restarted.findById("COBANK12001").orElseThrow().getBankName());
+        assertEquals(List.of("COBANK12001", "COBANK12XXX"), branchCodes(restarted.findBranchResponses("COBANK12")));
+        assertEquals(List.of("DEUTDEFFXXX"), swiftCodes(restarted.search(null, "deutsche", 10)));
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    void restore_returnsFalse_whenDatabaseChangedSinceSnapshot(@TempDir Path files) throws IOException {
+        // given
+        String dataFile =
+                Files.writeString(files.resolve("swift_codes.csv"), "data").toString();
+        SwiftCodeDirectoryProperties properties = new SwiftCodeDirectoryProperties(
+                Storage.COMPACT, true, files.resolve("swift_codes.snapshot").toString(), 1024);
+        directory = directory(properties);
+        when(repository.findAll()).thenReturn(List.of(branch, otherCountry, headquarter));
+        directory.onDataLoaded(new SwiftCodeDataLoadedEvent(dataFile));
+        when(repository.count()).thenReturn(3L);
+        when(versions.current()).thenReturn(1L);
+
+        // when
+        boolean restored = directory(properties).restore(dataFile);
+
+        // then
+        assertFalse(restored);
+        assertFalse(Files.exists(files.resolve("swift_codes.snapshot")));
+    }
+
+    @Test
+    void onSwiftCodesChanged_deletesSnapshot(@TempDir Path files) throws IOException {
+        // given
+        String dataFile =
+                Files.writeString(files.resolve("swift_codes.csv"), "data").toString();
+        Path snapshotFile = files.resolve("swift_codes.snapshot");
+        directory = directory(new SwiftCodeDirectoryProperties(Storage.COMPACT, true, snapshotFile.toString(), 1024));
+        when(repository.findAll()).thenReturn(List.of(branch, otherCountry, headquarter));
+        directory.onDataLoaded(new SwiftCodeDataLoadedEvent(dataFile));
+        assertTrue(Files.exists(snapshotFile));
+
+        // when
+        directory.onSwiftCodesChanged(SwiftCodesChangedEvent.deleted(List.of(branch)));
+
+        // then
+        assertFalse(Files.exists(snapshotFile));
+        assertFalse(directory.restore(dataFile));
+    }
+
+    @Test
+    void onDataLoaded_keepsSnapshotOnHeap_whenCodeCannotBePacked() {
+        // given
+        directory = directory(new SwiftCodeDirectoryProperties(Storage.COMPACT, true, "", 1024));
+        SwiftCode lowerCase = new SwiftCode("cobank12abc", "Bank", "Address", "PL", "POLAND", false, "cobank12");
+        when(repository.findAll()).thenReturn(List.of(headquarter, lowerCase));
+
+        // when
+        directory.onDataLoaded(new SwiftCodeDataLoadedEvent("swift_codes.csv"));
+
+        // then
+        assertEquals(Optional.of(lowerCase), directory.findById("cobank12abc"));
+        assertEquals(Optional.of(headquarter), directory.findById("COBANK12XXX"));
+    }
+
+    @Test
+    void search_delegatesToRepository_whenNotLoaded() {
+        // given
+        when(repository.findBySwiftCodeStartingWithOrderBySwiftCode(eq("COBANK"), any()))
+                .thenReturn(List.of(branch, headquarter));
+        when(repository.findByBankNameContainingIgnoreCaseAndSwiftCodeStartingWithOrderBySwiftCode(
+                        eq("Deutsche"), eq(""), any()))
+                .thenReturn(List.of(otherCountry));
+
+        // when / then
+        assertEquals(List.of(branch, headquarter), directory.search("COBANK", null, 10));
+        assertEquals(List.of(otherCountry), directory.search(null, "Deutsche", 10));
+    }
+
+    @Test
+    void search_matchesPrefixAndBankName_whenLoaded() {
+        // given
+        load();
+
+        // when / then
+        assertEquals(List.of(branch, headquarter), directory.search("COBANK", null, 10));
+        assertEquals(List.of(branch), directory.search("COBANK", null, 1));
+        assertEquals(List.of(otherCountry), directory.search("D", null, 10));
+        assertEquals(List.of(), directory.search("X", null, 10));
+        assertEquals(List.of(branch, headquarter, otherCountry), directory.search(null, "bank", 10));
+        assertEquals(List.of(branch, headquarter), directory.search("CO", "bnak", 10));
+        assertEquals(List.of(branch), directory.search(null, "Branch", 10));
+        verify(repository, never()).findBySwiftCodeStartingWithOrderBySwiftCode(anyString(), any());
+    }
+
+    @Test
+    void search_followsChanges_whenStorageIsCompact() {
+        // given
+        directory = directory(new SwiftCodeDirectoryProperties(Storage.COMPACT, true, "", 1024));
+        load();
+        SwiftCode renamed =
+                new SwiftCode("COBANK12XXX", "Renamed Central", "HQ Address", "PL", "POLAND", true, "COBANK12");
+
+        // when
+        directory.onSwiftCodesChanged(SwiftCodesChangedEvent.deleted(List.of(branch)));
+        directory.onSwiftCodesChanged(SwiftCodesChangedEvent.saved(renamed));
+
+        // then
+        assertEquals(List.of("COBANK12XXX"), swiftCodes(directory.search("COBANK12", null, 10)));
+        assertEquals(List.of("COBANK12XXX"), swiftCodes(directory.search(null, "central", 10)));
+        assertEquals(List.of("DEUTDEFFXXX"), swiftCodes(directory.search(null, "bank", 10)));
+        assertEquals(List.of(), directory.search(null, "Branch", 10));
+    }
+
+    @Test
+    void findBranchResponses_servesPrecomputedList_andFollowsChanges() {
+        // given
+        load();
+        List<SwiftCodeBranchResponse> loaded = directory.findBranchResponses("COBANK12");
+
+        // when
+        directory.onSwiftCodesChanged(SwiftCodesChangedEvent.deleted(List.of(branch)));
+
+        // then
+        assertEquals(List.of("COBANK12001", "COBANK12XXX"), branchCodes(loaded));
+        assertEquals(List.of("COBANK12XXX"), branchCodes(directory.findBranchResponses("COBANK12")));
+        assertSame(directory.findBranchResponses("COBANK12"), directory.findBranchResponses("COBANK12"));
+        verify(repository, never()).findByHeadquarterCode(anyString());
+    }
+
+    @Test
+    void findBranchResponses_mapsSnapshot_whenNotPrecomputed() {
+        // given
+        directory = directory(new SwiftCodeDirectoryProperties(Storage.COMPACT, false, "", 1024));
+        load();
+
+        // when
+        List<SwiftCodeBranchResponse> branches = directory.findBranchResponses("COBANK12");
+
+        // then
+        assertEquals(List.of("COBANK12001", "COBANK12XXX"), branchCodes(branches));
+        assertNotSame(branches, directory.findBranchResponses("COBANK12"));
+    }
+
+    private static List<String> branchCodes(List<SwiftCodeBranchResponse> branches) {
+        return branches.stream().map(SwiftCodeBranchResponse::getSwiftCode).toList();
+    }
+
+    private static List<String> swiftCodes(List<SwiftCode> swiftCodes) {
+        return swiftCodes.stream().map(SwiftCode::getSwiftCode).toList();
+    }
+
+    private SwiftCodeDirectory directory(SwiftCodeDirectoryProperties properties) {
+        return new SwiftCodeDirectory(repository, properties, new DirectorySnapshotStore(properties), versions);
+    }
+}
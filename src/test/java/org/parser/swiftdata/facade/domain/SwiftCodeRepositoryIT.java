@@ -6,14 +6,18 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 @ExtendWith(SpringExtension.class)
@@ -23,6 +27,9 @@ class SwiftCodeRepositoryIT {
     @Autowired
     private SwiftCodeRepository repository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @MockBean
     private CommandLineRunner loadSwiftData;
 
@@ -107,6 +114,29 @@ class SwiftCodeRepositoryIT {
         assertThat(exists).isTrue();
     }
 
+    @Test
+    void shouldCountSwiftCodesByCountry() {
+        // given
+        repository.saveAndFlush(
+                new SwiftCode("DEUTDEFFXXX", "Deutsche Bank", "Address", "DE", "Germany", true, "DEUTDEFF"));
+        // when
+        List<CountryCount> counts = repository.countByCountry();
+        // then
+        assertThat(counts).containsExactly(new CountryCount("DE", "Germany", 1), new CountryCount("PL", "Poland", 2));
+    }
+
+    @Test
+    void shouldRollBackWholeInsert_whenCodeAlreadyExists() {
+        // given
+        SwiftCode newCode = new SwiftCode("NEWBANK1XXX", "New Bank", "Address", "PL", "Poland", true, "NEWBANK1");
+        // when
+        Throwable thrown = catchThrowable(() -> repository.insertAll(List.of(newCode, headquarter)));
+        // then
+        assertThat(thrown).isInstanceOf(DuplicateKeyException.class);
+        assertThat(repository.existsById(newCode.getSwiftCode())).isFalse();
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
     @Test
     void shouldReturnFalseIfCountryDoesNotExist() {
         // given
@@ -158,6 +188,51 @@ class SwiftCodeRepositoryIT {
         assertTrue(swiftCodes.stream().anyMatch(s -> s.getSwiftCode().equals(swiftCode2.getSwiftCode())));
     }
 
+    @Test
+    void shouldUpsertSwiftCodesInBatch() {
+        // given
+        SwiftCode updatedBranch =
+                new SwiftCode("TEST1234001", "Renamed Branch", "New Address", "PL", "Poland", false, "TEST1234");
+        SwiftCode newBranch =
+                new SwiftCode("TEST1234002", "Bank Branch 2", "Branch Address 2", "PL", "Poland", false, "TEST1234");
+
+        // when
+        int written = repository.upsertAll(List.of(updatedBranch, newBranch));
+        entityManager.clear();
+
+        // then
+        assertThat(written).isEqualTo(2);
+        assertThat(repository.count()).isEqualTo(3);
+        assertThat(repository.findByHeadquarterCode("TEST1234")).hasSize(3);
+        assertThat(repository.findAll())
+                .anyMatch(s -> s.getSwiftCode().equals("TEST1234001")
+                        && s.getBankName().equals("Renamed Branch"));
+    }
+
+    @Test
+    void shouldOnlyUpsertCodesWithHigherImportPosition() {
+        // given
+        SwiftCode last = new SwiftCode("TEST1234003", "Last Branch", "Address", "PL", "Poland", false, "TEST1234");
+        last.setImportPosition(300L);
+        SwiftCode first = new SwiftCode("TEST1234003", "First Branch", "Address", "PL", "Poland", false, "TEST1234");
+        first.setImportPosition(100L);
+        SwiftCode storedBranch =
+                new SwiftCode("TEST1234001", "Renamed Branch", "New Address", "PL", "Poland", false, "TEST1234");
+        storedBranch.setImportPosition(200L);
+
+        // when
+        repository.upsertAllIfNewer(List.of(last, storedBranch));
+        repository.upsertAllIfNewer(List.of(first));
+        entityManager.clear();
+
+        // then
+        assertThat(repository.findById("TEST1234003").orElseThrow().getBankName())
+                .isEqualTo("Last Branch");
+        assertThat(repository.findById("TEST1234001").orElseThrow().getBankName())
+                .isEqualTo("Renamed Branch");
+        assertThat(repository.findMaxImportPosition()).isEqualTo(300L);
+    }
+
     @Test
     void shouldNotAllowNullValuesInRequiredFields() {
         // given
@@ -175,4 +250,42 @@ class SwiftCodeRepositoryIT {
         assertThatThrownBy(() -> repository.saveAndFlush(swiftCode))
                 .isInstanceOf(DataIntegrityViolationException.class);
     }
+
+    @Test
+    void shouldStreamSwiftCodesFilteredByCountryAndHeadquarterFlag() {
+        // given
+        repository.saveAndFlush(
+                new SwiftCode("DEUTDEFFXXX", "Deutsche Bank", "Address", "DE", "Germany", true, "DEUTDEFF"));
+
+        // when
+        List<String> all;
+        List<String> polishHeadquarters;
+        List<String> branches;
+        try (Stream<SwiftCode> stream = repository.streamAll(null, null)) {
+            all = stream.map(SwiftCode::getSwiftCode).toList();
+        }
+        try (Stream<SwiftCode> stream = repository.streamAll("PL", true)) {
+            polishHeadquarters = stream.map(SwiftCode::getSwiftCode).toList();
+        }
+        try (Stream<SwiftCode> stream = repository.streamAll(null, false)) {
+            branches = stream.map(SwiftCode::getSwiftCode).toList();
+        }
+
+        // then
+        assertThat(all).containsExactly("DEUTDEFFXXX", "TEST1234001", "TEST1234XXX");
+        assertThat(polishHeadquarters).containsExactly("TEST1234XXX");
+        assertThat(branches).containsExactly("TEST1234001");
+    }
+
+    @Test
+    void shouldFindCountryPageAfterCursor() {
+        // given
+        // when
+        List<SwiftCode> firstPage = repository.findByCountryISO2OrderBySwiftCode("PL", Limit.of(1));
+        List<SwiftCode> secondPage = repository.findByCountryISO2AndSwiftCodeGreaterThanOrderBySwiftCode(
+                "PL", firstPage.getLast().getSwiftCode(), Limit.of(1));
+        // then
+        assertThat(firstPage).extracting(SwiftCode::getSwiftCode).containsExactly("TEST1234001");
+        assertThat(secondPage).extracting(SwiftCode::getSwiftCode).containsExactly("TEST1234XXX");
+    }
 }
@@ -0,0 +1,96 @@
+package org.parser.swiftdata.facade.domain;
+
+import jakarta.validation.Validation;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.parser.swiftdata.facade.dto.CountrySwiftCodesResponse;
+import org.parser.swiftdata.facade.dto.SwiftCodeBatchLookupResponse;
+import org.parser.swiftdata.facade.dto.SwiftCodeBranchResponse;
+import org.parser.swiftdata.facade.dto.SwiftCodeSearchResponse;
+import org.parser.swiftdata.infrastructure.error.Result;
+import org.parser.swiftdata.infrastructure.parser.SwiftCodeDataLoadedEvent;
+import org.parser.swiftdata.infrastructure.validator.SwiftCodeValidator;
+
+/** Service lookups served from the loaded {@link SwiftCodeDirectory} over an in-memory store. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SwiftCodeServiceBenchmark {
+
+    @Param({"200"})
+    private int banksPerCountry;
+
+    @Param({"COMPACT", "HEAP"})
+    private String storage;
+
+    private SwiftCodeServiceImpl swiftCodeService;
+
+    private List<String> batchLookupCodes;
+
+    @Setup
+    public void setUp() {
+        List<SwiftCode> swiftCodes = InMemorySwiftCodeRepository.generate(50, banksPerCountry, 4);
+        SwiftCodeRepository repository = InMemorySwiftCodeRepository.of(swiftCodes);
+        SwiftCodeDirectoryProperties properties =
+                new SwiftCodeDirectoryProperties(SwiftCodeDirectoryProperties.Storage.valueOf(storage), true, "", 1024);
+        SwiftCodeDirectory directory = new SwiftCodeDirectory(
+                repository, properties, new DirectorySnapshotStore(properties), InMemorySwiftCodeRepository.versions());
+        directory.onDataLoaded(new SwiftCodeDataLoadedEvent("generated"));
+        swiftCodeService = new SwiftCodeServiceImpl(
+                repository,
+                directory,
+                event -> {},
+                new SwiftCodeValidator(
+                        InMemorySwiftCodeRepository.loadedCountryService(swiftCodes),
+                        Validation.buildDefaultValidatorFactory().getValidator()));
+        batchLookupCodes = swiftCodes.stream()
+                .map(SwiftCode::getSwiftCode)
+                .filter(swiftCode -> swiftCode.hashCode() % 50 == 0)
+                .limit(100)
+                .toList();
+    }
+
+    @Benchmark
+    public Result<SwiftCodeBranchResponse> getBranch() {
+        return swiftCodeService.getSwiftCodeById("AB000042003");
+    }
+
+    @Benchmark
+    public Result<SwiftCodeBranchResponse> getHeadquarter() {
+        return swiftCodeService.getSwiftCodeById("AB000042XXX");
+    }
+
+    @Benchmark
+    public Result<SwiftCodeBranchResponse> getMissing() {
+        return swiftCodeService.getSwiftCodeById("ZZ999999XXX");
+    }
+
+    @Benchmark
+    public Result<CountrySwiftCodesResponse> getCountry() {
+        return swiftCodeService.getSwiftCodesByCountry("AB");
+    }
+
+    @Benchmark
+    public Result<CountrySwiftCodesResponse> getCountryPage() {
+        return swiftCodeService.getSwiftCodesByCountry("AB", "AB000100XXX", 100);
+    }
+
+    @Benchmark
+    public Result<SwiftCodeBatchLookupResponse> batchLookup() {
+        return swiftCodeService.getSwiftCodesByIds(batchLookupCodes);
+    }
+
+    @Benchmark
+    public Result<SwiftCodeSearchResponse> searchByPrefix() {
+        return swiftCodeService.searchSwiftCodes("AB0000", null, 100);
+    }
+
+    @Benchmark
+    public Result<SwiftCodeSearchResponse> searchByBankNameWithTypo() {
+        return swiftCodeService.searchSwiftCodes(null, "AB000042 Brnach", 100);
+    }
+}
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +17,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.parser.swiftdata.facade.dto.*;
 import org.parser.swiftdata.infrastructure.error.Result;
 import org.parser.swiftdata.infrastructure.error.SwiftCodeError;
+import org.parser.swiftdata.infrastructure.validator.SwiftCodeValidator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
 
 @ExtendWith(MockitoExtension.class)
 public class SwiftCodeServiceImplTest {
@@ -26,6 +32,15 @@ public class SwiftCodeServiceImplTest {
     @Mock
     private SwiftCodeRepository repository;
 
+    @Mock
+    private SwiftCodeDirectory directory;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SwiftCodeValidator swiftCodeValidator;
+
     private SwiftCodeRequest validRequest;
 
     @BeforeEach
@@ -47,11 +62,13 @@ public class SwiftCodeServiceImplTest {
         // given
         String swiftCodeId = "COBANK12XXX";
         SwiftCode headquarter = new SwiftCode(swiftCodeId, "Bank HQ", "HQ Address", "PL", "Poland", true, "COBANK12");
-        List<SwiftCode> branches = List.of(
-                new SwiftCode("COBANK1234X", "Branch 1", "Addr 1", "PL", "Poland", false, "COBANK12"),
-                new SwiftCode("COBANK1212X", "Branch 2", "Addr 2", "PL", "Poland", false, "COBANK12"));
-        when(repository.findById(swiftCodeId)).thenReturn(Optional.of(headquarter));
-        when(repository.findByHeadquarterCode("COBANK12")).thenReturn(branches);
+        List<SwiftCodeBranchResponse> branches = List.of(
+                new SwiftCodeBranchResponse(
+                        new SwiftCode("COBANK1212X", "Branch 2", "Addr 2", "PL", "Poland", false, "COBANK12")),
+                new SwiftCodeBranchResponse(
+                        new SwiftCode("COBANK1234X", "Branch 1", "Addr 1", "PL", "Poland", false, "COBANK12")));
+        when(directory.findById(swiftCodeId)).thenReturn(Optional.of(headquarter));
+        when(directory.findBranchResponses("COBANK12")).thenReturn(branches);
 
         // when
         Result<?> result = swiftCodeService.getSwiftCodeById(swiftCodeId);
@@ -63,7 +80,8 @@ public class SwiftCodeServiceImplTest {
         assertInstanceOf(SwiftCodeHeadquarterResponse.class, data);
         SwiftCodeHeadquarterResponse response = (SwiftCodeHeadquarterResponse) data;
         assertEquals(swiftCodeId, response.getSwiftCode());
-        assertEquals(2, response.getBranches().size());
+        assertSame(branches, response.getBranches());
+        verify(directory, never()).findByHeadquarterCode(any());
     }
 
     @Test
@@ -72,7 +90,7 @@ public class SwiftCodeServiceImplTest {
         String swiftCodeId = "BRANCH12345";
         SwiftCode branch =
                 new SwiftCode(swiftCodeId, "Bank Branch", "Branch Address", "PL", "Poland", false, "HQ000011");
-        when(repository.findById(swiftCodeId)).thenReturn(Optional.of(branch));
+        when(directory.findById(swiftCodeId)).thenReturn(Optional.of(branch));
 
         // when
         Result<?> result = swiftCodeService.getSwiftCodeById(swiftCodeId);
@@ -90,7 +108,7 @@ public class SwiftCodeServiceImplTest {
     void getSwiftCodeById_returnsFailure_whenSwiftCodeNotFound() {
         // given
         String swiftCodeId = "NONEXISTENT";
-        when(repository.findById(swiftCodeId)).thenReturn(Optional.empty());
+        when(directory.findById(swiftCodeId)).thenReturn(Optional.empty());
 
         // when
         Result<?> result = swiftCodeService.getSwiftCodeById(swiftCodeId);
@@ -101,6 +119,48 @@ public class SwiftCodeServiceImplTest {
         assertInstanceOf(SwiftCodeError.SwiftCodeNotFoundById.class, result.getError());
     }
 
+    // getSwiftCodesByIds()
+
+    @Test
+    void getSwiftCodesByIds_returnsFoundEntriesAndMisses() {
+        // given
+        SwiftCode headquarter = new SwiftCode("COBANK12XXX", "Bank HQ", "HQ Address", "PL", "Poland", true, "COBANK12");
+        SwiftCode branch = new SwiftCode("COBANK1234X", "Branch 1", "Addr 1", "PL", "Poland", false, "COBANK12");
+        when(directory.findAllById(any())).thenReturn(List.of(branch, headquarter));
+        when(directory.findByHeadquarterCodeIn(Set.of("COBANK12"))).thenReturn(List.of(headquarter, branch));
+
+        // when
+        Result<SwiftCodeBatchLookupResponse> result = swiftCodeService.getSwiftCodesByIds(
+                List.of("COBANK12XXX", "NONEXISTENT", "COBANK1234X", "COBANK12XXX"));
+
+        // then
+        assertTrue(result.isSuccess());
+        SwiftCodeBatchLookupResponse response = result.getData();
+        assertEquals(List.of("NONEXISTENT"), response.misses());
+        assertEquals(2, response.swiftCodes().size());
+        SwiftCodeHeadquarterResponse headquarterResponse = assertInstanceOf(
+                SwiftCodeHeadquarterResponse.class, response.swiftCodes().get(0));
+        assertEquals(2, headquarterResponse.getBranches().size());
+        assertEquals("COBANK1234X", response.swiftCodes().get(1).getSwiftCode());
+        verify(directory, times(1)).findAllById(any());
+        verify(directory, times(1)).findByHeadquarterCodeIn(any());
+    }
+
+    @Test
+    void getSwiftCodesByIds_skipsBranchQuery_whenNoHeadquarterFound() {
+        // given
+        when(directory.findAllById(any())).thenReturn(List.of());
+
+        // when
+        Result<SwiftCodeBatchLookupResponse> result = swiftCodeService.getSwiftCodesByIds(List.of("NONEXISTENT"));
+
+        // then
+        assertTrue(result.isSuccess());
+        assertTrue(result.getData().swiftCodes().isEmpty());
+        assertEquals(List.of("NONEXISTENT"), result.getData().misses());
+        verify(directory, never()).findByHeadquarterCodeIn(any());
+    }
+
     // getSwiftCodesByCountry()
 
     @Test
@@ -111,7 +171,7 @@ public class SwiftCodeServiceImplTest {
                 new SwiftCode("CODE1234XXX", "Bank One", "Addr One", countryISO2, "Poland", true, "CODE1234");
         SwiftCode record2 =
                 new SwiftCode("CODE1234YYY", "Bank Two", "Addr Two", countryISO2, "Poland", false, "CODE1234");
-        when(repository.findByCountryISO2(countryISO2)).thenReturn(List.of(record1, record2));
+        when(directory.findByCountryISO2(countryISO2)).thenReturn(List.of(record1, record2));
 
         // when
         Result<?> result = swiftCodeService.getSwiftCodesByCountry(countryISO2);
@@ -131,7 +191,7 @@ public class SwiftCodeServiceImplTest {
     void getSwiftCodesByCountry_returnsFailure_whenNoRecordsExist() {
         // given
         String countryISO2 = "US";
-        when(repository.findByCountryISO2(countryISO2)).thenReturn(Collections.emptyList());
+        when(directory.findByCountryISO2(countryISO2)).thenReturn(Collections.emptyList());
 
         // when
         Result<?> result = swiftCodeService.getSwiftCodesByCountry(countryISO2);
@@ -142,6 +202,51 @@ public class SwiftCodeServiceImplTest {
         assertInstanceOf(SwiftCodeError.CountryNotFoundByCountryISO2.class, result.getError());
     }
 
+    @Test
+    void getSwiftCodesByCountry_returnsPageWithNextCursor_whenMoreRecordsExist() {
+        // given
+        SwiftCode record1 = new SwiftCode("CODE1234AAA", "Bank One", "Addr One", "PL", "Poland", false, "CODE1234");
+        SwiftCode record2 = new SwiftCode("CODE1234BBB", "Bank Two", "Addr Two", "PL", "Poland", false, "CODE1234");
+        SwiftCode record3 = new SwiftCode("CODE1234XXX", "Bank HQ", "Addr HQ", "PL", "Poland", true, "CODE1234");
+        when(directory.findCountryPage("PL", "CODE1234000", 3)).thenReturn(List.of(record1, record2, record3));
+
+        // when
+        Result<CountrySwiftCodesResponse> result = swiftCodeService.getSwiftCodesByCountry("PL", "CODE1234000", 2);
+
+        // then
+        assertTrue(result.isSuccess());
+        assertEquals(2, result.getData().getSwiftCodes().size());
+        assertEquals("CODE1234BBB", result.getData().getNextCursor());
+    }
+
+    @Test
+    void getSwiftCodesByCountry_returnsLastPageWithoutCursor() {
+        // given
+        SwiftCode record = new SwiftCode("CODE1234XXX", "Bank HQ", "Addr HQ", "PL", "Poland", true, "CODE1234");
+        when(directory.findCountryPage("PL", "CODE1234BBB", 3)).thenReturn(List.of(record));
+
+        // when
+        Result<CountrySwiftCodesResponse> result = swiftCodeService.getSwiftCodesByCountry("PL", "CODE1234BBB", 2);
+
+        // then
+        assertTrue(result.isSuccess());
+        assertEquals(1, result.getData().getSwiftCodes().size());
+        assertNull(result.getData().getNextCursor());
+    }
+
+    @Test
+    void getSwiftCodesByCountry_returnsFailure_whenFirstPageIsEmpty() {
+        // given
+        when(directory.findCountryPage("US", null, 11)).thenReturn(List.of());
+
+        // when
+        Result<CountrySwiftCodesResponse> result = swiftCodeService.getSwiftCodesByCountry("US", null, 10);
+
+        // then
+        assertFalse(result.isSuccess());
+        assertInstanceOf(SwiftCodeError.CountryNotFoundByCountryISO2.class, result.getError());
+    }
+
     // addSwiftCode()
 
     @Test
@@ -158,6 +263,9 @@ public class SwiftCodeServiceImplTest {
         assertEquals("swift code created successfully", result.getData().message());
         verify(repository, times(1)).save(any(SwiftCode.class));
         verify(repository, times(1)).save(argThat(SwiftCode::isHeadquarter));
+        verify(eventPublisher, times(1))
+                .publishEvent(argThat((SwiftCodesChangedEvent event) ->
+                        event.saved().size() == 1 && event.deleted().isEmpty()));
     }
 
     @Test
@@ -201,6 +309,7 @@ public class SwiftCodeServiceImplTest {
                 result.getData().message());
 
         verify(repository, times(1)).deleteAllById(List.of(swiftCodeId));
+        verify(eventPublisher, times(1)).publishEvent(SwiftCodesChangedEvent.deleted(List.of(swiftCode)));
     }
 
     @Test
@@ -237,7 +346,8 @@ public class SwiftCodeServiceImplTest {
                 .build();
 
         when(repository.findById(headquarterId)).thenReturn(Optional.of(headquarter));
-        when(repository.findByHeadquarterCode(headquarterCode)).thenReturn(List.of(headquarter, branch1, branch2));
+        when(directory.findByHeadquarterCode(headquarterCode)).thenReturn(List.of(headquarter, branch1, branch2));
+        when(repository.deleteByHeadquarterCode(headquarterCode)).thenReturn(3);
 
         // when
         Result<ApiResponse> result = swiftCodeService.deleteSwiftCode(headquarterId);
@@ -248,8 +358,10 @@ public class SwiftCodeServiceImplTest {
                 "swift code deleted successfully, deleted 3 record(s)",
                 result.getData().message());
 
-        verify(repository, times(1))
-                .deleteAllById(List.of(headquarterId, branch1.getSwiftCode(), branch2.getSwiftCode()));
+        verify(repository, times(1)).deleteByHeadquarterCode(headquarterCode);
+        verify(repository, never()).findByHeadquarterCode(any());
+        verify(eventPublisher, times(1))
+                .publishEvent(SwiftCodesChangedEvent.deleted(List.of(headquarter, branch1, branch2)));
     }
 
     @Test
@@ -267,5 +379,197 @@ public class SwiftCodeServiceImplTest {
         assertInstanceOf(SwiftCodeError.SwiftCodeNotFoundById.class, result.getError());
 
         verify(repository, never()).deleteAllById(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    // addSwiftCodes()
+
+    @Test
+    void addSwiftCodes_insertsValidNewCodes_andReportsOthers_whenBestEffort() {
+        // given
+        SwiftCodeRequest existing = request("EXIST123XXX");
+        SwiftCodeRequest invalid = request("INVALID1XXX");
+        List<SwiftCodeRequest> requests = List.of(validRequest, existing, invalid);
+        Errors invalidErrors = new BeanPropertyBindingResult(invalid, "swiftCodes[2]");
+        invalidErrors.rejectValue("countryName", "countryName.mismatch", "Country name does not match");
+        when(swiftCodeValidator.validateAll(requests))
+                .thenReturn(List.of(noErrors(validRequest), noErrors(existing), invalidErrors));
+        when(repository.findExistingSwiftCodes(List.of("TEST1234XXX", "EXIST123XXX", "INVALID1XXX")))
+                .thenReturn(List.of("EXIST123XXX"));
+
+        // when
+        Result<SwiftCodeBulkResponse> result = swiftCodeService.addSwiftCodes(requests, BulkMode.BEST_EFFORT);
+
+        // then
+        assertTrue(result.isSuccess());
+        assertEquals(
+                List.of(
+                        SwiftCodeBulkResponse.Status.CREATED,
+                        SwiftCodeBulkResponse.Status.CONFLICT,
+                        SwiftCodeBulkResponse.Status.INVALID),
+                statuses(result.getData()));
+        assertEquals(
+                "Country name does not match", result.getData().items().get(2).message());
+        assertEquals(1, result.getData().succeeded());
+        verify(repository, times(1))
+                .insertAll(argThat(swiftCodes -> swiftCodes.size() == 1
+                        && swiftCodes.getFirst().getSwiftCode().equals("TEST1234XXX")));
+        verify(eventPublisher, times(1))
+                .publishEvent(
+                        argThat((SwiftCodesChangedEvent event) -> event.saved().size() == 1));
+    }
+
+    @Test
+    void addSwiftCodes_insertsNothing_whenAllOrNothingAndOneCodeExists() {
+        // given
+        SwiftCodeRequest existing = request("EXIST123XXX");
+        List<SwiftCodeRequest> requests = List.of(validRequest, existing);
+        when(swiftCodeValidator.validateAll(requests)).thenReturn(List.of(noErrors(validRequest), noErrors(existing)));
+        when(repository.findExistingSwiftCodes(any())).thenReturn(List.of("EXIST123XXX"));
+
+        // when
+        Result<SwiftCodeBulkResponse> result = swiftCodeService.addSwiftCodes(requests, BulkMode.ALL_OR_NOTHING);
+
+        // then
+        assertFalse(result.getData().isComplete());
+        assertEquals(
+                List.of(SwiftCodeBulkResponse.Status.NOT_APPLIED, SwiftCodeBulkResponse.Status.CONFLICT),
+                statuses(result.getData()));
+        verify(repository, never()).insertAll(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void addSwiftCodes_reportsConflictAndInsertsOthers_whenCodeIsCreatedConcurrently() {
+        // given
+        SwiftCodeRequest concurrent = request("CONCUR12XXX");
+        List<SwiftCodeRequest> requests = List.of(validRequest, concurrent);
+        when(swiftCodeValidator.validateAll(requests))
+                .thenReturn(List.of(noErrors(validRequest), noErrors(concurrent)));
+        when(repository.findExistingSwiftCodes(List.of("TEST1234XXX", "CONCUR12XXX")))
+                .thenReturn(List.of())
+                .thenReturn(List.of("CONCUR12XXX"));
+        when(repository.insertAll(argThat(swiftCodes -> swiftCodes.size() == 2)))
+                .thenThrow(new DuplicateKeyException("duplicate key CONCUR12XXX"));
+
+        // when
+        Result<SwiftCodeBulkResponse> result = swiftCodeService.addSwiftCodes(requests, BulkMode.BEST_EFFORT);
+
+        // then
+        assertEquals(
+                List.of(SwiftCodeBulkResponse.Status.CREATED, SwiftCodeBulkResponse.Status.CONFLICT),
+                statuses(result.getData()));
+        verify(repository)
+                .insertAll(argThat(swiftCodes -> swiftCodes.size() == 1
+                        && swiftCodes.getFirst().getSwiftCode().equals("TEST1234XXX")));
+        verify(eventPublisher, times(1))
+                .publishEvent(
+                        argThat((SwiftCodesChangedEvent event) -> event.saved().size() == 1));
+    }
+
+    @Test
+    void addSwiftCodes_insertsNothing_whenAllOrNothingAndCodeIsCreatedConcurrently() {
+        // given
+        SwiftCodeRequest concurrent = request("CONCUR12XXX");
+        List<SwiftCodeRequest> requests = List.of(validRequest, concurrent);
+        when(swiftCodeValidator.validateAll(requests))
+                .thenReturn(List.of(noErrors(validRequest), noErrors(concurrent)));
+        when(repository.findExistingSwiftCodes(any())).thenReturn(List.of()).thenReturn(List.of("CONCUR12XXX"));
+        when(repository.insertAll(any())).thenThrow(new DuplicateKeyException("duplicate key CONCUR12XXX"));
+
+        // when
+        Result<SwiftCodeBulkResponse> result = swiftCodeService.addSwiftCodes(requests, BulkMode.ALL_OR_NOTHING);
+
+        // then
+        assertEquals(
+                List.of(SwiftCodeBulkResponse.Status.NOT_APPLIED, SwiftCodeBulkResponse.Status.CONFLICT),
+                statuses(result.getData()));
+        verify(repository, times(1)).insertAll(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void addSwiftCodes_reportsRepeatedCodeAsInvalid() {
+        // given
+        SwiftCodeRequest repeated = request("TEST1234XXX");
+        List<SwiftCodeRequest> requests = List.of(validRequest, repeated);
+        when(swiftCodeValidator.validateAll(requests)).thenReturn(List.of(noErrors(validRequest), noErrors(repeated)));
+        when(repository.findExistingSwiftCodes(any())).thenReturn(List.of());
+
+        // when
+        Result<SwiftCodeBulkResponse> result = swiftCodeService.addSwiftCodes(requests, BulkMode.BEST_EFFORT);
+
+        // then
+        assertEquals(
+                List.of(SwiftCodeBulkResponse.Status.CREATED, SwiftCodeBulkResponse.Status.INVALID),
+                statuses(result.getData()));
+        verify(repository).insertAll(argThat(swiftCodes -> swiftCodes.size() == 1));
+    }
+
+    // deleteSwiftCodes()
+
+    @Test
+    void deleteSwiftCodes_deletesHeadquartersWithBranches_andSkipsMissing_whenBestEffort() {
+        // given
+        SwiftCode headquarter = new SwiftCode("COBANK12XXX", "Bank HQ", "HQ Address", "PL", "POLAND", true, "COBANK12");
+        SwiftCode branch = new SwiftCode("COBANK12001", "Bank HQ", "Address", "PL", "POLAND", false, "COBANK12");
+        SwiftCode otherBranch = new SwiftCode("DEUTDEFF001", "Deutsche", "Address", "DE", "GERMANY", false, "DEUTDEFF");
+        List<String> swiftCodeIds = List.of("COBANK12XXX", "COBANK12001", "DEUTDEFF001", "MISSING1XXX");
+        when(repository.findAllById(Set.copyOf(swiftCodeIds))).thenReturn(List.of(headquarter, branch, otherBranch));
+        when(directory.findByHeadquarterCodeIn(Set.of("COBANK12"))).thenReturn(List.of(headquarter, branch));
+
+        // when
+        Result<SwiftCodeBulkResponse> result = swiftCodeService.deleteSwiftCodes(swiftCodeIds, BulkMode.BEST_EFFORT);
+
+        // then
+        assertEquals(
+                List.of(
+                        SwiftCodeBulkResponse.Status.DELETED,
+                        SwiftCodeBulkResponse.Status.DELETED,
+                        SwiftCodeBulkResponse.Status.DELETED,
+                        SwiftCodeBulkResponse.Status.NOT_FOUND),
+                statuses(result.getData()));
+        assertEquals("deleted 2 record(s)", result.getData().items().getFirst().message());
+        verify(repository, times(1)).deleteByHeadquarterCodeIn(Set.of("COBANK12"));
+        verify(repository, times(1)).deleteAllByIdInBatch(List.of("DEUTDEFF001"));
+        verify(eventPublisher, times(1))
+                .publishEvent(SwiftCodesChangedEvent.deleted(List.of(headquarter, branch, otherBranch)));
+    }
+
+    @Test
+    void deleteSwiftCodes_deletesNothing_whenAllOrNothingAndOneCodeIsMissing() {
+        // given
+        SwiftCode branch = new SwiftCode("COBANK12001", "Bank HQ", "Address", "PL", "POLAND", false, "COBANK12");
+        when(repository.findAllById(any())).thenReturn(List.of(branch));
+
+        // when
+        Result<SwiftCodeBulkResponse> result =
+                swiftCodeService.deleteSwiftCodes(List.of("COBANK12001", "MISSING1XXX"), BulkMode.ALL_OR_NOTHING);
+
+        // then
+        assertEquals(
+                List.of(SwiftCodeBulkResponse.Status.NOT_APPLIED, SwiftCodeBulkResponse.Status.NOT_FOUND),
+                statuses(result.getData()));
+        verify(repository, never()).deleteAllByIdInBatch(any());
+        verify(repository, never()).deleteByHeadquarterCodeIn(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private static SwiftCodeRequest request(String swiftCode) {
+        return SwiftCodeRequest.builder()
+                .swiftCode(swiftCode)
+                .bankName("Bank")
+                .address("Address")
+                .countryISO2("PL")
+                .countryName("Poland")
+                .build();
+    }
+
+    private static Errors noErrors(SwiftCodeRequest request) {
+        return new BeanPropertyBindingResult(request, "swiftCode");
+    }
+
+    private static List<SwiftCodeBulkResponse.Status> statuses(SwiftCodeBulkResponse response) {
+        return response.items().stream().map(SwiftCodeBulkResponse.Item::status).toList();
     }
 }
@@ -0,0 +1,97 @@
+package org.parser.swiftdata.facade.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.parser.swiftdata.facade.SwiftCodeService;
+import org.parser.swiftdata.facade.dto.SwiftCodeRequest;
+import org.parser.swiftdata.infrastructure.cache.ResponseCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.event.TransactionalApplicationListenerMethodAdapter;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:listeners")
+public class SwiftCodesChangedListenersIT {
+
+    @Autowired
+    private SwiftCodeService swiftCodeService;
+
+    @Autowired
+    private DirectoryVersions versions;
+
+    @SpyBean
+    private SwiftCodeDirectory directory;
+
+    @SpyBean
+    private ResponseCache responseCache;
+
+    @MockBean
+    private CommandLineRunner loadSwiftData;
+
+    @Test
+    void onSwiftCodesChanged_updatesDirectoryBeforeEvictingResponses() {
+        // given
+        SwiftCodeRequest request = SwiftCodeRequest.builder()
+                .swiftCode("NEWBANK1XXX")
+                .bankName("New Bank")
+                .address("New Address")
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .isHeadquarter(true)
+                .build();
+
+        // when
+        swiftCodeService.addSwiftCode(request);
+
+        // then
+        InOrder inOrder = inOrder(directory, responseCache);
+        inOrder.verify(directory).onSwiftCodesChanged(any());
+        inOrder.verify(responseCache).onSwiftCodesChanged(any());
+    }
+
+    @Test
+    void onSwiftCodesChanged_bumpsDirectoryVersionInTransaction() {
+        // given
+        long before = versions.current();
+        SwiftCodeRequest request = SwiftCodeRequest.builder()
+                .swiftCode("VERBANK1XXX")
+                .bankName("Version Bank")
+                .address("Version Address")
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .isHeadquarter(true)
+                .build();
+
+        // when
+        swiftCodeService.addSwiftCode(request);
+        swiftCodeService.deleteSwiftCode("VERBANK1XXX");
+
+        // then
+        assertEquals(before + 2, versions.current());
+    }
+
+    @Test
+    void directoryListener_isOrderedBeforeResponseCacheListener() throws Exception {
+        // given
+        TransactionalApplicationListenerMethodAdapter directoryListener =
+                new TransactionalApplicationListenerMethodAdapter(
+                        "swiftCodeDirectory",
+                        SwiftCodeDirectory.class,
+                        SwiftCodeDirectory.class.getMethod("onSwiftCodesChanged", SwiftCodesChangedEvent.class));
+        TransactionalApplicationListenerMethodAdapter responseCacheListener =
+                new TransactionalApplicationListenerMethodAdapter(
+                        "responseCache",
+                        ResponseCache.class,
+                        ResponseCache.class.getMethod("onSwiftCodesChanged", SwiftCodesChangedEvent.class));
+
+        // when / then
+        assertTrue(directoryListener.getOrder() < responseCacheListener.getOrder());
+    }
+}
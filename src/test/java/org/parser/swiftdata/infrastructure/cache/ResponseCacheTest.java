@@ -0,0 +1,152 @@
+package org.parser.swiftdata.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.parser.swiftdata.facade.domain.SwiftCode;
+import org.parser.swiftdata.facade.domain.SwiftCodesChangedEvent;
+import org.parser.swiftdata.facade.dto.ApiResponse;
+import org.parser.swiftdata.infrastructure.cache.ResponseCache.CachedResponse;
+import org.parser.swiftdata.infrastructure.cache.ResponseCache.Key;
+import org.parser.swiftdata.infrastructure.error.BodyFormat;
+import org.parser.swiftdata.infrastructure.error.Result;
+import org.parser.swiftdata.infrastructure.error.SwiftCodeError;
+import org.parser.swiftdata.infrastructure.parser.SwiftCodeDataLoadedEvent;
+
+public class ResponseCacheTest {
+
+    private final ResponseCache responseCache = new ResponseCache();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final SwiftCode branch =
+            new SwiftCode("COBANK12001", "Bank Branch", "Branch Address", "PL", "POLAND", false, "COBANK12");
+
+    private Result<CachedResponse> get(Key key) {
+        return responseCache.get(key, () -> {
+            loads.incrementAndGet();
+            return Result.success(new ApiResponse("response " + loads.get()));
+        });
+    }
+
+    @Test
+    void get_serializesOnEveryCall_whenDataNotLoaded() {
+        // given
+        // when
+        get(Key.country("PL"));
+        get(Key.country("PL"));
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_returnsCachedBytes_whenDataLoaded() {
+        // given
+        responseCache.onDataLoaded(new SwiftCodeDataLoadedEvent("swift_codes.csv"));
+
+        // when
+        Result<CachedResponse> first = get(Key.country("PL"));
+        Result<CachedResponse> second = get(Key.country("PL"));
+
+        // then
+        assertEquals(1, loads.get());
+        assertSame(first.getData(), second.getData());
+        assertTrue(new String(second.getData().body()).contains("response 1"));
+    }
+
+    @Test
+    void get_doesNotCacheFailures() {
+        // given
+        responseCache.onDataLoaded(new SwiftCodeDataLoadedEvent("swift_codes.csv"));
+
+        // when
+        Result<CachedResponse> result = responseCache.get(Key.country("US"), () -> {
+            loads.incrementAndGet();
+            return Result.failure(new SwiftCodeError.CountryNotFoundByCountryISO2("US"));
+        });
+        get(Key.country("US"));
+
+        // then
+        assertFalse(result.isSuccess());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void onSwiftCodesChanged_evictsCodeHeadquarterAndCountry() {
+        // given
+        responseCache.onDataLoaded(new SwiftCodeDataLoadedEvent("swift_codes.csv"));
+        get(Key.swiftCode("COBANK12001"));
+        get(Key.swiftCode("COBANK12XXX"));
+        get(Key.country("PL"));
+        get(Key.country("DE"));
+
+        // when
+        responseCache.onSwiftCodesChanged(SwiftCodesChangedEvent.deleted(List.of(branch)));
+        get(Key.swiftCode("COBANK12001"));
+        get(Key.swiftCode("COBANK12XXX"));
+        get(Key.country("PL"));
+        get(Key.country("DE"));
+
+        // then
+        assertEquals(7, loads.get());
+    }
+
+    @Test
+    void get_cachesEveryFormatSeparately_andEvictsAllOfThem() {
+        // given
+        responseCache.onDataLoaded(new SwiftCodeDataLoadedEvent("swift_codes.csv"));
+
+        // when
+        CachedResponse json = get(Key.country("PL")).getData();
+        CachedResponse cbor = get(Key.country("PL", BodyFormat.CBOR)).getData();
+        get(Key.country("PL", BodyFormat.CBOR));
+        responseCache.onSwiftCodesChanged(SwiftCodesChangedEvent.deleted(List.of(branch)));
+        get(Key.country("PL", BodyFormat.SMILE));
+        get(Key.country("PL", BodyFormat.CBOR));
+
+        // then
+        assertEquals(4, loads.get());
+        assertNotEquals(json.eTag(), cbor.eTag());
+        assertEquals((byte) '{', json.body()[0]);
+        assertNotEquals((byte) '{', cbor.body()[0]);
+    }
+
+    @Test
+    void get_cachesPrettyJsonSeparately_andEvictsIt() {
+        // given
+        responseCache.onDataLoaded(new SwiftCodeDataLoadedEvent("swift_codes.csv"));
+
+        // when
+        CachedResponse compact = get(Key.country("PL")).getData();
+        CachedResponse pretty = get(Key.country("PL", BodyFormat.JSON, true)).getData();
+        CachedResponse prettyAgain =
+                get(Key.country("PL", BodyFormat.JSON, true)).getData();
+        get(Key.country("PL", BodyFormat.CBOR, true));
+        get(Key.country("PL", BodyFormat.CBOR));
+        responseCache.onSwiftCodesChanged(SwiftCodesChangedEvent.deleted(List.of(branch)));
+        get(Key.country("PL", BodyFormat.JSON, true));
+
+        // then
+        assertEquals(4, loads.get());
+        assertSame(pretty, prettyAgain);
+        assertNotEquals(compact.eTag(), pretty.eTag());
+        assertTrue(new String(pretty.body()).contains("\n  \"message\" : \"response 2\""));
+    }
+
+    @Test
+    void cachedResponse_matchesStrongAndWeakETags() {
+        // given
+        CachedResponse response = get(Key.country("PL")).getData();
+
+        // when / then
+        assertTrue(response.eTag().startsWith("W/\""));
+        assertTrue(response.matches(response.eTag()));
+        assertTrue(response.matches("\"other\", " + response.eTag().substring(2)));
+        assertTrue(response.matches("*"));
+        assertFalse(response.matches("\"other\""));
+        assertFalse(response.matches(null));
+    }
+}
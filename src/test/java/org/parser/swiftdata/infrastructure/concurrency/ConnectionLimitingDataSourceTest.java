@@ -0,0 +1,87 @@
+package org.parser.swiftdata.infrastructure.concurrency;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection targetConnection;
+
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConnectionLimitingDataSource(targetDataSource, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    void getConnection_failsAfterTimeout_whenAllPermitsAreTaken() throws Exception {
+        // given
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // when / then
+        assertEquals(0, dataSource.availablePermits());
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+    }
+
+    @Test
+    void close_releasesPermitOnce() throws Exception {
+        // given
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        Connection connection = dataSource.getConnection();
+
+        // when
+        connection.close();
+        connection.close();
+
+        // then
+        assertEquals(2, dataSource.availablePermits());
+        verify(targetConnection, times(2)).close();
+    }
+
+    @Test
+    void getConnection_releasesPermit_whenPoolFails() throws Exception {
+        // given
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // when
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        // then
+        assertEquals(2, dataSource.availablePermits());
+    }
+
+    @Test
+    void connection_delegatesCallsAndUnwrapping() throws Exception {
+        // given
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        when(targetConnection.getAutoCommit()).thenReturn(true);
+        when(targetConnection.isWrapperFor(Connection.class)).thenReturn(true);
+
+        // when
+        Connection connection = dataSource.getConnection();
+
+        // then
+        assertTrue(connection.getAutoCommit());
+        assertTrue(connection.isWrapperFor(Connection.class));
+        assertTrue(dataSource.isWrapperFor(ConnectionLimitingDataSource.class));
+    }
+}
@@ -0,0 +1,45 @@
+package org.parser.swiftdata.infrastructure.concurrency;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadPinningMonitorTest {
+
+    private final Object lock = new Object();
+
+    @Test
+    void recordsVirtualThreadBlockingInsideSynchronized() throws Exception {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(registry, Duration.ofMillis(1));
+        monitor.start();
+
+        try {
+            // when
+            Thread.ofVirtual()
+                    .start(() -> {
+                        synchronized (lock) {
+                            try {
+                                Thread.sleep(50);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                    })
+                    .join();
+
+            // then
+            await().atMost(Duration.ofSeconds(15))
+                    .until(() -> registry.counter("jvm.threads.virtual.pinned.events")
+                                    .count()
+                            > 0);
+            assertTrue(monitor.isRunning());
+        } finally {
+            monitor.stop();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.parser.swiftdata.infrastructure.error;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.parser.swiftdata.facade.domain.InMemorySwiftCodeRepository;
+import org.parser.swiftdata.facade.domain.SwiftCode;
+import org.parser.swiftdata.facade.dto.CountrySwiftCodesResponse;
+import org.parser.swiftdata.facade.dto.SwiftCodeBranchResponse;
+import org.parser.swiftdata.facade.dto.SwiftCodeHeadquarterResponse;
+import org.springframework.http.HttpStatus;
+
+/** JSON serialization of the lookup responses, written to a stream as the response converter does and as bytes. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandleResultBenchmark {
+
+    @Param({"1000"})
+    private int countrySize;
+
+    private Result<SwiftCodeBranchResponse> branch;
+
+    private Result<SwiftCodeHeadquarterResponse> headquarter;
+
+    private Result<CountrySwiftCodesResponse> country;
+
+    @Setup
+    public void setUp() {
+        List<SwiftCode> swiftCodes = InMemorySwiftCodeRepository.generate(1, countrySize / 5, 4);
+        SwiftCode headquarterCode = swiftCodes.getLast();
+        List<SwiftCode> branches = swiftCodes.stream()
+                .filter(swiftCode -> swiftCode.getHeadquarterCode().equals(headquarterCode.getHeadquarterCode()))
+                .toList();
+        branch = Result.success(new SwiftCodeBranchResponse(branches.getFirst()));
+        headquarter = Result.success(new SwiftCodeHeadquarterResponse(headquarterCode, branches));
+        country = Result.success(new CountrySwiftCodesResponse(
+                headquarterCode.getCountryISO2(), headquarterCode.getCountryName(), swiftCodes));
+    }
+
+    @Benchmark
+    public void writeBranch() {
+        write(branch);
+    }
+
+    @Benchmark
+    public void writeHeadquarter() {
+        write(headquarter);
+    }
+
+    @Benchmark
+    public void writeCountry() {
+        write(country);
+    }
+
+    @Benchmark
+    public void writeCountryPretty() {
+        HandleResult.write(
+                HandleResult.handleResult(country, HttpStatus.OK, "/v1/swift-codes/country", true)
+                        .getBody(),
+                OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public byte[] serializeCountry() {
+        return HandleResult.serialize(country.getData());
+    }
+
+    private static void write(Result<?> result) {
+        HandleResult.write(
+                HandleResult.handleResult(result, HttpStatus.OK, "/v1/swift-codes")
+                        .getBody(),
+                OutputStream.nullOutputStream());
+    }
+}
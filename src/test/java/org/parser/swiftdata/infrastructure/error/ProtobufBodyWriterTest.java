@@ -0,0 +1,110 @@
+package org.parser.swiftdata.infrastructure.error;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnknownFieldSet;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.parser.swiftdata.facade.domain.SwiftCode;
+import org.parser.swiftdata.facade.dto.ApiResponse;
+import org.parser.swiftdata.facade.dto.CountrySwiftCodesResponse;
+import org.parser.swiftdata.facade.dto.SwiftCodeBatchLookupResponse;
+import org.parser.swiftdata.facade.dto.SwiftCodeBranchResponse;
+import org.parser.swiftdata.facade.dto.SwiftCodeHeadquarterResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+public class ProtobufBodyWriterTest {
+
+    private final SwiftCode headquarter =
+            new SwiftCode("COBANK12XXX", "Bank", "Hq Address", "PL", "POLAND", true, "COBANK12");
+
+    private final SwiftCode branch =
+            new SwiftCode("COBANK12001", "Bank Branch", "Ąddress", "PL", "POLAND", false, "COBANK12");
+
+    @Test
+    void write_encodesHeadquarterWithBranches() throws Exception {
+        // given
+        SwiftCodeHeadquarterResponse response = new SwiftCodeHeadquarterResponse(headquarter, List.of(branch));
+
+        // when
+        UnknownFieldSet message = write(response);
+
+        // then
+        assertEquals("Hq Address", string(message, 1));
+        assertEquals("Bank", string(message, 2));
+        assertEquals("PL", string(message, 3));
+        assertEquals("POLAND", string(message, 4));
+        assertEquals(List.of(1L), message.getField(5).getVarintList());
+        assertEquals("COBANK12XXX", string(message, 6));
+        UnknownFieldSet encodedBranch = UnknownFieldSet.parseFrom(
+                message.getField(7).getLengthDelimitedList().getFirst());
+        assertEquals("Ąddress", string(encodedBranch, 1));
+        assertEquals("COBANK12001", string(encodedBranch, 6));
+        assertFalse(encodedBranch.hasField(5));
+        assertFalse(encodedBranch.hasField(7));
+    }
+
+    @Test
+    void write_encodesCountryOnceForCountryListing() throws Exception {
+        // given
+        CountrySwiftCodesResponse response =
+                new CountrySwiftCodesResponse("PL", "POLAND", List.of(headquarter, branch));
+
+        // when
+        UnknownFieldSet message = write(response);
+
+        // then
+        assertEquals("PL", string(message, 1));
+        assertEquals("POLAND", string(message, 2));
+        List<ByteString> swiftCodes = message.getField(3).getLengthDelimitedList();
+        assertEquals(2, swiftCodes.size());
+        UnknownFieldSet first = UnknownFieldSet.parseFrom(swiftCodes.getFirst());
+        assertEquals("COBANK12XXX", string(first, 6));
+        assertFalse(first.hasField(3));
+        assertFalse(first.hasField(4));
+        assertFalse(message.hasField(4));
+    }
+
+    @Test
+    void write_encodesBatchLookupAndError() throws Exception {
+        // given
+        SwiftCodeBatchLookupResponse batch =
+                new SwiftCodeBatchLookupResponse(List.of(new SwiftCodeBranchResponse(branch)), List.of("NOBANK12XXX"));
+        ErrorWrapper error = new ErrorWrapper("Not found", HttpStatus.OK, "/v1/swift-codes/X", HttpStatus.NOT_FOUND);
+
+        // when
+        UnknownFieldSet batchMessage = write(batch);
+        UnknownFieldSet errorMessage = write(error);
+
+        // then
+        assertEquals(1, batchMessage.getField(1).getLengthDelimitedList().size());
+        assertEquals("NOBANK12XXX", string(batchMessage, 2));
+        assertEquals("Not found", string(errorMessage, 1));
+        assertEquals(List.of(200L), errorMessage.getField(2).getVarintList());
+        assertEquals(List.of(404L), errorMessage.getField(4).getVarintList());
+    }
+
+    @Test
+    void write_throws_whenResponseHasNoProtobufEncoding() {
+        // given
+        ApiResponse response = new ApiResponse("Deleted");
+
+        // when / then
+        assertThrows(
+                HttpMessageNotWritableException.class,
+                () -> ProtobufBodyWriter.write(response, new ByteArrayOutputStream()));
+    }
+
+    private static UnknownFieldSet write(Object value) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ProtobufBodyWriter.write(value, output);
+        return UnknownFieldSet.parseFrom(output.toByteArray());
+    }
+
+    private static String string(UnknownFieldSet message, int field) {
+        return message.getField(field).getLengthDelimitedList().getFirst().toStringUtf8();
+    }
+}
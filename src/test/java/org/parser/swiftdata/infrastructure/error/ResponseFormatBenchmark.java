@@ -0,0 +1,108 @@
+package org.parser.swiftdata.infrastructure.error;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnknownFieldSet;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.*;
+import org.parser.swiftdata.facade.domain.InMemorySwiftCodeRepository;
+import org.parser.swiftdata.facade.domain.SwiftCode;
+import org.parser.swiftdata.facade.dto.CountrySwiftCodesResponse;
+
+/**
+ * Encoding and decoding of a country listing in every {@link BodyFormat}, plain and gzipped as served with
+ * {@code server.compression.enabled}. The payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseFormatBenchmark {
+
+    private static final ObjectMapper jsonMapper = new ObjectMapper();
+
+    private static final ObjectMapper cborMapper = new CBORMapper();
+
+    private static final ObjectMapper smileMapper = new SmileMapper();
+
+    @Param({"1000"})
+    private int countrySize;
+
+    @Param({"JSON", "CBOR", "SMILE", "PROTOBUF"})
+    private BodyFormat format;
+
+    private CountrySwiftCodesResponse country;
+
+    private byte[] encoded;
+
+    private byte[] gzipped;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<SwiftCode> swiftCodes = InMemorySwiftCodeRepository.generate(1, countrySize / 5, 4);
+        SwiftCode first = swiftCodes.getFirst();
+        country = new CountrySwiftCodesResponse(first.getCountryISO2(), first.getCountryName(), swiftCodes);
+        encoded = HandleResult.serialize(country, format);
+        gzipped = gzip(encoded);
+        System.out.printf("%s country listing: %d bytes, %d bytes gzipped%n", format, encoded.length, gzipped.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return HandleResult.serialize(country, format);
+    }
+
+    @Benchmark
+    public byte[] encodeGzipped() throws IOException {
+        return gzip(HandleResult.serialize(country, format));
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return decode(encoded);
+    }
+
+    @Benchmark
+    public Object decodeGzipped() throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return decode(input.readAllBytes());
+        }
+    }
+
+    /** Protobuf is parsed into its wire fields, entries included, as a client without generated classes would. */
+    private Object decode(byte[] body) throws IOException {
+        return switch (format) {
+            case JSON -> jsonMapper.readValue(body, JsonNode.class);
+            case CBOR -> cborMapper.readValue(body, JsonNode.class);
+            case SMILE -> smileMapper.readValue(body, JsonNode.class);
+            case PROTOBUF -> {
+                UnknownFieldSet message = UnknownFieldSet.parseFrom(body);
+                List<UnknownFieldSet> entries = new ArrayList<>();
+                for (ByteString entry : message.getField(3).getLengthDelimitedList()) {
+                    entries.add(UnknownFieldSet.parseFrom(entry));
+                }
+                yield entries;
+            }
+        };
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(body);
+        }
+        return output.toByteArray();
+    }
+}
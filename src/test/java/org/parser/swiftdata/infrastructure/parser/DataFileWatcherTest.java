@@ -0,0 +1,74 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.parser.swiftdata.infrastructure.error.Result;
+import org.parser.swiftdata.infrastructure.error.SwiftCodeError;
+import org.parser.swiftdata.infrastructure.parser.DataImportProperties.ImportStrategy;
+
+@ExtendWith(MockitoExtension.class)
+public class DataFileWatcherTest {
+
+    @Mock
+    private DataLoaderService dataLoaderService;
+
+    @TempDir
+    private Path directory;
+
+    private Path dataFile;
+
+    private DataFileWatcher watcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataFile = directory.resolve("swift_codes.csv");
+        watcher = new DataFileWatcher(
+                dataLoaderService, new DataFileWatchProperties(true, Duration.ofMillis(200)), dataFile.toString());
+        watcher.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        watcher.stop();
+    }
+
+    @Test
+    void watch_dataFileWritten_queuesOneSwapImportAfterQuietPeriod() throws Exception {
+        // given
+        when(dataLoaderService.startImport(anyString(), any()))
+                .thenReturn(Result.failure(new SwiftCodeError.DataFileNotReadable(dataFile.toString())));
+
+        // when
+        Files.writeString(dataFile, "COUNTRY ISO2 CODE,SWIFT CODE\n");
+        Files.writeString(dataFile, "PL,TEST1234XXX\n", StandardOpenOption.APPEND);
+
+        // then
+        verify(dataLoaderService, timeout(5000).times(1)).startImport(dataFile.toString(), ImportStrategy.SWAP);
+        verify(dataLoaderService, after(500).times(1)).startImport(anyString(), any());
+    }
+
+    @Test
+    void watch_otherFileWritten_queuesNothing() throws Exception {
+        // given
+        Path otherFile = directory.resolve("notes.txt");
+
+        // when
+        Files.writeString(otherFile, "not the data file");
+
+        // then
+        verify(dataLoaderService, after(1000).never()).startImport(anyString(), any());
+    }
+}
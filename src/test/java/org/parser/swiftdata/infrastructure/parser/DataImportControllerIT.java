@@ -0,0 +1,165 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parser.swiftdata.facade.domain.SwiftCodeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {"spring.datasource.url=jdbc:h2:mem:imports", "data.import.directory=${java.io.tmpdir}"})
+@AutoConfigureMockMvc
+class DataImportControllerIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SwiftCodeRepository repository;
+
+    @MockBean
+    private CommandLineRunner loadSwiftData;
+
+    private File tempFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repository.deleteAll();
+        tempFile = File.createTempFile("swift_codes", ".csv");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (tempFile != null && tempFile.exists()) {
+            tempFile.delete();
+        }
+    }
+
+    // POST /v1/admin/imports
+
+    @Test
+    void startImport_returnsAccepted_andImportCompletesInBackground() throws Exception {
+        // given
+        try (PrintWriter writer = new PrintWriter(tempFile)) {
+            writer.println("COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE");
+            writer.println("PL,TEST1234XXX,BIC11,Test Bank,STREET 1,CITY,Poland,Europe/Warsaw");
+            writer.println("PL,TEST1234001,BIC11,Test Bank,STREET 2,CITY,Poland,Europe/Warsaw");
+            writer.println("PL,INVALID,BIC11,Test Bank,,CITY,Poland,Europe/Warsaw");
+        }
+        String request = objectMapper.writeValueAsString(new DataImportRequest(tempFile.getName()));
+
+        // when
+        String started = mockMvc.perform(post("/v1/admin/imports/")
+                        .with(httpBasic("admin", "admin"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                // then
+                .andExpect(status().isAccepted())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        long id = objectMapper.readTree(started).get("id").asLong();
+
+        JsonNode finished = awaitFinished(id);
+        assertEquals("COMPLETED", finished.get("status").asText());
+        assertEquals(2, finished.get("processedRecords").asLong());
+        assertEquals(1, finished.get("skippedRecords").asLong());
+        assertEquals(100.0, finished.get("percentComplete").asDouble());
+        assertEquals(2, repository.count());
+        mockMvc.perform(get("/actuator/health/readiness")).andExpect(status().isOk());
+    }
+
+    @Test
+    void startImport_returnsBadRequest_whenFileIsMissing() throws Exception {
+        // given
+        String request = objectMapper.writeValueAsString(new DataImportRequest("no_such_swift_codes.csv"));
+
+        // when
+        mockMvc.perform(post("/v1/admin/imports/")
+                        .with(httpBasic("admin", "admin"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                // then
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("no_such_swift_codes.csv")));
+    }
+
+    @Test
+    void startImport_returnsBadRequest_whenFileIsOutsideImportDirectory() throws Exception {
+        // given
+        String request = objectMapper.writeValueAsString(new DataImportRequest("../" + tempFile.getName()));
+
+        // when
+        mockMvc.perform(post("/v1/admin/imports/")
+                        .with(httpBasic("admin", "admin"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                // then
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("is not in the import directory")));
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void startImport_returnsUnauthorized_withoutAdminCredentials() throws Exception {
+        // given
+        String request = objectMapper.writeValueAsString(new DataImportRequest(tempFile.getName()));
+
+        // when
+        mockMvc.perform(post("/v1/admin/imports/")
+                        .with(httpBasic("admin", "wrong"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                // then
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/v1/admin/imports/1")).andExpect(status().isUnauthorized());
+    }
+
+    // GET /v1/admin/imports/{id}
+
+    @Test
+    void getImport_returnsNotFound_whenIdIsUnknown() throws Exception {
+        // given
+        // when
+        mockMvc.perform(get("/v1/admin/imports/999999").with(httpBasic("admin", "admin")))
+                // then
+                .andExpect(status().isNotFound())
+                .andExpect(content().string(containsString("999999")));
+    }
+
+    private JsonNode awaitFinished(long id) throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            String body = mockMvc.perform(get("/v1/admin/imports/" + id).with(httpBasic("admin", "admin")))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            JsonNode progress = objectMapper.readTree(body);
+            if (progress.has("finishedAt")) {
+                return progress;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Import " + id + " did not finish");
+    }
+}
@@ -0,0 +1,104 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parser.swiftdata.infrastructure.parser.DataImportProgress.Status;
+import org.parser.swiftdata.infrastructure.parser.DataImportProperties.ImportStrategy;
+
+public class DataImportProgressTest {
+
+    private File tempFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tempFile = File.createTempFile("swift_codes", ".csv");
+        try (PrintWriter writer = new PrintWriter(tempFile)) {
+            writer.print("x".repeat(1000));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (tempFile != null && tempFile.exists()) {
+            tempFile.delete();
+        }
+    }
+
+    @Test
+    void toResponse_queued_hasNoProgressOrEstimate() {
+        // given
+        DataImportProgress progress = new DataImportProgress(1, tempFile, ImportStrategy.BATCH);
+
+        // when
+        DataImportResponse response = progress.toResponse();
+
+        // then
+        assertEquals(Status.QUEUED, response.status());
+        assertNull(response.startedAt());
+        assertEquals(0, response.percentComplete());
+        assertNull(response.etaSeconds());
+    }
+
+    @Test
+    void toResponse_running_reportsShareOfFileReadAndEstimate() {
+        // given
+        DataImportProgress progress = new DataImportProgress(1, tempFile, ImportStrategy.BATCH);
+        progress.start();
+        progress.addProcessed(10);
+        progress.addSkipped(2);
+        progress.readUpTo(250);
+        progress.readUpTo(100);
+
+        // when
+        DataImportResponse response = progress.toResponse();
+
+        // then
+        assertEquals(Status.RUNNING, response.status());
+        assertEquals(10, response.processedRecords());
+        assertEquals(2, response.skippedRecords());
+        assertEquals(25.0, response.percentComplete());
+        assertNotNull(response.etaSeconds());
+        assertNull(response.finishedAt());
+    }
+
+    @Test
+    void toResponse_completed_reportsWholeFileWithoutEstimate() {
+        // given
+        DataImportProgress progress = new DataImportProgress(1, tempFile, ImportStrategy.BATCH);
+        progress.start();
+        progress.readUpTo(400);
+
+        // when
+        progress.complete();
+        DataImportResponse response = progress.toResponse();
+
+        // then
+        assertTrue(progress.isFinished());
+        assertEquals(Status.COMPLETED, response.status());
+        assertEquals(100.0, response.percentComplete());
+        assertNull(response.etaSeconds());
+        assertNotNull(response.finishedAt());
+    }
+
+    @Test
+    void toResponse_failed_reportsError() {
+        // given
+        DataImportProgress progress = new DataImportProgress(1, tempFile, ImportStrategy.BATCH);
+        progress.start();
+
+        // when
+        progress.fail("Connection refused");
+        DataImportResponse response = progress.toResponse();
+
+        // then
+        assertTrue(progress.isFinished());
+        assertEquals(Status.FAILED, response.status());
+        assertEquals("Connection refused", response.error());
+    }
+}
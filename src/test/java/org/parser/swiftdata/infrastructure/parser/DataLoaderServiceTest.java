@@ -0,0 +1,112 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.parser.swiftdata.facade.DirectorySnapshotService;
+import org.parser.swiftdata.infrastructure.parser.DataImportProperties.ImportStrategy;
+import org.parser.swiftdata.infrastructure.parser.SwiftCodeDataLoadedEvent.Origin;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+public class DataLoaderServiceTest {
+
+    @Mock
+    private SwiftCodeParserService swiftCodeParserService;
+
+    @Mock
+    private SwiftCodeCopyLoaderService swiftCodeCopyLoaderService;
+
+    @Mock
+    private SwiftCodeImportPipeline swiftCodeImportPipeline;
+
+    @Mock
+    private SwiftCodeDeltaImportService swiftCodeDeltaImportService;
+
+    @Mock
+    private SwiftCodeTableSwapService swiftCodeTableSwapService;
+
+    @Mock
+    private DirectorySnapshotService directorySnapshotService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ExecutorService dataImportExecutor;
+
+    private DataLoaderService dataLoaderService;
+
+    private File tempFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tempFile = File.createTempFile("swift_codes", ".csv");
+        dataLoaderService = new DataLoaderService(
+                swiftCodeParserService,
+                swiftCodeCopyLoaderService,
+                swiftCodeImportPipeline,
+                swiftCodeDeltaImportService,
+                swiftCodeTableSwapService,
+                new DataImportProperties(1000, ImportStrategy.COPY, 1, 1, 1, 0.5, ""),
+                directorySnapshotService,
+                eventPublisher,
+                dataImportExecutor);
+        doAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(0).run();
+                    return null;
+                })
+                .when(dataImportExecutor)
+                .execute(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        tempFile.delete();
+    }
+
+    @Test
+    void startImport_copyFails_failsImportAndPublishesFailedImport() {
+        // given
+        doThrow(new IllegalStateException("Copying the data file failed: permission denied"))
+                .when(swiftCodeCopyLoaderService)
+                .parseAndStoreSwiftCodes(any(), any());
+
+        // when
+        long id = dataLoaderService.startImport(tempFile.getPath()).getData().id();
+
+        // then
+        DataImportResponse finished = dataLoaderService.findImport(id).getData();
+        assertEquals(DataImportProgress.Status.FAILED, finished.status());
+        assertEquals("Copying the data file failed: permission denied", finished.error());
+        verify(eventPublisher).publishEvent(new SwiftCodeDataLoadedEvent(tempFile.getPath(), Origin.FAILED_IMPORT));
+        assertTrue(dataLoaderService.isInitialImportFinished());
+    }
+
+    @Test
+    void startImport_copySucceeds_completesImportAndPublishesImport() {
+        // given
+        // when
+        long id = dataLoaderService.startImport(tempFile.getPath()).getData().id();
+
+        // then
+        assertEquals(
+                DataImportProgress.Status.COMPLETED,
+                dataLoaderService.findImport(id).getData().status());
+        InOrder inOrder = inOrder(directorySnapshotService, swiftCodeCopyLoaderService);
+        inOrder.verify(directorySnapshotService).invalidate();
+        inOrder.verify(swiftCodeCopyLoaderService).parseAndStoreSwiftCodes(any(), any());
+        verify(eventPublisher).publishEvent(new SwiftCodeDataLoadedEvent(tempFile.getPath(), Origin.IMPORT));
+    }
+}
@@ -0,0 +1,113 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parser.swiftdata.facade.domain.SwiftCode;
+import org.parser.swiftdata.facade.domain.SwiftCodeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(
+        properties = {
+            "spring.datasource.url=jdbc:h2:mem:copy;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+            "data.import.strategy=copy"
+        })
+class SwiftCodeCopyLoaderServiceIT {
+
+    @Autowired
+    private DataLoaderService dataLoaderService;
+
+    @Autowired
+    private SwiftCodeRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private CommandLineRunner loadSwiftData;
+
+    private File tempFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repository.deleteAll();
+        tempFile = File.createTempFile("swift_codes", ".csv");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (tempFile != null && tempFile.exists()) {
+            tempFile.delete();
+        }
+    }
+
+    @Test
+    void loadSwiftCodeData_copyStrategyOnH2_fallsBackToBatchImport() throws Exception {
+        // given
+        try (PrintWriter writer = new PrintWriter(tempFile)) {
+            writer.println("COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE");
+            writer.println("pl,TEST1234XXX,BIC11,Test Bank,\"STREET 1, CITY\",CITY,Poland,Europe/Warsaw");
+            writer.println("PL,TEST1234001,BIC11,Test Bank,\"STREET 2\nCITY\",CITY,Poland,Europe/Warsaw");
+            writer.println("PL,INVALID,BIC11,Test Bank,,CITY,Poland,Europe/Warsaw");
+        }
+
+        // when
+        dataLoaderService.loadSwiftCodeData(tempFile.getAbsolutePath());
+
+        // then
+        assertThat(repository.count()).isEqualTo(2);
+        SwiftCode headquarter = repository.findById("TEST1234XXX").orElseThrow();
+        assertThat(headquarter.isHeadquarter()).isTrue();
+        assertThat(headquarter.getCountryISO2()).isEqualTo("PL");
+        assertThat(headquarter.getCountryName()).isEqualTo("POLAND");
+        assertThat(headquarter.getAddress()).isEqualTo("STREET 1, CITY");
+        SwiftCode branch = repository.findById("TEST1234001").orElseThrow();
+        assertThat(branch.isHeadquarter()).isFalse();
+        assertThat(branch.getHeadquarterCode()).isEqualTo("TEST1234");
+        assertThat(branch.getAddress()).isEqualTo("STREET 2\nCITY");
+    }
+
+    @Test
+    void selectLastStagedRows_duplicatedCode_keepsTheRowFurthestInTheFile() {
+        // given
+        jdbcTemplate.execute(
+                "CREATE TABLE swift_codes_staging AS SELECT *, 0 AS file_position FROM swift_codes WITH NO DATA");
+        try {
+            stage("TEST1234XXX", "FIRST BANK", 100);
+            stage("TEST1234XXX", "LAST BANK", 300);
+            stage("TEST1234XXX", "MIDDLE BANK", 200);
+            stage("TEST1234001", "BRANCH BANK", 150);
+
+            // when
+            List<String> rows = jdbcTemplate.query(
+                    SwiftCodeCopyLoaderService.SELECT_LAST_STAGED_ROWS,
+                    (row, rowNumber) -> row.getString("swift_code") + " " + row.getString("bank_name"));
+
+            // then
+            assertThat(rows).containsExactly("TEST1234001 BRANCH BANK", "TEST1234XXX LAST BANK");
+        } finally {
+            jdbcTemplate.execute("DROP TABLE swift_codes_staging");
+        }
+    }
+
+    private void stage(String code, String bankName, long filePosition) {
+        jdbcTemplate.update(
+                """
+                INSERT INTO swift_codes_staging (swift_code, bank_name, address, country_iso2, country_name, is_headquarter, headquarter_code, content_hash, file_position)
+                VALUES (?, ?, NULL, 'PL', 'POLAND', FALSE, 'TEST1234', 0, ?)
+                """,
+                code,
+                bankName,
+                filePosition);
+    }
+}
@@ -0,0 +1,103 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.parser.swiftdata.facade.domain.SwiftCode;
+import org.postgresql.PGConnection;
+
+@ExtendWith(MockitoExtension.class)
+public class SwiftCodeCopyLoaderServiceTest {
+
+    @InjectMocks
+    private SwiftCodeCopyLoaderService copyLoaderService;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private SwiftCodeParserService swiftCodeParserService;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Test
+    void parseAndStoreSwiftCodes_notPostgres_fallsBackToBatchImport() throws Exception {
+        // given
+        File file = new File("swift_codes.csv");
+        DataImportProgress progress = new DataImportProgress(1, file, DataImportProperties.ImportStrategy.COPY);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isWrapperFor(PGConnection.class)).thenReturn(false);
+
+        // when
+        copyLoaderService.parseAndStoreSwiftCodes(file, progress);
+
+        // then
+        verify(swiftCodeParserService, times(1)).parseAndStoreSwiftCodes(file, progress);
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    void parseAndStoreSwiftCodes_copyFails_rollsBackAndThrows() throws Exception {
+        // given
+        File file = new File("swift_codes.csv");
+        DataImportProgress progress = new DataImportProgress(1, file, DataImportProperties.ImportStrategy.COPY);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isWrapperFor(PGConnection.class)).thenReturn(true);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.execute(anyString())).thenThrow(new SQLException("permission denied"));
+
+        // when / then
+        IllegalStateException failure = assertThrows(
+                IllegalStateException.class, () -> copyLoaderService.parseAndStoreSwiftCodes(file, progress));
+        assertTrue(failure.getMessage().contains("permission denied"));
+        verify(connection, times(1)).rollback();
+        verify(connection, never()).commit();
+        verifyNoInteractions(swiftCodeParserService);
+    }
+
+    @Test
+    void toCopyRow_quotesAllFieldsAndEscapesQuotes() {
+        // given
+        SwiftCode swiftCode =
+                new SwiftCode("TEST1234XXX", "Bank \"One\"", "STREET 1, CITY", "PL", "POLAND", true, "TEST1234");
+
+        // when
+        String row = SwiftCodeCopyLoaderService.toCopyRow(swiftCode, 42);
+
+        // then
+        assertEquals(
+                "\"TEST1234XXX\",\"Bank \"\"One\"\"\",\"STREET 1, CITY\",\"PL\",\"POLAND\",t,\"TEST1234\","
+                        + swiftCode.computeContentHash() + ",42\n",
+                row);
+    }
+
+    @Test
+    void toCopyRow_writesNullAsUnquotedEmptyField() {
+        // given
+        SwiftCode swiftCode = new SwiftCode("TEST1234001", "Bank", null, "PL", "POLAND", false, "TEST1234");
+
+        // when
+        String row = SwiftCodeCopyLoaderService.toCopyRow(swiftCode, 42);
+
+        // then
+        assertEquals(
+                "\"TEST1234001\",\"Bank\",,\"PL\",\"POLAND\",f,\"TEST1234\"," + swiftCode.computeContentHash()
+                        + ",42\n",
+                row);
+    }
+}
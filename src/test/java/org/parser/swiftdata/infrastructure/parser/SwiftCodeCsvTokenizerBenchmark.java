@@ -0,0 +1,77 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import com.opencsv.CSVParserBuilder;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import java.io.File;
+import java.io.FileReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Compares the opencsv reader previously used by the import with the memory-mapped {@link SwiftCodeCsvTokenizer}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SwiftCodeCsvTokenizerBenchmark {
+
+    @Param({"100"})
+    private int copies;
+
+    private File dataFile;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<String> lines = Files.readAllLines(Path.of("src/main/resources/2025_SWIFT_CODES.csv"));
+        Path path = Files.createTempFile("swift_codes_benchmark", ".csv");
+        Files.writeString(path, lines.getFirst() + "\n");
+        List<String> records = lines.subList(1, lines.size());
+        for (int i = 0; i < copies; i++) {
+            Files.write(path, records, StandardOpenOption.APPEND);
+        }
+        dataFile = path.toFile();
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataFile.delete();
+    }
+
+    @Benchmark
+    public void openCsvReader(Blackhole blackhole) throws Exception {
+        try (FileReader fileReader = new FileReader(dataFile);
+                CSVReader csvReader = new CSVReaderBuilder(fileReader)
+                        .withCSVParser(new CSVParserBuilder().withSeparator(',').build())
+                        .build()) {
+            csvReader.readNextSilently();
+            String[] record;
+            while ((record = csvReader.readNext()) != null) {
+                blackhole.consume(record[0]);
+                blackhole.consume(record[1]);
+                blackhole.consume(record[3]);
+                blackhole.consume(record[4]);
+                blackhole.consume(record[6]);
+            }
+        }
+    }
+
+    @Benchmark
+    public void mappedTokenizer(Blackhole blackhole) throws Exception {
+        SwiftCodeCsvTokenizer record = new SwiftCodeCsvTokenizer(SwiftCodeCsvTokenizer.map(dataFile));
+        record.next();
+        while (record.next()) {
+            blackhole.consume(record.column(0));
+            blackhole.consume(record.column(1));
+            blackhole.consume(record.column(3));
+            blackhole.consume(record.column(4));
+            blackhole.consume(record.column(6));
+        }
+    }
+}
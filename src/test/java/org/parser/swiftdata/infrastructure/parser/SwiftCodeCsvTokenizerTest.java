@@ -0,0 +1,80 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class SwiftCodeCsvTokenizerTest {
+
+    private static SwiftCodeCsvTokenizer tokenizer(String content) {
+        return new SwiftCodeCsvTokenizer(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void next_plainRecords_splitsColumns() {
+        // given
+        SwiftCodeCsvTokenizer record = tokenizer("a,b,c\nd,,f\n");
+
+        // when / then
+        assertTrue(record.next());
+        assertEquals(3, record.columnCount());
+        assertEquals("a", record.column(0));
+        assertEquals("c", record.column(2));
+        assertTrue(record.next());
+        assertEquals("", record.column(1));
+        assertEquals("f", record.column(2));
+        assertFalse(record.next());
+    }
+
+    @Test
+    void next_quotedColumn_keepsSeparatorsLineBreaksAndEscapedQuotes() {
+        // given
+        SwiftCodeCsvTokenizer record = tokenizer("PL,\"STREET 1, \"\"A\"\"\nCITY\",X\r\nDE,B,Y");
+
+        // when / then
+        assertTrue(record.next());
+        assertEquals(3, record.columnCount());
+        assertEquals("STREET 1, \"A\"\nCITY", record.column(1));
+        assertEquals("X", record.column(2));
+        assertTrue(record.next());
+        assertEquals("DE", record.column(0));
+        assertEquals("Y", record.column(2));
+        assertEquals("DE,B,Y", record.recordText());
+        assertFalse(record.next());
+    }
+
+    @Test
+    void next_byteOrderMarkAndMultiByteCharacters_decodesUtf8() {
+        // given
+        SwiftCodeCsvTokenizer record = tokenizer("\uFEFFISO2,NAME\nPL,ŁÓDŹ BANK\n");
+
+        // when / then
+        assertTrue(record.next());
+        assertEquals("ISO2", record.column(0));
+        assertTrue(record.next());
+        assertEquals("ŁÓDŹ BANK", record.column(1));
+    }
+
+    @Test
+    void map_sampleDataFile_readsEveryRecordWithAllColumns() throws Exception {
+        // given
+        SwiftCodeCsvTokenizer record = new SwiftCodeCsvTokenizer(
+                SwiftCodeCsvTokenizer.map(new File("src/main/resources/2025_SWIFT_CODES.csv")));
+        assertTrue(record.next());
+        assertEquals("SWIFT CODE", record.column(1));
+
+        // when
+        int records = 0;
+        while (record.next()) {
+            assertEquals(8, record.columnCount(), record.recordText());
+            assertEquals(11, record.column(1).length());
+            records++;
+        }
+
+        // then
+        assertEquals(1061, records);
+    }
+}
@@ -0,0 +1,126 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parser.swiftdata.facade.domain.SwiftCode;
+import org.parser.swiftdata.facade.domain.SwiftCodeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+@SpringBootTest(
+        properties = {
+            "spring.datasource.url=jdbc:h2:mem:delta;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+            "data.import.strategy=delta"
+        })
+class SwiftCodeDeltaImportServiceIT {
+
+    private static final String HEADER =
+            "COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE";
+
+    @Autowired
+    private SwiftCodeDeltaImportService deltaImportService;
+
+    @Autowired
+    private SwiftCodeRepository repository;
+
+    @Autowired
+    private DataFileImportRepository dataFileImportRepository;
+
+    @MockBean
+    private CommandLineRunner loadSwiftData;
+
+    private File tempFile;
+
+    private DataImportProgress progress;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repository.deleteAll();
+        dataFileImportRepository.deleteAll();
+        tempFile = File.createTempFile("swift_codes", ".csv");
+        progress = new DataImportProgress(1, tempFile, DataImportProperties.ImportStrategy.DELTA);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (tempFile != null && tempFile.exists()) {
+            tempFile.delete();
+        }
+    }
+
+    @Test
+    void parseAndStoreSwiftCodes_skipsFile_whenChecksumMatchesLastImport() throws Exception {
+        // given
+        writeFile(
+                "PL,TEST1234XXX,BIC11,Test Bank,STREET 1,CITY,Poland,Europe/Warsaw",
+                "PL,TEST1234001,BIC11,Test Bank,STREET 2,CITY,Poland,Europe/Warsaw",
+                "PL,INVALID,BIC11,Test Bank,,CITY,Poland,Europe/Warsaw");
+        DeltaImportReport firstImport = deltaImportService.parseAndStoreSwiftCodes(tempFile, progress);
+
+        // when
+        DeltaImportReport secondImport = deltaImportService.parseAndStoreSwiftCodes(tempFile, progress);
+
+        // then
+        assertThat(firstImport).isEqualTo(new DeltaImportReport(false, 2, 0, 0, 0, 1));
+        assertThat(secondImport.fileUnchanged()).isTrue();
+        assertThat(secondImport.changed()).isZero();
+        assertThat(repository.count()).isEqualTo(2);
+        assertThat(dataFileImportRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void parseAndStoreSwiftCodes_appliesOnlyChangedRows() throws Exception {
+        // given
+        repository.save(new SwiftCode("TEST1234XXX", "Test Bank", "STREET 1", "PL", "POLAND", true, "TEST1234"));
+        repository.save(new SwiftCode("TEST1234001", "Test Bank", "OLD STREET", "PL", "POLAND", false, "TEST1234"));
+        repository.save(new SwiftCode("GONE1234XXX", "Gone Bank", "STREET 3", "PL", "POLAND", true, "GONE1234"));
+        writeFile(
+                "PL,TEST1234XXX,BIC11,Test Bank,STREET 1,CITY,Poland,Europe/Warsaw",
+                "PL,TEST1234001,BIC11,Test Bank,NEW STREET,CITY,Poland,Europe/Warsaw",
+                "DE,NEWWDEFFXXX,BIC11,New Bank,STRASSE 1,BERLIN,Germany,Europe/Berlin");
+
+        // when
+        DeltaImportReport report = deltaImportService.parseAndStoreSwiftCodes(tempFile, progress);
+
+        // then
+        assertThat(report).isEqualTo(new DeltaImportReport(false, 1, 1, 1, 1, 0));
+        assertThat(repository.findById("TEST1234001").orElseThrow().getAddress())
+                .isEqualTo("NEW STREET");
+        assertThat(repository.findById("NEWWDEFFXXX").orElseThrow().getCountryName())
+                .isEqualTo("GERMANY");
+        assertThat(repository.existsById("GONE1234XXX")).isFalse();
+        SwiftCode updated = repository.findById("TEST1234001").orElseThrow();
+        assertThat(updated.getContentHash()).isEqualTo(updated.computeContentHash());
+    }
+
+    @Test
+    void parseAndStoreSwiftCodes_failsAndKeepsStoredRows_whenFileHasNoValidRecords() throws Exception {
+        // given
+        repository.save(new SwiftCode("TEST1234XXX", "Test Bank", "STREET 1", "PL", "POLAND", true, "TEST1234"));
+        writeFile("PL,INVALID,BIC11,Test Bank,,CITY,Poland,Europe/Warsaw");
+
+        // when / then
+        assertThatThrownBy(() -> deltaImportService.parseAndStoreSwiftCodes(tempFile, progress))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(progress.toResponse().skippedRecords()).isEqualTo(1);
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    private void writeFile(String... rows) throws IOException {
+        try (PrintWriter writer = new PrintWriter(tempFile)) {
+            writer.println(HEADER);
+            for (String row : rows) {
+                writer.println(row);
+            }
+        }
+    }
+}
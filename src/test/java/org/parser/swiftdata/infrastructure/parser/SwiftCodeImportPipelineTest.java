@@ -0,0 +1,213 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.parser.swiftdata.facade.domain.SwiftCode;
+import org.parser.swiftdata.facade.domain.SwiftCodeRepository;
+import org.springframework.mock.env.MockEnvironment;
+
+@ExtendWith(MockitoExtension.class)
+public class SwiftCodeImportPipelineTest {
+
+    private SwiftCodeImportPipeline importPipeline;
+
+    @Mock
+    private SwiftCodeRepository repository;
+
+    private final Map<String, SwiftCode> storedRecords = new ConcurrentHashMap<>();
+
+    private File tempFile;
+
+    private DataImportProgress progress;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        importPipeline = new SwiftCodeImportPipeline(
+                repository,
+                new DataImportProperties(2, DataImportProperties.ImportStrategy.PARALLEL, 3, 2, 1, 0.5, ""),
+                new SwiftCodeImportMetrics(new SimpleMeterRegistry()),
+                new MockEnvironment());
+        tempFile = File.createTempFile("swift_codes", ".csv");
+        progress = new DataImportProgress(1, tempFile, DataImportProperties.ImportStrategy.PARALLEL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (tempFile != null && tempFile.exists()) {
+            tempFile.delete();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void storeUpsertedRecords() {
+        when(repository.upsertAllIfNewer(anyList())).thenAnswer(invocation -> {
+            List<SwiftCode> batch = invocation.getArgument(0, List.class);
+            batch.forEach(swiftCode -> storedRecords.put(swiftCode.getSwiftCode(), swiftCode));
+            return batch.size();
+        });
+    }
+
+    @Test
+    void parseAndStoreSwiftCodes_manyChunks_storesAllValidRecords() throws Exception {
+        // given
+        storeUpsertedRecords();
+        try (PrintWriter writer = new PrintWriter(tempFile)) {
+            writer.println("COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE");
+            for (int i = 0; i < 9; i++) {
+                writer.println(
+                        "PL,TEST12340" + i + "0,BIC11,Bank " + i + ",\"STREET " + i + ", CITY\",CITY,Poland,UTC");
+            }
+            writer.println("PL,TEST1234XXX,BIC11,Head Bank,\"LINE 1\nLINE 2\",CITY,Poland,UTC");
+            writer.println("PL,INVALID,BIC11,Bank,Address,CITY,Poland,UTC");
+            writer.println("PL,SHORT");
+        }
+
+        // when
+        importPipeline.parseAndStoreSwiftCodes(tempFile, progress);
+
+        // then
+        assertEquals(10, storedRecords.size());
+        SwiftCode headquarter = storedRecords.get("TEST1234XXX");
+        assertTrue(headquarter.isHeadquarter());
+        assertEquals("LINE 1\nLINE 2", headquarter.getAddress());
+        assertEquals("POLAND", headquarter.getCountryName());
+        SwiftCode branch = storedRecords.get("TEST1234050");
+        assertFalse(branch.isHeadquarter());
+        assertEquals("TEST1234", branch.getHeadquarterCode());
+        assertEquals("STREET 5, CITY", branch.getAddress());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void parseAndStoreSwiftCodes_duplicateCodes_storesLastValidRecordOnly() throws Exception {
+        // given
+        AtomicInteger upsertedRecords = new AtomicInteger();
+        when(repository.upsertAllIfNewer(anyList())).thenAnswer(invocation -> {
+            List<SwiftCode> batch = invocation.getArgument(0, List.class);
+            batch.forEach(swiftCode -> storedRecords.merge(
+                    swiftCode.getSwiftCode(),
+                    swiftCode,
+                    (stored, written) -> stored.getImportPosition() < written.getImportPosition() ? written : stored));
+            upsertedRecords.addAndGet(batch.size());
+            return batch.size();
+        });
+        try (PrintWriter writer = new PrintWriter(tempFile)) {
+            writer.println("COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE");
+            writer.println("PL,TEST1234XXX,BIC11,Bank,First,CITY,Poland,UTC");
+            for (int i = 0; i < 6; i++) {
+                writer.println("PL,TEST12340" + i + "0,BIC11,Bank,Address,CITY,Poland,UTC");
+            }
+            writer.println("PL,TEST1234XXX,BIC11,Bank,Last,CITY,Poland,UTC");
+            writer.println("PL,TEST1234XXX");
+        }
+
+        // when
+        importPipeline.parseAndStoreSwiftCodes(tempFile, progress);
+
+        // then
+        assertEquals(8, upsertedRecords.get());
+        assertEquals("Last", storedRecords.get("TEST1234XXX").getAddress());
+    }
+
+    @Test
+    void parseAndStoreSwiftCodes_afterEarlierImport_writesHigherImportPositions() throws Exception {
+        // given
+        storeUpsertedRecords();
+        long earlierImportPosition = (3L << 31) + 1_000_000;
+        when(repository.findMaxImportPosition()).thenReturn(earlierImportPosition);
+        try (PrintWriter writer = new PrintWriter(tempFile)) {
+            writer.println("COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE");
+            writer.println("PL,TEST1234XXX,BIC11,Bank,Address,CITY,Poland,UTC");
+            writer.println("PL,TEST1234001,BIC11,Bank,Address,CITY,Poland,UTC");
+        }
+
+        // when
+        importPipeline.parseAndStoreSwiftCodes(tempFile, progress);
+
+        // then
+        long headquarterPosition = storedRecords.get("TEST1234XXX").getImportPosition();
+        long branchPosition = storedRecords.get("TEST1234001").getImportPosition();
+        assertTrue(headquarterPosition > earlierImportPosition);
+        assertTrue(branchPosition > headquarterPosition);
+    }
+
+    @Test
+    void parseAndStoreSwiftCodes_failingBatch_continuesWithOtherBatches() throws Exception {
+        // given
+        when(repository.upsertAllIfNewer(anyList()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(2);
+        try (PrintWriter writer = new PrintWriter(tempFile)) {
+            writer.println("COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE");
+            for (int i = 0; i < 4; i++) {
+                writer.println("PL,TEST12340" + i + "0,BIC11,Bank,Address,CITY,Poland,UTC");
+            }
+        }
+
+        // when
+        importPipeline.parseAndStoreSwiftCodes(tempFile, progress);
+
+        // then
+        verify(repository, times(2)).upsertAllIfNewer(anyList());
+    }
+
+    @Test
+    void parseAndStoreSwiftCodes_emptyFile_noSaveCalls() throws Exception {
+        // given
+        try (PrintWriter writer = new PrintWriter(tempFile)) {
+            writer.print("\n");
+        }
+
+        // when
+        importPipeline.parseAndStoreSwiftCodes(tempFile, progress);
+
+        // then
+        verify(repository, never()).upsertAllIfNewer(anyList());
+    }
+
+    @Test
+    void parseAndStoreSwiftCodes_onVirtualThreads_storesAllValidRecords() throws Exception {
+        // given
+        importPipeline = new SwiftCodeImportPipeline(
+                repository,
+                new DataImportProperties(2, DataImportProperties.ImportStrategy.PARALLEL, 3, 2, 1, 0.5, ""),
+                new SwiftCodeImportMetrics(new SimpleMeterRegistry()),
+                new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"));
+        List<Boolean> writerThreadsVirtual = new CopyOnWriteArrayList<>();
+        when(repository.upsertAllIfNewer(anyList())).thenAnswer(invocation -> {
+            writerThreadsVirtual.add(Thread.currentThread().isVirtual());
+            List<SwiftCode> batch = invocation.getArgument(0);
+            return batch.size();
+        });
+        try (PrintWriter writer = new PrintWriter(tempFile)) {
+            writer.println("COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE");
+            for (int i = 0; i < 5; i++) {
+                writer.println("PL,TEST12340" + i + "0,BIC11,Bank,Address,CITY,Poland,UTC");
+            }
+        }
+
+        // when
+        importPipeline.parseAndStoreSwiftCodes(tempFile, progress);
+
+        // then
+        assertEquals(3, writerThreadsVirtual.size());
+        assertTrue(writerThreadsVirtual.stream().allMatch(Boolean::booleanValue));
+    }
+}
@@ -0,0 +1,42 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.parser.swiftdata.facade.domain.SwiftCode;
+
+/** Cost of tokenizing and mapping a single CSV record to a {@link SwiftCode}, cycling through the sample file. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SwiftCodeParserBenchmark {
+
+    private ByteBuffer data;
+
+    private SwiftCodeCsvTokenizer record;
+
+    @Setup
+    public void setUp() throws Exception {
+        data = ByteBuffer.wrap(Files.readAllBytes(Path.of("src/main/resources/2025_SWIFT_CODES.csv")));
+        rewind();
+    }
+
+    @Benchmark
+    public SwiftCode parseRow() {
+        if (!record.next()) {
+            rewind();
+            record.next();
+        }
+        return SwiftCodeParserService.parseSwiftCodeRecord(record);
+    }
+
+    private void rewind() {
+        record = new SwiftCodeCsvTokenizer(data);
+        record.next();
+    }
+}
@@ -1,9 +1,10 @@
 package org.parser.swiftdata.infrastructure.parser;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
@@ -13,7 +14,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.parser.swiftdata.facade.domain.SwiftCode;
@@ -22,7 +22,6 @@ import org.parser.swiftdata.facade.domain.SwiftCodeRepository;
 @ExtendWith(MockitoExtension.class)
 public class SwiftCodeParserServiceTest {
 
-    @InjectMocks
     private SwiftCodeParserService parserService;
 
     @Mock
@@ -30,9 +29,19 @@ public class SwiftCodeParserServiceTest {
 
     private File tempFile;
 
+    private DataImportProgress progress;
+
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        parserService = new SwiftCodeParserService(
+                repository,
+                new DataImportProperties(1000, DataImportProperties.ImportStrategy.BATCH, 1, 1, 1, 0.5, ""),
+                new SwiftCodeImportMetrics(meterRegistry));
         tempFile = File.createTempFile("swift_codes", ".csv");
+        progress = new DataImportProgress(1, tempFile, DataImportProperties.ImportStrategy.BATCH);
     }
 
     @AfterEach
@@ -42,24 +51,26 @@ public class SwiftCodeParserServiceTest {
         }
     }
 
+    @SuppressWarnings("unchecked")
     @Test
-    void parseAndStoreSwiftCodes_validFile_callsSaveTwice() throws Exception {
+    void parseAndStoreSwiftCodes_validFile_storesBothRecordsInOneBatch() throws Exception {
         // given
         try (PrintWriter writer = new PrintWriter(tempFile)) {
             writer.println("country_iso2,swift_code,unused,bank_name,address,unused,country_name");
             writer.println("PL,TEST1234XXX,foo,Test Bank,Test Address,bar,Poland");
             writer.println("PL,BRANCH45YYY,foo,Branch Bank,Branch Address,bar,Poland");
         }
+        when(repository.upsertAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0, List.class).size());
 
         // when
-        parserService.parseAndStoreSwiftCodes(tempFile);
+        parserService.parseAndStoreSwiftCodes(tempFile, progress);
 
         // then
-        verify(repository, times(2)).save(any(SwiftCode.class));
-
-        ArgumentCaptor<SwiftCode> swiftCodeCaptor = ArgumentCaptor.forClass(SwiftCode.class);
-        verify(repository, times(2)).save(swiftCodeCaptor.capture());
-        List<SwiftCode> savedRecords = swiftCodeCaptor.getAllValues();
+        ArgumentCaptor<List<SwiftCode>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(1)).upsertAll(batchCaptor.capture());
+        List<SwiftCode> savedRecords = batchCaptor.getValue();
+        assertEquals(2, savedRecords.size());
 
         SwiftCode record1 = savedRecords.getFirst();
         assertTrue(record1.isHeadquarter());
@@ -68,6 +79,29 @@ public class SwiftCodeParserServiceTest {
         SwiftCode record2 = savedRecords.get(1);
         assertFalse(record2.isHeadquarter());
         assertEquals("BRANCH45", record2.getHeadquarterCode());
+        assertEquals(2, progress.getProcessedRecords().get());
+    }
+
+    @Test
+    void parseAndStoreSwiftCodes_batchSizeExceeded_splitsIntoBatches() throws Exception {
+        // given
+        parserService = new SwiftCodeParserService(
+                repository,
+                new DataImportProperties(2, DataImportProperties.ImportStrategy.BATCH, 1, 1, 1, 0.5, ""),
+                new SwiftCodeImportMetrics(meterRegistry));
+        try (PrintWriter writer = new PrintWriter(tempFile)) {
+            writer.println("country_iso2,swift_code,unused,bank_name,address,unused,country_name");
+            writer.println("PL,TEST1234XXX,foo,Test Bank,Test Address,bar,Poland");
+            writer.println("PL,TEST1234001,foo,Test Bank,Branch Address,bar,Poland");
+            writer.println("PL,TEST1234002,foo,Test Bank,Branch Address,bar,Poland");
+        }
+
+        // when
+        parserService.parseAndStoreSwiftCodes(tempFile, progress);
+
+        // then
+        verify(repository, times(1)).upsertAll(argThat(batch -> batch.size() == 2));
+        verify(repository, times(1)).upsertAll(argThat(batch -> batch.size() == 1));
     }
 
     @Test
@@ -78,10 +112,10 @@ public class SwiftCodeParserServiceTest {
         }
 
         // when
-        parserService.parseAndStoreSwiftCodes(tempFile);
+        parserService.parseAndStoreSwiftCodes(tempFile, progress);
 
         // then
-        verify(repository, never()).save(any(SwiftCode.class));
+        verify(repository, never()).upsertAll(anyList());
     }
 
     @Test
@@ -93,10 +127,11 @@ public class SwiftCodeParserServiceTest {
         }
 
         // when
-        parserService.parseAndStoreSwiftCodes(tempFile);
+        parserService.parseAndStoreSwiftCodes(tempFile, progress);
 
         // then
-        verify(repository, never()).save(any(SwiftCode.class));
+        verify(repository, never()).upsertAll(anyList());
+        assertEquals(1, progress.getSkippedRecords().get());
     }
 
     @Test
@@ -109,9 +144,41 @@ public class SwiftCodeParserServiceTest {
         }
 
         // when
-        parserService.parseAndStoreSwiftCodes(tempFile);
+        parserService.parseAndStoreSwiftCodes(tempFile, progress);
 
         // then
-        verify(repository, times(1)).save(any(SwiftCode.class));
+        verify(repository, times(1)).upsertAll(argThat(batch -> batch.size() == 1));
+    }
+
+    @Test
+    void parseAndStoreSwiftCodes_countsStoredAndSkippedRowsByReason() throws Exception {
+        // given
+        try (PrintWriter writer = new PrintWriter(tempFile)) {
+            writer.println("country_iso2,swift_code,unused,bank_name,address,unused,country_name");
+            writer.println("PL,VALID123XXX,foo,Valid Bank,Valid Address,bar,Poland");
+            writer.println("PL,VALID123001,foo,Valid Bank,Valid Address,bar,Poland");
+            writer.println("PL,INVALID");
+            writer.println("PL,SHORT,foo,Bank,Address,bar,Poland");
+        }
+        when(repository.upsertAll(anyList())).thenReturn(1);
+
+        // when
+        parserService.parseAndStoreSwiftCodes(tempFile, progress);
+
+        // then
+        assertEquals(1, rows("stored", "none"));
+        assertEquals(1, rows("skipped", "missing_columns"));
+        assertEquals(1, rows("skipped", "invalid_record"));
+        assertEquals(1, rows("skipped", "not_stored"));
+        assertEquals(0, rows("skipped", "batch_failed"));
+        assertEquals(1, meterRegistry.get("swift.codes.import.batch").timer().count());
+    }
+
+    private double rows(String outcome, String reason) {
+        return meterRegistry
+                .get("swift.codes.import.rows")
+                .tags("outcome", outcome, "reason", reason)
+                .counter()
+                .count();
     }
 }
@@ -0,0 +1,66 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:swap;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+class SwiftCodeTableSwapServiceIT {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private CommandLineRunner loadSwiftData;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute(
+                "CREATE TABLE swift_codes_staging AS SELECT *, 0 AS file_position FROM swift_codes WITH NO DATA");
+        jdbcTemplate.execute("CREATE TABLE swift_codes_shadow AS SELECT * FROM swift_codes WITH NO DATA");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE swift_codes_staging");
+        jdbcTemplate.execute("DROP TABLE swift_codes_shadow");
+    }
+
+    @Test
+    void fillShadowTable_duplicatedCode_keepsTheRowFurthestInTheFile() {
+        // given
+        stage("TEST1234XXX", "FIRST BANK", 100);
+        stage("TEST1234XXX", "LAST BANK", 300);
+        stage("TEST1234XXX", "MIDDLE BANK", 200);
+        stage("TEST1234001", "BRANCH BANK", 150);
+
+        // when
+        int shadowRecords = jdbcTemplate.update(SwiftCodeTableSwapService.FILL_SHADOW_TABLE);
+
+        // then
+        assertThat(shadowRecords).isEqualTo(2);
+        List<String> rows = jdbcTemplate.query(
+                "SELECT swift_code, bank_name FROM swift_codes_shadow ORDER BY swift_code",
+                (row, rowNumber) -> row.getString("swift_code") + " " + row.getString("bank_name"));
+        assertThat(rows).containsExactly("TEST1234001 BRANCH BANK", "TEST1234XXX LAST BANK");
+    }
+
+    private void stage(String code, String bankName, long filePosition) {
+        jdbcTemplate.update(
+                """
+                INSERT INTO swift_codes_staging (swift_code, bank_name, address, country_iso2, country_name, is_headquarter, headquarter_code, content_hash, file_position)
+                VALUES (?, ?, NULL, 'PL', 'POLAND', FALSE, 'TEST1234', 0, ?)
+                """,
+                code,
+                bankName,
+                filePosition);
+    }
+}
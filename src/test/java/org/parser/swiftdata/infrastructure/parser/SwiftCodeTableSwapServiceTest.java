@@ -0,0 +1,110 @@
+package org.parser.swiftdata.infrastructure.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class SwiftCodeTableSwapServiceTest {
+
+    @InjectMocks
+    private SwiftCodeTableSwapService tableSwapService;
+
+    @Mock
+    private SwiftCodeCopyLoaderService swiftCodeCopyLoaderService;
+
+    @Mock
+    private SwiftCodeDeltaImportService swiftCodeDeltaImportService;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private DataImportProperties importProperties;
+
+    @Mock
+    private DataFileImportRepository dataFileImportRepository;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Test
+    void parseAndStoreSwiftCodes_notPostgres_fallsBackToDeltaImport() throws Exception {
+        // given
+        File file = new File("swift_codes.csv");
+        DataImportProgress progress = new DataImportProgress(1, file, DataImportProperties.ImportStrategy.SWAP);
+        when(swiftCodeCopyLoaderService.supportsCopy()).thenReturn(false);
+
+        // when
+        tableSwapService.parseAndStoreSwiftCodes(file, progress);
+
+        // then
+        verify(swiftCodeDeltaImportService, times(1)).parseAndStoreSwiftCodes(file, progress);
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    void parseAndStoreSwiftCodes_locksTableAgainstWrites_beforeCopyingFile() throws Exception {
+        // given
+        File file = File.createTempFile("swift_codes", ".csv");
+        file.deleteOnExit();
+        DataImportProgress progress = new DataImportProgress(1, file, DataImportProperties.ImportStrategy.SWAP);
+        when(swiftCodeCopyLoaderService.supportsCopy()).thenReturn(true);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        ResultSet noIndexes = mock(ResultSet.class);
+        when(statement.executeQuery(startsWith("SELECT index_class.relname"))).thenReturn(noIndexes);
+        when(swiftCodeCopyLoaderService.copyIntoStagingTable(connection, file, progress))
+                .thenReturn(new SwiftCodeCopyLoaderService.StagedRecords(2, 0));
+        when(statement.executeUpdate(startsWith("INSERT INTO swift_codes_shadow")))
+                .thenReturn(2);
+        ResultSet count = mock(ResultSet.class);
+        when(count.next()).thenReturn(true);
+        when(count.getLong(1)).thenReturn(2L);
+        when(statement.executeQuery(startsWith("SELECT count("))).thenReturn(count);
+
+        // when
+        tableSwapService.parseAndStoreSwiftCodes(file, progress);
+
+        // then
+        InOrder inOrder = inOrder(statement, swiftCodeCopyLoaderService, connection);
+        inOrder.verify(statement).execute("LOCK TABLE swift_codes IN EXCLUSIVE MODE");
+        inOrder.verify(swiftCodeCopyLoaderService).copyIntoStagingTable(connection, file, progress);
+        inOrder.verify(statement).execute("ALTER TABLE swift_codes_shadow RENAME TO swift_codes");
+        inOrder.verify(connection).commit();
+        verify(statement).executeUpdate(contains(SwiftCodeCopyLoaderService.SELECT_LAST_STAGED_ROWS));
+    }
+
+    @Test
+    void shadowDefinition_renamesIndexAndTargetsShadowTable() {
+        // given
+        SwiftCodeTableSwapService.TableIndex index = new SwiftCodeTableSwapService.TableIndex(
+                "idx_headquarter_code",
+                "CREATE INDEX idx_headquarter_code ON public.swift_codes USING btree (headquarter_code)",
+                false);
+
+        // when
+        String definition = index.shadowDefinition();
+
+        // then
+        assertEquals(
+                "CREATE INDEX idx_headquarter_code_shadow ON swift_codes_shadow USING btree (headquarter_code)",
+                definition);
+    }
+}
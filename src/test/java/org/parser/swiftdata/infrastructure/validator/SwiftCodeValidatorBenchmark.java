@@ -0,0 +1,59 @@
+package org.parser.swiftdata.infrastructure.validator;
+
+import jakarta.validation.Validation;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.parser.swiftdata.facade.domain.InMemorySwiftCodeRepository;
+import org.parser.swiftdata.facade.dto.SwiftCodeRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+/** {@link SwiftCodeValidator#validate} for a known and an unknown country, against a loaded country registry. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SwiftCodeValidatorBenchmark {
+
+    private SwiftCodeValidator validator;
+
+    private SwiftCodeRequest knownCountryRequest;
+
+    private SwiftCodeRequest newCountryRequest;
+
+    @Setup
+    public void setUp() {
+        validator = new SwiftCodeValidator(
+                InMemorySwiftCodeRepository.loadedCountryService(InMemorySwiftCodeRepository.generate(50, 200, 4)),
+                Validation.buildDefaultValidatorFactory().getValidator());
+        knownCountryRequest = request("AB123456XXX", "AB", "COUNTRY AB");
+        newCountryRequest = request("ZZ123456XXX", "ZZ", "COUNTRY ZZ");
+    }
+
+    @Benchmark
+    public Errors validateKnownCountry() {
+        Errors errors = new BeanPropertyBindingResult(knownCountryRequest, "swiftCode");
+        validator.validate(knownCountryRequest, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Errors validateNewCountry() {
+        Errors errors = new BeanPropertyBindingResult(newCountryRequest, "swiftCode");
+        validator.validate(newCountryRequest, errors);
+        return errors;
+    }
+
+    private static SwiftCodeRequest request(String swiftCode, String countryISO2, String countryName) {
+        return SwiftCodeRequest.builder()
+                .swiftCode(swiftCode)
+                .bankName("Benchmark Bank")
+                .address("Benchmark Street")
+                .countryISO2(countryISO2)
+                .countryName(countryName)
+                .isHeadquarter(true)
+                .build();
+    }
+}
@@ -3,15 +3,15 @@ package org.parser.swiftdata.infrastructure.validator;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-import java.util.Collections;
+import jakarta.validation.Validation;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.parser.swiftdata.facade.domain.SwiftCode;
-import org.parser.swiftdata.facade.domain.SwiftCodeRepository;
+import org.parser.swiftdata.facade.CountryService;
 import org.parser.swiftdata.facade.dto.SwiftCodeRequest;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.Errors;
@@ -23,7 +23,10 @@ public class SwiftCodeValidatorTest {
     private SwiftCodeValidator validator;
 
     @Mock
-    private SwiftCodeRepository repository;
+    private CountryService countryService;
+
+    @Mock
+    private jakarta.validation.Validator beanValidator;
 
     private Errors getErrors(Object target) {
         return new BeanPropertyBindingResult(target, target.getClass().getSimpleName());
@@ -41,8 +44,7 @@ public class SwiftCodeValidatorTest {
                 .countryName("Poland")
                 .build();
 
-        SwiftCode existing = new SwiftCode("DUMMY123XXX", "Bank", "Addr", "PL", "Poland", true, "DUMMY");
-        when(repository.findByCountryISO2("PL")).thenReturn(List.of(existing));
+        when(countryService.findCountryName("PL")).thenReturn(Optional.of("Poland"));
         Errors errors = getErrors(request);
 
         // when
@@ -63,8 +65,8 @@ public class SwiftCodeValidatorTest {
                 .countryName("Poland")
                 .build();
 
-        when(repository.findByCountryISO2("US")).thenReturn(Collections.emptyList());
-        when(repository.existsByCountryName("Poland")).thenReturn(true);
+        when(countryService.findCountryName("US")).thenReturn(Optional.empty());
+        when(countryService.existsByCountryName("Poland")).thenReturn(true);
         Errors errors = getErrors(request);
 
         // when
@@ -85,8 +87,7 @@ public class SwiftCodeValidatorTest {
                 .countryName("France")
                 .build();
 
-        SwiftCode existing = new SwiftCode("DUMMY123XXX", "Bank", "Addr", "PL", "Poland", true, "DUMMY123");
-        when(repository.findByCountryISO2("PL")).thenReturn(List.of(existing));
+        when(countryService.findCountryName("PL")).thenReturn(Optional.of("Poland"));
         Errors errors = getErrors(request);
 
         // when
@@ -192,8 +193,7 @@ public class SwiftCodeValidatorTest {
                 .isHeadquarter(false)
                 .build();
 
-        SwiftCode existing = new SwiftCode("DUMMY123XXX", "Bank", "Addr", "PL", "Poland", true, "DUMMY123");
-        when(repository.findByCountryISO2("PL")).thenReturn(List.of(existing));
+        when(countryService.findCountryName("PL")).thenReturn(Optional.of("Poland"));
         Errors errors = getErrors(request);
 
         // when
@@ -214,8 +214,7 @@ public class SwiftCodeValidatorTest {
                 .isHeadquarter(true)
                 .build();
 
-        SwiftCode existing = new SwiftCode("DUMMY123XXX", "Bank", "Addr", "PL", "Poland", true, "DUMMY123");
-        when(repository.findByCountryISO2("PL")).thenReturn(List.of(existing));
+        when(countryService.findCountryName("PL")).thenReturn(Optional.of("Poland"));
         Errors errors = getErrors(request);
 
         // when
@@ -226,4 +225,53 @@ public class SwiftCodeValidatorTest {
         assertTrue(errors.hasFieldErrors("countryName"));
         assertTrue(errors.hasFieldErrors("isHeadquarter"));
     }
+
+    // validateAll()
+
+    @Test
+    void validateAll_checksRequestsAgainstCountriesOfEarlierRequests() {
+        // given
+        SwiftCodeRequest first = request("NEWBANK1XXX", "ZZ", "ZETLAND");
+        SwiftCodeRequest sameCountry = request("NEWBANK2XXX", "ZZ", "ZETLAND");
+        SwiftCodeRequest otherName = request("NEWBANK3XXX", "ZZ", "ZEDLAND");
+        SwiftCodeRequest takenName = request("NEWBANK4XXX", "ZY", "ZETLAND");
+        SwiftCodeRequest duplicate = request("NEWBANK1XXX", "ZZ", "ZETLAND");
+        when(countryService.findCountryName(anyString())).thenReturn(Optional.empty());
+
+        // when
+        List<Errors> validated = validator.validateAll(List.of(first, sameCountry, otherName, takenName, duplicate));
+
+        // then
+        assertFalse(validated.get(0).hasErrors());
+        assertFalse(validated.get(1).hasErrors());
+        assertTrue(validated.get(2).hasFieldErrors("countryName"));
+        assertTrue(validated.get(3).hasFieldErrors("countryISO2"));
+        assertTrue(validated.get(4).hasFieldErrors("swiftCode"));
+    }
+
+    @Test
+    void validateAll_reportsConstraintViolations_withoutCheckingCountry() {
+        // given
+        SwiftCodeValidator beanValidating = new SwiftCodeValidator(
+                countryService, Validation.buildDefaultValidatorFactory().getValidator());
+        SwiftCodeRequest tooShort = request("SHORT", "PL", "POLAND");
+        when(countryService.findCountryName("PL")).thenReturn(Optional.of("POLAND"));
+
+        // when
+        List<Errors> validated = beanValidating.validateAll(List.of(tooShort, request("COBANK12XXX", "PL", "POLAND")));
+
+        // then
+        assertTrue(validated.get(0).hasFieldErrors("swiftCode"));
+        assertFalse(validated.get(1).hasErrors());
+        verify(countryService, times(1)).findCountryName("PL");
+    }
+
+    private static SwiftCodeRequest request(String swiftCode, String countryISO2, String countryName) {
+        return SwiftCodeRequest.builder()
+                .swiftCode(swiftCode)
+                .bankName("Bank name")
+                .countryISO2(countryISO2)
+                .countryName(countryName)
+                .build();
+    }
 }
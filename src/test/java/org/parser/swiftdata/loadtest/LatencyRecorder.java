@@ -0,0 +1,52 @@
+package org.parser.swiftdata.loadtest;
+
+import java.util.Arrays;
+
+/** Collects latencies of a single client; recorders of all clients are merged once the run is over. */
+class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+
+    private int count;
+
+    private int errors;
+
+    void record(long latencyNanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    int count() {
+        return count;
+    }
+
+    int errors() {
+        return errors;
+    }
+
+    static LatencyRecorder merge(Iterable<LatencyRecorder> recorders) {
+        LatencyRecorder merged = new LatencyRecorder();
+        for (LatencyRecorder recorder : recorders) {
+            for (int i = 0; i < recorder.count; i++) {
+                merged.record(recorder.latencies[i], true);
+            }
+            merged.errors += recorder.errors;
+        }
+        Arrays.sort(merged.latencies, 0, merged.count);
+        return merged;
+    }
+
+    /** Percentile in milliseconds; only valid on a merged (sorted) recorder. */
+    double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * count) - 1;
+        return latencies[Math.clamp(index, 0, count - 1)] / 1_000_000.0;
+    }
+}
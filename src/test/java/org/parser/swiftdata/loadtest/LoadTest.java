@@ -0,0 +1,262 @@
+package org.parser.swiftdata.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.parser.swiftdata.SwiftDataApplication;
+import org.parser.swiftdata.loadtest.SyntheticSwiftDataGenerator.GeneratedDataset;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Load test of the REST API. Generates a synthetic data file, boots the application on an in-memory H2 database with
+ * that file and drives a mix of {@code GET}, {@code POST} and {@code DELETE} requests from many clients, each running
+ * on its own virtual thread. Latency percentiles and throughput are reported per operation after the run.
+ *
+ * <p>Run with {@code mvn -P loadtest test-compile exec:exec -Dloadtest.args="clients=400 duration=60"}. Options
+ * ({@code key=value}):
+ *
+ * <ul>
+ *   <li>{@code rows} (100000), {@code countries} (60), {@code skew} (1.0), {@code hqRatio} (0.3), {@code seed} (42)
+ *       – synthetic data set, see {@link SyntheticSwiftDataGenerator}
+ *   <li>{@code clients} (200) – concurrent clients
+ *   <li>{@code warmup} (10) and {@code duration} (30) – seconds; requests sent during warm-up are not reported
+ *   <li>{@code mix} (get:70,country:15,post:10,delete:5) – relative weights of the operations; {@code reactive_get}
+ *       and {@code reactive_country} call the R2DBC-backed {@code /v1/reactive/swift-codes} endpoints instead
+ * </ul>
+ *
+ * {@code DELETE} only removes codes created by the test, so the data set keeps its shape during the run. The reactive
+ * endpoints always read from the database while the blocking ones are served from the in-memory directory, so compare
+ * them with the same mix, e.g. {@code mix=get:80,country:20} against {@code mix=reactive_get:80,reactive_country:20}.
+ */
+public class LoadTest {
+
+    enum Operation {
+        GET,
+        COUNTRY,
+        POST,
+        DELETE,
+        REACTIVE_GET,
+        REACTIVE_COUNTRY
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int clients = Integer.parseInt(options.getOrDefault("clients", "200"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        EnumMap<Operation, Integer> mix = parseMix(options.getOrDefault("mix", "get:70,country:15,post:10,delete:5"));
+
+        Path dataFile = Files.createTempFile("swift_codes_loadtest", ".csv");
+        GeneratedDataset dataset = new SyntheticSwiftDataGenerator(
+                        Integer.parseInt(options.getOrDefault("rows", "100000")),
+                        Integer.parseInt(options.getOrDefault("countries", "60")),
+                        Double.parseDouble(options.getOrDefault("skew", "1.0")),
+                        Double.parseDouble(options.getOrDefault("hqRatio", "0.3")),
+                        Long.parseLong(options.getOrDefault("seed", "42")))
+                .generate(dataFile);
+        System.out.printf(
+                "Generated %d rows in %d countries: %s%n",
+                dataset.swiftCodes().size(), dataset.countryNames().size(), dataFile);
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(
+                SwiftDataApplication.class,
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.r2dbc.url=r2dbc:h2:mem:///loadtest",
+                "--data.file.path=" + dataFile,
+                "--logging.level.root=WARN",
+                "--logging.level.org.parser.swiftdata.infrastructure.parser=INFO")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            new LoadTest(URI.create("http://localhost:" + port + "/"), dataset, mix).run(clients, warmup, duration);
+        } finally {
+            Files.deleteIfExists(dataFile);
+        }
+    }
+
+    private final URI baseUri;
+
+    private final URI reactiveBaseUri;
+
+    private final GeneratedDataset dataset;
+
+    private final Operation[] operationWheel;
+
+    private final HttpClient httpClient;
+
+    private final Queue<String> createdSwiftCodes = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger createdCounter = new AtomicInteger();
+
+    private final List<String> countryCodes;
+
+    LoadTest(URI serverUri, GeneratedDataset dataset, EnumMap<Operation, Integer> mix) {
+        this.baseUri = serverUri.resolve("/v1/swift-codes/");
+        this.reactiveBaseUri = serverUri.resolve("/v1/reactive/swift-codes/");
+        this.dataset = dataset;
+        this.countryCodes = List.copyOf(dataset.countryNames().keySet());
+        this.operationWheel = mix.entrySet().stream()
+                .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                .toArray(Operation[]::new);
+        this.httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    void run(int clients, Duration warmup, Duration duration) throws InterruptedException {
+        System.out.printf("Warming up with %d clients for %d s%n", clients, warmup.toSeconds());
+        runPhase(clients, warmup);
+        System.out.printf("Measuring with %d clients for %d s%n", clients, duration.toSeconds());
+        long startTime = System.nanoTime();
+        List<EnumMap<Operation, LatencyRecorder>> results = runPhase(clients, duration);
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        report(results, elapsedSeconds);
+    }
+
+    private List<EnumMap<Operation, LatencyRecorder>> runPhase(int clients, Duration phase)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + phase.toNanos();
+        List<Future<EnumMap<Operation, LatencyRecorder>>> futures = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> runClient(deadline)));
+            }
+        }
+        List<EnumMap<Operation, LatencyRecorder>> results = new ArrayList<>(clients);
+        for (Future<EnumMap<Operation, LatencyRecorder>> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                System.err.println("Client failed: " + e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private EnumMap<Operation, LatencyRecorder> runClient(long deadline) {
+        EnumMap<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            Operation operation = operationWheel[random.nextInt(operationWheel.length)];
+            String deleted = operation == Operation.DELETE ? createdSwiftCodes.poll() : null;
+            if (operation == Operation.DELETE && deleted == null) {
+                operation = Operation.GET;
+            }
+
+            HttpRequest request =
+                    switch (operation) {
+                        case GET -> get(baseUri, randomSwiftCode(random));
+                        case COUNTRY -> get(baseUri, "country/" + randomCountry(random));
+                        case REACTIVE_GET -> get(reactiveBaseUri, randomSwiftCode(random));
+                        case REACTIVE_COUNTRY -> get(reactiveBaseUri, "country/" + randomCountry(random));
+                        case POST -> post(random);
+                        case DELETE -> HttpRequest.newBuilder(baseUri.resolve(deleted))
+                                .DELETE()
+                                .build();
+                    };
+
+            long startTime = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() / 100 == 2;
+            } catch (Exception e) {
+                success = false;
+            }
+            recorders.get(operation).record(System.nanoTime() - startTime, success);
+        }
+        return recorders;
+    }
+
+    private String randomSwiftCode(ThreadLocalRandom random) {
+        return dataset.swiftCodes().get(random.nextInt(dataset.swiftCodes().size()));
+    }
+
+    /** Country of a random swift code, so countries are picked as often as they occur in the data set. */
+    private String randomCountry(ThreadLocalRandom random) {
+        return randomSwiftCode(random).substring(4, 6);
+    }
+
+    private static HttpRequest get(URI base, String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).GET().build();
+    }
+
+    private HttpRequest post(ThreadLocalRandom random) {
+        String countryISO2 = countryCodes.get(random.nextInt(countryCodes.size()));
+        // generated bank codes are letters only, so a leading digit keeps created codes unique
+        String counter = Integer.toString(createdCounter.incrementAndGet(), 36).toUpperCase();
+        String swiftCode = "9" + "0".repeat(5 - counter.length()) + counter + countryISO2 + "XXX";
+        String body =
+                """
+                {"swiftCode":"%s","bankName":"LOAD TEST BANK","address":"1 TEST STREET","countryISO2":"%s","countryName":"%s","isHeadquarter":true}"""
+                        .formatted(
+                                swiftCode, countryISO2, dataset.countryNames().get(countryISO2));
+        createdSwiftCodes.add(swiftCode);
+        return HttpRequest.newBuilder(baseUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static void report(List<EnumMap<Operation, LatencyRecorder>> results, double elapsedSeconds) {
+        System.out.printf(
+                "%n%-16s %10s %8s %10s %10s %10s %10s %10s%n",
+                "op", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        List<LatencyRecorder> all = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            LatencyRecorder merged = LatencyRecorder.merge(
+                    results.stream().map(result -> result.get(operation)).toList());
+            all.add(merged);
+            printRow(operation.name(), merged, elapsedSeconds);
+        }
+        printRow("TOTAL", LatencyRecorder.merge(all), elapsedSeconds);
+    }
+
+    private static void printRow(String name, LatencyRecorder recorder, double elapsedSeconds) {
+        System.out.printf(
+                "%-16s %10d %8d %10.0f %10.2f %10.2f %10.2f %10.2f%n",
+                name,
+                recorder.count(),
+                recorder.errors(),
+                recorder.count() / elapsedSeconds,
+                recorder.percentileMillis(50),
+                recorder.percentileMillis(99),
+                recorder.percentileMillis(99.9),
+                recorder.percentileMillis(100));
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private static EnumMap<Operation, Integer> parseMix(String mix) {
+        EnumMap<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
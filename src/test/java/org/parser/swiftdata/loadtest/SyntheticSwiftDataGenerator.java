@@ -0,0 +1,183 @@
+package org.parser.swiftdata.loadtest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Writes a synthetic data file in the format of {@code 2025_SWIFT_CODES.csv}. Banks are spread over the countries
+ * following a Zipf distribution ({@code countrySkew} 0 is uniform, 1 makes the first country twice as large as the
+ * second), and the number of branches per bank is drawn so that headquarters make up {@code headquarterRatio} of the
+ * rows. The output only depends on the seed.
+ */
+public class SyntheticSwiftDataGenerator {
+
+    static final String HEADER = "COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE";
+
+    private static final String[][] COUNTRIES = {
+        {"US", "UNITED STATES", "America/New_York"},
+        {"DE", "GERMANY", "Europe/Berlin"},
+        {"CN", "CHINA", "Asia/Shanghai"},
+        {"GB", "UNITED KINGDOM", "Europe/London"},
+        {"FR", "FRANCE", "Europe/Paris"},
+        {"JP", "JAPAN", "Asia/Tokyo"},
+        {"IT", "ITALY", "Europe/Rome"},
+        {"ES", "SPAIN", "Europe/Madrid"},
+        {"PL", "POLAND", "Europe/Warsaw"},
+        {"CH", "SWITZERLAND", "Europe/Zurich"},
+        {"NL", "NETHERLANDS", "Europe/Amsterdam"},
+        {"BR", "BRAZIL", "America/Sao_Paulo"},
+        {"IN", "INDIA", "Asia/Kolkata"},
+        {"CA", "CANADA", "America/Toronto"},
+        {"AU", "AUSTRALIA", "Australia/Sydney"},
+        {"SE", "SWEDEN", "Europe/Stockholm"},
+        {"AT", "AUSTRIA", "Europe/Vienna"},
+        {"CZ", "CZECHIA", "Europe/Prague"},
+        {"LT", "LITHUANIA", "Europe/Vilnius"},
+        {"MT", "MALTA", "Europe/Malta"}
+    };
+
+    /** First letters of user-assigned ISO2 codes, so synthetic countries never clash with real ones. */
+    private static final String SYNTHETIC_ISO2_PREFIXES = "QXZ";
+
+    private static final String[] TOWNS = {"CAPITAL", "PORT CITY", "RIVERSIDE", "OLD TOWN", "NEW HAVEN", "HILLTOP"};
+
+    private final int rows;
+
+    private final int countries;
+
+    private final double countrySkew;
+
+    private final double headquarterRatio;
+
+    private final long seed;
+
+    public SyntheticSwiftDataGenerator(
+            int rows, int countries, double countrySkew, double headquarterRatio, long seed) {
+        if (headquarterRatio <= 0 || headquarterRatio > 1) {
+            throw new IllegalArgumentException("Headquarter ratio must be in (0, 1]: " + headquarterRatio);
+        }
+        if (countries < 1 || countries > COUNTRIES.length + SYNTHETIC_ISO2_PREFIXES.length() * 26) {
+            throw new IllegalArgumentException("Unsupported number of countries: " + countries);
+        }
+        this.rows = rows;
+        this.countries = countries;
+        this.countrySkew = countrySkew;
+        this.headquarterRatio = headquarterRatio;
+        this.seed = seed;
+    }
+
+    public GeneratedDataset generate(Path file) throws IOException {
+        Random random = new Random(seed);
+        List<Country> countryList = countries();
+        double[] cumulativeWeights = cumulativeZipfWeights(countryList.size());
+        int[] banksPerCountry = new int[countryList.size()];
+        double branchesPerBank = (1 - headquarterRatio) / headquarterRatio;
+
+        List<String> swiftCodes = new ArrayList<>(rows);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.write('\n');
+            while (swiftCodes.size() < rows) {
+                int countryIndex = pick(cumulativeWeights, random.nextDouble());
+                Country country = countryList.get(countryIndex);
+                String headquarterCode = bankCode(banksPerCountry[countryIndex]++, country.iso2(), random);
+                String bankName = "SYNTHETIC BANK " + headquarterCode;
+
+                writeRow(writer, country, headquarterCode + "XXX", bankName, random);
+                swiftCodes.add(headquarterCode + "XXX");
+
+                int branches = Math.min(999, geometric(branchesPerBank, random));
+                for (int branch = 1; branch <= branches && swiftCodes.size() < rows; branch++) {
+                    String swiftCode = headquarterCode + String.format("%03d", branch);
+                    writeRow(writer, country, swiftCode, bankName, random);
+                    swiftCodes.add(swiftCode);
+                }
+            }
+        }
+
+        Map<String, String> countryNames = new LinkedHashMap<>();
+        countryList.forEach(country -> countryNames.put(country.iso2(), country.name()));
+        return new GeneratedDataset(file, swiftCodes, countryNames);
+    }
+
+    /** Bank code as in real BICs: four letters for the bank, the country and two letters for the location. */
+    private static String bankCode(int bankIndex, String countryISO2, Random random) {
+        char[] bank = new char[4];
+        for (int i = 3; i >= 0; i--) {
+            bank[i] = (char) ('A' + bankIndex % 26);
+            bankIndex /= 26;
+        }
+        return new String(bank) + countryISO2 + (char) ('A' + random.nextInt(26)) + (char) ('A' + random.nextInt(26));
+    }
+
+    private static void writeRow(
+            BufferedWriter writer, Country country, String swiftCode, String bankName, Random random)
+            throws IOException {
+        String town = TOWNS[random.nextInt(TOWNS.length)];
+        String address = (1 + random.nextInt(200)) + " MAIN STREET " + town + ", " + town + ", "
+                + (10000 + random.nextInt(90000));
+        writer.write(String.join(
+                ",",
+                country.iso2(),
+                swiftCode,
+                "BIC11",
+                bankName,
+                '"' + address + '"',
+                town,
+                country.name(),
+                country.timeZone()));
+        writer.write('\n');
+    }
+
+    private List<Country> countries() {
+        List<Country> countryList = new ArrayList<>(countries);
+        for (int i = 0; i < countries; i++) {
+            if (i < COUNTRIES.length) {
+                countryList.add(new Country(COUNTRIES[i][0], COUNTRIES[i][1], COUNTRIES[i][2]));
+            } else {
+                int synthetic = i - COUNTRIES.length;
+                String iso2 = "" + SYNTHETIC_ISO2_PREFIXES.charAt(synthetic / 26) + (char) ('A' + synthetic % 26);
+                countryList.add(new Country(iso2, "SYNTHETIC COUNTRY " + iso2, "UTC"));
+            }
+        }
+        return countryList;
+    }
+
+    private double[] cumulativeZipfWeights(int size) {
+        double[] weights = new double[size];
+        double total = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            total += 1 / Math.pow(rank, countrySkew);
+            weights[rank - 1] = total;
+        }
+        for (int i = 0; i < size; i++) {
+            weights[i] /= total;
+        }
+        return weights;
+    }
+
+    private static int pick(double[] cumulativeWeights, double value) {
+        int index = Arrays.binarySearch(cumulativeWeights, value);
+        return Math.min(cumulativeWeights.length - 1, index < 0 ? -index - 1 : index);
+    }
+
+    private static int geometric(double mean, Random random) {
+        if (mean <= 0) {
+            return 0;
+        }
+        double p = 1 / (mean + 1);
+        return (int) Math.floor(Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+    }
+
+    private record Country(String iso2, String name, String timeZone) {}
+
+    /**
+     * @param swiftCodes every generated code, in file order
+     * @param countryNames country names by ISO2 code
+     */
+    public record GeneratedDataset(Path file, List<String> swiftCodes, Map<String, String> countryNames) {}
+}
@@ -0,0 +1,59 @@
+package org.parser.swiftdata.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.parser.swiftdata.loadtest.SyntheticSwiftDataGenerator.GeneratedDataset;
+
+public class SyntheticSwiftDataGeneratorTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void generate_writesRequestedRowsInDataFileFormat() throws Exception {
+        // given
+        SyntheticSwiftDataGenerator generator = new SyntheticSwiftDataGenerator(5000, 30, 1.0, 0.25, 7);
+
+        // when
+        GeneratedDataset dataset = generator.generate(tempDir.resolve("codes.csv"));
+
+        // then
+        List<String> lines = Files.readAllLines(dataset.file());
+        assertEquals(SyntheticSwiftDataGenerator.HEADER, lines.getFirst());
+        assertEquals(5000, lines.size() - 1);
+        assertEquals(5000, new HashSet<>(dataset.swiftCodes()).size());
+        assertTrue(dataset.swiftCodes().stream().allMatch(swiftCode -> swiftCode.length() == 11));
+        assertEquals(30, dataset.countryNames().size());
+
+        long headquarters = dataset.swiftCodes().stream()
+                .filter(code -> code.endsWith("XXX"))
+                .count();
+        assertEquals(0.25, headquarters / 5000.0, 0.05);
+
+        Map<String, Long> rowsByCountry = dataset.swiftCodes().stream()
+                .collect(Collectors.groupingBy(code -> code.substring(4, 6), Collectors.counting()));
+        assertTrue(rowsByCountry.get("US") > rowsByCountry.get("PL"));
+        assertTrue(dataset.countryNames().keySet().containsAll(rowsByCountry.keySet()));
+    }
+
+    @Test
+    void generate_isDeterministicForSeed() throws Exception {
+        // given
+        SyntheticSwiftDataGenerator generator = new SyntheticSwiftDataGenerator(1000, 5, 0.5, 0.5, 1);
+
+        // when
+        GeneratedDataset first = generator.generate(tempDir.resolve("first.csv"));
+        GeneratedDataset second = generator.generate(tempDir.resolve("second.csv"));
+
+        // then
+        assertEquals(Files.readString(first.file()), Files.readString(second.file()));
+    }
+}